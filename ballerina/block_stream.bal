@@ -23,23 +23,33 @@ public type Block readonly & byte[];
 public class BlockStream {
     private ReadableByteChannel readableByteChannel;
     private int blockSize;
+    private BlockReadMode mode;
+    private boolean readAhead;
     private boolean isClosed = false;
 
     # Initialize a `BlockStream` using an `io:ReadableByteChannel`.
     #
     # + readableByteChannel - The `io:ReadableByteChannel` that this block stream is referred to
     # + blockSize - The size of a block as an integer
-    public isolated function init(ReadableByteChannel readableByteChannel, int blockSize) {
+    # + mode - The way the blocks are filled
+    # + readAhead - Whether the next block is read while the current block is being processed
+    public isolated function init(ReadableByteChannel readableByteChannel, int blockSize,
+            BlockReadMode mode = PARTIAL, boolean readAhead = false) {
         self.readableByteChannel = readableByteChannel;
         self.blockSize = blockSize;
+        self.mode = mode;
+        self.readAhead = readAhead;
     }
 
     # The next function reads and returns the next block of the related stream.
     #
     # + return - An `io:Block` when a block is avaliable in the stream or returns `()` when the stream reaches the end
     public isolated function next() returns record {|Block value;|}|Error? {
-        byte[]|Error block = readBlock(self.readableByteChannel, self.blockSize);
-        if block is byte[] {
+        byte[]|Error block = readBlock(self.readableByteChannel, self.blockSize, self.mode, self.readAhead);
+        if block is Block {
+            record {|Block value;|} value = {value: block};
+            return value;
+        } else if block is byte[] {
             record {|Block value;|} value = {value: <Block>block.cloneReadOnly()};
             return value;
         } else if block is EofError {
@@ -65,7 +75,8 @@ public class BlockStream {
     }
 }
 
-isolated function readBlock(ReadableByteChannel readableByteChannel, int blockSize) returns byte[]|Error = @java:Method {
+isolated function readBlock(ReadableByteChannel readableByteChannel, int blockSize, BlockReadMode mode = PARTIAL,
+        boolean readAhead = false) returns byte[]|Error = @java:Method {
     name: "readBlock",
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
@@ -27,10 +27,10 @@ isolated function channelReadBytes(ReadableChannel readableChannel) returns read
     }
 }
 
-isolated function channelReadBlocksAsStream(ReadableChannel readableChannel, int blockSize = 4096) returns stream<
-Block, Error?>|Error {
+isolated function channelReadBlocksAsStream(ReadableChannel readableChannel, int blockSize = 4096,
+        BlockReadMode mode = PARTIAL, boolean readAhead = false) returns stream<Block, Error?>|Error {
     if readableChannel is ReadableByteChannel {
-        return readableChannel.blockStream(blockSize);
+        return readableChannel.blockStream(blockSize, mode, readAhead);
     } else {
         TypeMismatchError e = error TypeMismatchError("Expected ReadableByteChannel but found a " + 'value:toString(typeof
         readableChannel));
@@ -14,26 +14,34 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
+
 # Read the entire file content as a byte array.
 # ```ballerina
 # byte[]|io:Error content = io:fileReadBytes("./resources/myfile.txt");
+# byte[]|io:Error largeContent = io:fileReadBytes("./resources/myLargeFile.bin", io:MEMORY_MAPPED);
 # ```
 # + path - The path of the file
+# + mode - The way the content of the file is read
 # + return - A read-only byte array or an `io:Error`
-public isolated function fileReadBytes(string path) returns readonly & byte[]|Error {
-    return channelReadBytes(check openReadableFile(path));
+public isolated function fileReadBytes(string path, FileReadMode mode = STANDARD) returns readonly & byte[]|Error {
+    return channelReadBytes(check openReadableFile(path, mode));
 }
 
 # Read the entire file content as a stream of blocks.
 # ```ballerina
 # stream<io:Block, io:Error?>|io:Error content = io:fileReadBlocksAsStream("./resources/myfile.txt", 1000);
+# stream<io:Block, io:Error?>|io:Error fullBlocks = io:fileReadBlocksAsStream("./resources/myfile.txt", 1000,
+#         io:FILL, true);
 # ```
 # + path - The path of the file
 # + blockSize - An optional size of the byte block. The default size is 4KB
+# + mode - The way the blocks are filled
+# + readAhead - Whether the next block is read while the current block is being processed
 # + return - A byte block stream or an `io:Error`
-public isolated function fileReadBlocksAsStream(string path, int blockSize = 4096) returns stream<Block, Error?>|
-Error {
-    return channelReadBlocksAsStream(check openReadableFile(path), blockSize);
+public isolated function fileReadBlocksAsStream(string path, int blockSize = 4096, BlockReadMode mode = PARTIAL,
+        boolean readAhead = false) returns stream<Block, Error?>|Error {
+    return channelReadBlocksAsStream(check openReadableFile(path), blockSize, mode, readAhead);
 }
 
 # Write a set of bytes to a file.
@@ -59,8 +67,85 @@ Error? {
 # + path - The path of the file
 # + byteStream - Byte stream to write
 # + option - To indicate whether to overwrite or append the given content
+# + flushThreshold - The number of bytes, which are buffered before they are written to the file, hence small blocks
+#                    are written in batches. Each block is written as it is when this is not a positive value and at
+#                    most 1048576 bytes are buffered, a larger value is reduced to it
 # + return - An `io:Error` or else `()`
 public isolated function fileWriteBlocksFromStream(string path, stream<byte[], Error?> byteStream,
-                                                    FileWriteOption option = OVERWRITE) returns Error? {
-    return channelWriteBlocksFromStream(check openWritableFile(path, option), byteStream);
+                                                    FileWriteOption option = OVERWRITE, int flushThreshold = 65536)
+                                                    returns Error? {
+    return channelWriteBlocksFromStream(check openWritableFile(path, option, flushThreshold), byteStream);
+}
+
+# Copy the content of a file to another file.
+# The content is transferred by the operating system where possible, hence it is not read into the memory of the
+# program and files larger than 2 GB are supported.
+# ```ballerina
+# int|io:Error copied = io:fileCopy("./resources/myfile.txt", "./resources/copy.txt");
+# ```
+# + sourcePath - The path of the file to be copied
+# + destinationPath - The path of the destination file
+# + option - To indicate whether to overwrite or append the content to the destination file
+# + return - The number of bytes copied or else an `io:Error`
+public isolated function fileCopy(string sourcePath, string destinationPath, FileWriteOption option = OVERWRITE)
+returns int|Error = @java:Method {
+    name: "fileCopy",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+# Compute the checksum of a file.
+# The file is read through a large buffer outside the heap of the program, hence the content is not copied in order
+# to compute the checksum. The checksum could also be computed while a file is read or written by opening it with
+# a checksum algorithm.
+# ```ballerina
+# byte[]|io:Error checksum = io:fileChecksum("./resources/myLargeFile.bin");
+# byte[]|io:Error crc = io:fileChecksum("./resources/myLargeFile.bin", io:CRC32C);
+# ```
+# + path - The path of the file
+# + algorithm - The algorithm of the checksum
+# + return - The checksum or else an `io:Error`
+public isolated function fileChecksum(string path, ChecksumAlgorithm algorithm = SHA256)
+returns readonly & byte[]|Error = @java:Method {
+    name: "fileChecksum",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+# Read the entire file content as a stream of blocks, which are read concurrently through positional reads of
+# disjoint ranges of the file. The blocks are handed over in the order of the file.
+# ```ballerina
+# stream<io:Block, io:Error?>|io:Error content = io:fileReadBlocksParallel("./resources/myLargeFile.bin",
+#         1048576, 8);
+# ```
+# + path - The path of the file
+# + blockSize - The size of a block. The default size is 1 MB
+# + parallelism - Maximum number of blocks, which are read concurrently
+# + maxBytesInFlight - Maximum number of bytes of the blocks, which are read but not consumed yet. Reading pauses
+#                      once this is reached, while at least one block is read ahead
+# + return - A byte block stream or an `io:Error`
+public isolated function fileReadBlocksParallel(string path, int blockSize = 1048576, int parallelism = 4,
+        int maxBytesInFlight = 67108864) returns stream<Block, Error?>|Error {
+    ParallelBlockStream blockStream = new;
+    check openParallelBlockStream(blockStream, path, blockSize, parallelism, maxBytesInFlight, true);
+    return new stream<Block, Error?>(blockStream);
+}
+
+# Read the entire file content as a stream of blocks, which are read concurrently through positional reads of
+# disjoint ranges of the file. The blocks are handed over in the order they are read along with their positions,
+# which suits consumers that do not depend on the order, such as computing the checksums of blocks or uploading
+# them.
+# ```ballerina
+# stream<io:FileBlock, io:Error?>|io:Error content = io:fileReadBlocksParallelUnordered(
+#         "./resources/myLargeFile.bin", 1048576, 8);
+# ```
+# + path - The path of the file
+# + blockSize - The size of a block. The default size is 1 MB
+# + parallelism - Maximum number of blocks, which are read concurrently
+# + maxBytesInFlight - Maximum number of bytes of the blocks, which are read but not consumed yet. Reading pauses
+#                      once this is reached, while at least one block is read ahead
+# + return - A stream of the blocks along with their positions or an `io:Error`
+public isolated function fileReadBlocksParallelUnordered(string path, int blockSize = 1048576, int parallelism = 4,
+        int maxBytesInFlight = 67108864) returns stream<FileBlock, Error?>|Error {
+    UnorderedParallelBlockStream blockStream = new;
+    check openParallelBlockStream(blockStream, path, blockSize, parallelism, maxBytesInFlight, false);
+    return new stream<FileBlock, Error?>(blockStream);
 }
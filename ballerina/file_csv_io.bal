@@ -17,15 +17,27 @@ import ballerina/jballerina.java;
 
 # Read file content as a CSV.
 # When the expected data type is record[], the first entry of the csv file should contain matching headers.
+# Large files can be read concurrently by providing a `parallelism` greater than one. The file is then split into
+# ranges at record boundaries, which are parsed concurrently and the records are returned in the order of the file.
+# When `columns` are provided, only those columns of the file are read. The columns are identified by the first entry
+# of the csv file and the rest of the columns are skipped without being materialized.
 # ```ballerina
 # string[][]|io:Error content = io:fileReadCsv("./resources/myfile.csv");
 # record{}[]|io:Error content = io:fileReadCsv("./resources/myfile.csv");
+# string[][]|io:Error largeContent = io:fileReadCsv("./resources/myLargeFile.csv", parallelism = 4);
+# string[][]|io:Error names = io:fileReadCsv("./resources/myfile.csv", columns = ["id", "name"]);
+# string[][]|io:Error mappedContent = io:fileReadCsv("./resources/myLargeFile.csv", mode = io:MEMORY_MAPPED);
 # ```
 # + path - The CSV file path
 # + skipHeaders - Number of headers, which should be skipped prior to reading records
 # + returnType - The type of the return value (string[] or a Ballerina record)
+# + parallelism - Maximum number of ranges of the file, which are read concurrently
+# + columns - Names of the columns, which should be read. All the columns are read when this is `()`
+# + mode - The way the content of the file is read
 # + return - The entire CSV content in the channel as an array of string arrays, array of Ballerina records or an `io:Error`
-public isolated function fileReadCsv(string path, int skipHeaders = 0, typedesc<string[]|map<anydata>> returnType = <>) returns returnType[]|Error = @java:Method {
+public isolated function fileReadCsv(string path, int skipHeaders = 0, typedesc<string[]|map<anydata>> returnType = <>,
+        int parallelism = 1, string[]? columns = (), FileReadMode mode = STANDARD) returns returnType[]|Error =
+@java:Method {
     name: "fileReadCsv",
     'class: "io.ballerina.stdlib.io.nativeimpl.CsvChannelUtils"
 } external;
@@ -33,18 +45,52 @@ public isolated function fileReadCsv(string path, int skipHeaders = 0, typedesc<
 # Read file content as a CSV.
 # When the expected data type is stream<record, io:Error?>,
 # the first entry of the csv file should contain matching headers.
+# When `columns` are provided, only those columns of the file are read.
+# When `filters` are provided, only the records which satisfy all of them are returned. The filters are evaluated
+# before the records are converted, hence the records, which are not selected are skipped at a low cost.
+# The columns of the filters are identified by the first entry of the csv file, which is not filtered.
 # ```ballerina
 # stream<string[]|io:Error content = io:fileReadCsvAsStream("./resources/myfile.csv");
 # stream<record{}, io:Error?>|io:Error content = io:fileReadCsvAsStream("./resources/myfile.csv");
+# stream<string[], io:Error?>|io:Error names = io:fileReadCsvAsStream("./resources/myfile.csv", columns = ["id", "name"]);
+# stream<record{}, io:Error?>|io:Error selected = io:fileReadCsvAsStream("./resources/myfile.csv",
+#     filters = [{column: "status", value: "OK"}, {column: "duration", max: 100.0}]);
+# stream<string[], io:Error?>|io:Error compressed = io:fileReadCsvAsStream("./resources/myfile.csv.gz",
+#     compression = io:AUTO);
 # ```
 # + path - The CSV file path
 # + returnType - The type of the return value (string[] or a Ballerina record)
+# + columns - Names of the columns, which should be read. All the columns are read when this is `()`
+# + filters - Conditions, which the records should satisfy. All the records are read when this is `()`
+# + compression - The compression format of the file. The content is decompressed as the records are read
 # + return - The entire CSV content in the channel a stream of string arrays, Ballerina records or an `io:Error`
-public isolated function fileReadCsvAsStream(string path, typedesc<string[]|map<anydata>> returnType = <>) returns stream<returnType, Error?>|Error = @java:Method {
+public isolated function fileReadCsvAsStream(string path, typedesc<string[]|map<anydata>> returnType = <>,
+        string[]? columns = (), CsvFilter[]? filters = (), Compression compression = NONE)
+        returns stream<returnType, Error?>|Error = @java:Method {
     name: "createCsvAsStream",
     'class: "io.ballerina.stdlib.io.nativeimpl.CsvChannelUtils"
 } external;
 
+# Reads a range of records of a CSV file without reading the preceding records.
+# The records are located through an index, which is stored next to the file (e.g., `myfile.csv.records.idx`).
+# The index is built on the first read and is updated when the file is modified.
+# When the expected data type is record, the first entry of the csv file should contain matching headers and the
+# rows are counted from the entry, which follows the headers.
+# ```ballerina
+# string[][]|io:Error content = io:fileReadCsvRange("./resources/myfile.csv", 5000000, 1000);
+# record{}[]|io:Error lastRecords = io:fileReadCsvRange("./resources/myfile.csv", -10, 10);
+# ```
+# + path - The CSV file path
+# + fromRow - Index of the first row, which should be read. A negative value is counted from the end of the file
+# + count - Maximum number of rows, which should be read
+# + returnType - The type of the return value (string[] or a Ballerina record)
+# + return - The rows of the range as an array of string arrays, array of Ballerina records or an `io:Error`
+public isolated function fileReadCsvRange(string path, int fromRow, int count,
+        typedesc<string[]|map<anydata>> returnType = <>) returns returnType[]|Error = @java:Method {
+    name: "fileReadCsvRange",
+    'class: "io.ballerina.stdlib.io.nativeimpl.RecordIndexUtils"
+} external;
+
 # Write CSV content to a file.
 # When the input is a record[] type in `OVERWRITE`,  headers will be written to the CSV file by default.
 # For `APPEND`, order of the existing csv file is inferred using the headers and used as the order.
@@ -0,0 +1,89 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Writes records to a file in a compact binary format, which is read back through `io:fileReadRecordsAsStream`.
+# The names and the types of the fields are written once in the header of the file and each record is written as
+# the values of its fields. The fields should be of the `int`, `float`, `decimal`, `string` or `boolean` types or
+# their nillable types. The file is overwritten if it exists.
+# ```ballerina
+# io:Error? result = io:fileWriteRecords("./resources/employees.bin", employees);
+# ```
+# + path - The path of the file
+# + records - The records, which should be written
+# + return - `()` when the records are written or else an `io:Error`
+public isolated function fileWriteRecords(string path, record {}[] records) returns Error? = @java:Method {
+    name: "fileWriteRecords",
+    'class: "io.ballerina.stdlib.io.nativeimpl.BinaryRecordUtils"
+} external;
+
+# Reads the records of a file, which is written through `io:fileWriteRecords`, as a stream.
+# The fields are mapped to the fields of the record type by their names, and the fields of the file, which are not
+# in the record type, are skipped.
+# ```ballerina
+# stream<Employee, io:Error?>|io:Error employees = io:fileReadRecordsAsStream("./resources/employees.bin");
+# ```
+# + path - The path of the file
+# + returnType - The type of the records
+# + return - The records of the file as a stream or else an `io:Error`
+public isolated function fileReadRecordsAsStream(string path, typedesc<record {}> returnType = <>)
+        returns stream<returnType, Error?>|Error = @java:Method {
+    name: "createRecordsAsStream",
+    'class: "io.ballerina.stdlib.io.nativeimpl.BinaryRecordUtils"
+} external;
+
+# The iterator for the stream returned in `io:fileReadRecordsAsStream` function.
+public class BinaryRecordIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|anydata value;|}|error? {
+        if self.isClosed {
+            return closedStreamInvocationError();
+        }
+        record {}|Error result = nextBinaryRecord(self);
+        if result is record {} {
+            return {value: result};
+        } else if result is EofError {
+            self.isClosed = true;
+            check closeBinaryRecords(self);
+            return;
+        } else {
+            return result;
+        }
+    }
+
+    public isolated function close() returns Error? {
+        if !self.isClosed {
+            var closeResult = closeBinaryRecords(self);
+            if closeResult is () {
+                self.isClosed = true;
+            }
+            return closeResult;
+        }
+        return;
+    }
+}
+
+isolated function nextBinaryRecord(BinaryRecordIterator iterator) returns record {}|Error = @java:Method {
+    name: "streamNext",
+    'class: "io.ballerina.stdlib.io.nativeimpl.BinaryRecordUtils"
+} external;
+
+isolated function closeBinaryRecords(BinaryRecordIterator iterator) returns Error? = @java:Method {
+    name: "closeStream",
+    'class: "io.ballerina.stdlib.io.nativeimpl.BinaryRecordUtils"
+} external;
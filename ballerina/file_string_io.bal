@@ -14,6 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
+
 # Reads the entire file content as a `string`.
 # The resulting string output does not contain the terminal carriage (e.g., `\r` or `\n`).
 # ```ballerina
@@ -47,6 +49,41 @@ public isolated function fileReadLinesAsStream(string path) returns stream<strin
     return channelReadLinesAsStream(check openReadableFile(path));
 }
 
+# Reads a range of lines of a file without reading the preceding lines.
+# The lines are located through an index, which is stored next to the file (e.g., `myfile.txt.lines.idx`). The index
+# is built on the first read and is updated when the file is modified. Lines are expected to end with `\n` or `\r\n`.
+# ```ballerina
+# string[]|io:Error content = io:fileReadLinesRange("./resources/myfile.txt", 5000000, 1000);
+# string[]|io:Error lastLines = io:fileReadLinesRange("./resources/myfile.log", -10, 10);
+# ```
+# + path - The path of the file
+# + fromLine - Index of the first line, which should be read. A negative value is counted from the end of the file
+# + count - Maximum number of lines, which should be read
+# + return - The lines of the range or an `io:Error`
+public isolated function fileReadLinesRange(string path, int fromLine, int count) returns string[]|Error =
+@java:Method {
+    name: "fileReadLinesRange",
+    'class: "io.ballerina.stdlib.io.nativeimpl.RecordIndexUtils"
+} external;
+
+# Builds the index of a file, which is used to read ranges of records without reading the preceding records.
+# The index keeps the position of every `stride`th record and it is stored next to the file. Reading a range builds
+# the index when it does not exist, hence this is only required to build it in advance or with a different `stride`.
+# ```ballerina
+# io:Error? result = io:fileCreateIndex("./resources/myfile.csv", parallelism = 4);
+# io:Error? result = io:fileCreateIndex("./resources/myfile.log", io:LINES);
+# ```
+# + path - The path of the file
+# + indexType - The type of the records, which are indexed
+# + stride - Number of records between two records, of which the positions are kept
+# + parallelism - Maximum number of ranges of the file, which are indexed concurrently
+# + return - `()` when the index was built successfully or an `io:Error`
+public isolated function fileCreateIndex(string path, IndexType indexType = CSV_ROWS, int stride = 1024,
+        int parallelism = 1) returns Error? = @java:Method {
+    name: "createIndex",
+    'class: "io.ballerina.stdlib.io.nativeimpl.RecordIndexUtils"
+} external;
+
 # Reads file content as a JSON.
 # ```ballerina
 # json|io:Error content = io:fileReadJson("./resources/myfile.json");
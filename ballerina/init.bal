@@ -16,10 +16,19 @@
 
 import ballerina/jballerina.java;
 
+# Maximum number of blocking I/O operations, which run concurrently while the strands, which invoke them yield.
+# The operations run on the invoking strands when this is not a positive value.
+configurable int maxConcurrentFileOperations = 64;
+
 function init() {
     setModule();
+    setMaxConcurrentFileOperations(maxConcurrentFileOperations);
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.io.nativeimpl.ModuleUtils"
 } external;
+
+function setMaxConcurrentFileOperations(int maxConcurrentOperations) = @java:Method {
+    'class: "io.ballerina.stdlib.io.nativeimpl.ModuleUtils"
+} external;
@@ -18,11 +18,21 @@ import ballerina/jballerina.java;
 # Retrieves a `ReadableByteChannel` from a given file path.
 # ```ballerina
 # io:ReadableByteChannel readableFieldResult = check io:openReadableFile("./files/sample.txt");
+# io:ReadableByteChannel mappedResult = check io:openReadableFile("./files/large.bin", io:MEMORY_MAPPED);
+# io:ReadableByteChannel logResult = check io:openReadableFile("./files/app.log.gz", compression = io:GZIP);
+# io:ReadableByteChannel verifiedResult = check io:openReadableFile("./files/sample.txt", checksum = io:SHA256);
 # ```
 #
 # + path - Relative/absolute path string to locate the file
+# + mode - The way the content of the file is read
+# + compression - The compression format of the file. The content is decompressed as it is read, hence the channel
+#                 provides the decompressed content
+# + checksum - The algorithm of the checksum, which is computed as the file is read. The checksum covers the bytes
+#              of the file, i.e. the compressed content, and is provided by `io:ReadableByteChannel.digest()`
 # + return - The `io:ReadableByteChannel` related to the given file or else an `io:Error` if there is an error while opening
-public isolated function openReadableFile(string path) returns ReadableByteChannel|Error = @java:Method {
+public isolated function openReadableFile(string path, FileReadMode mode = STANDARD, Compression compression = NONE,
+        ChecksumAlgorithm? checksum = ()) returns ReadableByteChannel|Error =
+@java:Method {
     name: "openReadableFile",
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
@@ -30,13 +40,26 @@ public isolated function openReadableFile(string path) returns ReadableByteChann
 # Retrieves a `WritableByteChannel` from a given file path.
 # ```ballerina
 # io:WritableByteChannel writableFileResult = check io:openWritableFile("./files/sampleResponse.txt");
+# io:WritableByteChannel bufferedFileResult = check io:openWritableFile("./files/sampleResponse.txt",
+#         flushThreshold = 65536);
+# io:WritableByteChannel compressedFileResult = check io:openWritableFile("./files/sampleResponse.txt.gz",
+#         compression = io:GZIP);
 # ```
 #
 # + path - Relative/absolute path string to locate the file
 # + option - To indicate whether to overwrite or append the given content
+# + flushThreshold - The number of bytes, which are buffered before they are written to the file. The buffered bytes
+#                    are also written when the channel is flushed or closed. Writes are not buffered when this is not
+#                    a positive value and at most 1048576 bytes are buffered, a larger value is reduced to it
+# + compression - The compression format of the file. The content is compressed as it is written and the compressed
+#                 content is complete once the channel is closed. The compressed content is always buffered, hence
+#                 the `flushThreshold` is not considered. `io:AUTO` is not supported and the content could not be
+#                 appended in the `io:DEFLATE` format
+# + checksum - The algorithm of the checksum, which is computed as the file is written. The checksum covers the bytes
+#              written to the file, i.e. the compressed content, and is provided by `io:WritableByteChannel.digest()`
 # + return - The `io:WritableByteChannel` related to the given file or else an `io:Error` if any error occurred
-public isolated function openWritableFile(string path, FileWriteOption option = OVERWRITE) returns
-WritableByteChannel|Error = @java:Method {
+public isolated function openWritableFile(string path, FileWriteOption option = OVERWRITE, int flushThreshold = 0,
+        Compression compression = NONE, ChecksumAlgorithm? checksum = ()) returns WritableByteChannel|Error = @java:Method {
     name: "openWritableFile",
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
@@ -56,17 +79,20 @@ public isolated function createReadableChannel(byte[] content) returns ReadableB
 # Retrieves a readable CSV channel from a given file path.
 # ```ballerina
 # io:ReadableCSVChannel rCsvChannel = check io:openReadableCsvFile(srcFileName);
+# io:ReadableCSVChannel compressedCsvChannel = check io:openReadableCsvFile("./files/sample.csv.gz",
+#         compression = io:AUTO);
 # ```
 #
 # + path - File path, which describes the location of the CSV
 # + fieldSeparator - CSV record separator (i.e., comma or tab)
 # + charset - Representation of the encoding characters in the file
 # + skipHeaders - Number of headers, which should be skipped
+# + compression - The compression format of the file
 # + return - The `io:ReadableCSVChannel`, which could be used to iterate through the CSV records or else an `io:Error` if any error occurred
 public isolated function openReadableCsvFile(string path, Separator fieldSeparator = ",",
-                                            string charset = "UTF-8", int skipHeaders = 0) returns
-ReadableCSVChannel|Error {
-    ReadableByteChannel byteChannel = check openReadableFile(path);
+                                            string charset = "UTF-8", int skipHeaders = 0,
+                                            Compression compression = NONE) returns ReadableCSVChannel|Error {
+    ReadableByteChannel byteChannel = check openReadableFile(path, compression = compression);
     ReadableCharacterChannel charChannel = new (byteChannel, charset);
     return new ReadableCSVChannel(charChannel, fieldSeparator, skipHeaders);
 }
@@ -23,6 +23,68 @@ public enum FileWriteOption {
     APPEND
 }
 
+# Represents the way the content of a file is read.
+#
+# + STANDARD - Read through a system call per read
+# + MEMORY_MAPPED - Read through a memory mapping of the file, which suits read mostly workloads on large local files.
+#                   The file should not be truncated while it is being read
+public enum FileReadMode {
+    STANDARD,
+    MEMORY_MAPPED
+}
+
+# Represents the compression format of a file.
+#
+# + NONE - The content of the file is not compressed
+# + AUTO - The format is detected through the magic bytes at the beginning of the file when it is read. A file, which
+#          does not begin with the magic bytes of a supported format is read as it is. The `DEFLATE` format is detected
+#          only when the content is compressed with the default or the best compression level, content compressed with
+#          other levels should be read by specifying `DEFLATE`
+# + GZIP - The GZIP format, which is used by `.gz` files
+# + DEFLATE - The ZLIB format, which holds content compressed through the deflate algorithm
+public enum Compression {
+    NONE,
+    AUTO,
+    GZIP,
+    DEFLATE
+}
+
+# Represents the algorithm of a checksum. The checksums of the CRC algorithms are given as four bytes in the
+# big-endian order.
+#
+# + CRC32 - The CRC-32 checksum
+# + CRC32C - The CRC-32C (Castagnoli) checksum, which is computed through a hardware instruction on most processors
+# + MD5 - The MD5 message digest
+# + SHA1 - The SHA-1 message digest
+# + SHA256 - The SHA-256 message digest
+# + SHA512 - The SHA-512 message digest
+public enum ChecksumAlgorithm {
+    CRC32,
+    CRC32C,
+    MD5,
+    SHA1,
+    SHA256,
+    SHA512
+}
+
+# Represents the way the blocks of a block stream are filled.
+#
+# + PARTIAL - A block holds the bytes, which are available at once, hence it could be smaller than the block size
+# + FILL - A block is filled up to the block size. Only the last block could be smaller than the block size
+public enum BlockReadMode {
+    PARTIAL,
+    FILL
+}
+
+# Represents the type of the records of a file, which are indexed.
+#
+# + CSV_ROWS - CSV records, of which the quoted fields may contain line breaks
+# + LINES - Lines of text
+public enum IndexType {
+    CSV_ROWS,
+    LINES
+}
+
 # Represents the XML entity type that needs to be written.
 #
 # + DOCUMENT_ENTITY - An XML document with a single root node
@@ -51,3 +113,45 @@ public type XmlWriteOptions record {|
     XmlEntityType xmlEntityType = DOCUMENT_ENTITY;
     XmlDoctype? doctype = ();
 |};
+
+# Selects the CSV records in which the value of a column is equal to the given value.
+#
+# + column - The name of the column
+# + value - The value of the column
+public type ColumnEquals record {|
+    string column;
+    string value;
+|};
+
+# Selects the CSV records in which the value of a column is equal to one of the given values.
+#
+# + column - The name of the column
+# + values - The values of the column
+public type ColumnIn record {|
+    string column;
+    string[] values;
+|};
+
+# Selects the CSV records in which the numeric value of a column is within the given range.
+#
+# + column - The name of the column
+# + min - The minimum value (inclusive). There is no lower bound when this is `()`
+# + max - The maximum value (inclusive). There is no upper bound when this is `()`
+public type ColumnRange record {|
+    string column;
+    float? min = ();
+    float? max = ();
+|};
+
+# Selects the CSV records in which the value of a column starts with the given prefix.
+#
+# + column - The name of the column
+# + prefix - The prefix of the value
+public type ColumnPrefix record {|
+    string column;
+    string prefix;
+|};
+
+# Represents a condition, which a CSV record should satisfy in order to be read. Values are compared after removing
+# the leading and trailing whitespace.
+public type CsvFilter ColumnEquals|ColumnIn|ColumnRange|ColumnPrefix;
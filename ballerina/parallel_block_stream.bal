@@ -0,0 +1,107 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# A block of a file along with its position in the file.
+#
+# + offset - The position of the first byte of the block in the file
+# + block - The content of the block
+public type FileBlock record {|
+    int offset;
+    Block block;
+|};
+
+# The `ParallelBlockStream` is used to initialize a stream of the blocks of a file, which are read concurrently and
+# handed over in the order of the file.
+class ParallelBlockStream {
+
+    isolated function init() {
+    }
+
+    # The next function returns the next block of the file.
+    #
+    # + return - An `io:Block` when a block is available in the stream or returns `()` when the stream reaches the end
+    public isolated function next() returns record {|Block value;|}|Error? {
+        Block|FileBlock|Error? block = nextParallelBlock(self);
+        if block is Block {
+            record {|Block value;|} value = {value: block};
+            return value;
+        } else if block is Error {
+            check closeParallelBlockStream(self);
+            return block;
+        }
+        return closeParallelBlockStream(self);
+    }
+
+    # Closes the stream. The primary usage of this function is to close the stream without reaching the end.
+    # If the stream reaches the end, the `next` function will automatically close the stream.
+    #
+    # + return - `()` when the closing was successful or an `io:Error`
+    public isolated function close() returns Error? {
+        return closeParallelBlockStream(self);
+    }
+}
+
+# The `UnorderedParallelBlockStream` is used to initialize a stream of the blocks of a file, which are read
+# concurrently and handed over in the order of completion.
+class UnorderedParallelBlockStream {
+
+    isolated function init() {
+    }
+
+    # The next function returns the next block of the file, which has been read.
+    #
+    # + return - An `io:FileBlock` when a block is available in the stream or returns `()` when the stream reaches
+    #            the end
+    public isolated function next() returns record {|FileBlock value;|}|Error? {
+        Block|FileBlock|Error? block = nextParallelBlock(self);
+        if block is FileBlock {
+            record {|FileBlock value;|} value = {value: block};
+            return value;
+        } else if block is Error {
+            check closeParallelBlockStream(self);
+            return block;
+        }
+        return closeParallelBlockStream(self);
+    }
+
+    # Closes the stream. The primary usage of this function is to close the stream without reaching the end.
+    # If the stream reaches the end, the `next` function will automatically close the stream.
+    #
+    # + return - `()` when the closing was successful or an `io:Error`
+    public isolated function close() returns Error? {
+        return closeParallelBlockStream(self);
+    }
+}
+
+isolated function openParallelBlockStream(ParallelBlockStream|UnorderedParallelBlockStream blockStream, string path,
+        int blockSize, int parallelism, int maxBytesInFlight, boolean ordered) returns Error? = @java:Method {
+    name: "openParallelBlockStream",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+isolated function nextParallelBlock(ParallelBlockStream|UnorderedParallelBlockStream blockStream)
+returns Block|FileBlock|Error? = @java:Method {
+    name: "nextParallelBlock",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+isolated function closeParallelBlockStream(ParallelBlockStream|UnorderedParallelBlockStream blockStream)
+returns Error? = @java:Method {
+    name: "closeParallelBlockStream",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
@@ -40,6 +40,44 @@ public class ReadableByteChannel {
         return byteReadExtern(self, nBytes);
     }
 
+    # Source bytes from a given position of the input resource without changing the position, from which the
+    # `read` function continues. Only the channels of files support this, and it could be called concurrently.
+    # An `io:EofError` will return if the position is at or after the end of the channel.
+    # ```ballerina
+    # byte[]|io:Error result = readableByteChannel.readAt(1024, 16);
+    # ```
+    #
+    # + offset - The position of the first byte, which should be read
+    # + nBytes - A positive integer. Represents the number of bytes, which should be read
+    # + return - Content read, which is shorter than the given number of bytes only if the channel ends,
+    #            an `EofError` if the position is at or after the end of the channel or else an `io:Error`
+    public isolated function readAt(int offset, int nBytes) returns byte[]|Error {
+        return byteReadAtExtern(self, offset, nBytes);
+    }
+
+    # Returns the size of the input resource. Only the channels of files support this.
+    # ```ballerina
+    # int|io:Error size = readableByteChannel.size();
+    # ```
+    #
+    # + return - The number of bytes of the input resource or else an `io:Error`
+    public isolated function size() returns int|Error {
+        return byteChannelSizeExtern(self);
+    }
+
+    # Returns the checksum of the bytes, which have been read from the file so far. The bytes, which are buffered
+    # ahead are included, hence the checksum of the whole file is provided once the channel is read to the end. The
+    # checksum is also available after the channel is closed.
+    # Only the channels, which are opened with a checksum algorithm, support this.
+    # ```ballerina
+    # byte[]|io:Error checksum = readableByteChannel.digest();
+    # ```
+    #
+    # + return - The checksum or else an `io:Error`
+    public isolated function digest() returns readonly & byte[]|Error {
+        return byteChannelDigestExtern(self);
+    }
+
     # Read all content of the channel as a `byte` array and return a read only `byte` array.
     # ```ballerina
     # byte[]|io:Error result = readableByteChannel.readAll();
@@ -53,16 +91,35 @@ public class ReadableByteChannel {
 
     # Return a block stream that can be used to read all `byte` blocks as a stream.
     # ```ballerina
-    # stream<io:Block, io:Error>|io:Error result = readableByteChannel.blockStream();
+    # stream<io:Block, io:Error>|io:Error result = readableByteChannel.blockStream(4096);
+    # stream<io:Block, io:Error>|io:Error fullBlocks = readableByteChannel.blockStream(4096, io:FILL, true);
     # ```
     # + blockSize - A positive integer. Size of the block.
+    # + mode - The way the blocks are filled
+    # + readAhead - Whether the next block is read while the current block is being processed
     # + return - A block stream or else an `io:Error`
-    public isolated function blockStream(int blockSize) returns stream<Block, Error?>|Error {
-        BlockStream blockStream = new (self, blockSize);
+    public isolated function blockStream(int blockSize, BlockReadMode mode = PARTIAL, boolean readAhead = false)
+            returns stream<Block, Error?>|Error {
+        BlockStream blockStream = new (self, blockSize, mode, readAhead);
         return new stream<Block, Error?>(blockStream);
     }
 
+    # Transfer the content, which has not been read yet, to a given `io:WritableByteChannel`.
+    # The content of a file is transferred by the operating system where possible, otherwise it is copied through
+    # a buffer.
+    # ```ballerina
+    # int|io:Error transferred = readableByteChannel.transferTo(writableByteChannel);
+    # ```
+    #
+    # + channel - The `io:WritableByteChannel`, which the content is transferred to
+    # + return - The number of bytes transferred or else an `io:Error`
+    public isolated function transferTo(WritableByteChannel channel) returns int|Error {
+        return transferToExtern(self, channel);
+    }
+
     # Encodes a given `io:ReadableByteChannel` using the Base64 encoding scheme.
+    # The content is encoded as the returned channel is read, hence the memory used does not depend on the size of
+    # the content. This channel is closed when the returned channel is closed.
     # ```ballerina
     # io:ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Encode();
     # ```
@@ -73,6 +130,8 @@ public class ReadableByteChannel {
     }
 
     # Decodes a given Base64 encoded `io:ReadableByteChannel`.
+    # The content is decoded as the returned channel is read, hence invalid content is reported by the reads of the
+    # returned channel. This channel is closed when the returned channel is closed.
     # ```ballerina
     # io:ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Decode();
     # ```
@@ -99,11 +158,35 @@ isolated function byteReadExtern(ReadableByteChannel byteChannel, int nBytes) re
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+isolated function byteReadAtExtern(ReadableByteChannel byteChannel, int offset, int nBytes) returns byte[]|Error =
+@java:Method {
+    name: "readAt",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+isolated function byteChannelSizeExtern(ReadableByteChannel|WritableByteChannel byteChannel) returns int|Error =
+@java:Method {
+    name: "size",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+isolated function byteChannelDigestExtern(ReadableByteChannel|WritableByteChannel byteChannel)
+returns readonly & byte[]|Error = @java:Method {
+    name: "digest",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 isolated function readAllBytes(ReadableByteChannel byteChannel) returns byte[]|Error = @java:Method {
     name: "readAll",
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+isolated function transferToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination)
+returns int|Error = @java:Method {
+    name: "transferTo",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 isolated function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
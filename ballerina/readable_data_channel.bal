@@ -16,6 +16,8 @@
 import ballerina/jballerina.java;
 
 # Represents a data channel for reading data.
+# The content of the underlying `io:ReadableByteChannel` is read ahead in large chunks, hence the byte channel should
+# not be read directly while the data channel is in use.
 public class ReadableDataChannel {
 
     # Initializes the data channel.
@@ -110,6 +112,77 @@ public class ReadableDataChannel {
         return readVarIntExtern(self);
     }
 
+    # Reads a variable length integer, which is ZigZag encoded so that small negative values take few bytes.
+    # ```ballerina
+    # int|io:Error result = dataChannel.readZigZagVarInt();
+    # ```
+    #
+    # + return - The value of the integer which is read or else `io:Error` if any error occurred
+    public isolated function readZigZagVarInt() returns int|Error {
+        return readZigZagVarIntExtern(self);
+    }
+
+    # Reads an array of variable length integers through a single call.
+    # With the `io:LITTLE_ENDIAN` byte order, the integers are read in the protobuf varint layout.
+    # ```ballerina
+    # int[]|io:Error result = dataChannel.readVarIntArray(1000);
+    # ```
+    #
+    # + count - The number of integers to be read
+    # + return - The integers which are read, fewer than the count if the channel reached its end, or else an
+    # `io:Error` if any error occurred
+    public isolated function readVarIntArray(int count) returns int[]|Error {
+        return readVarIntArrayExtern(self, count);
+    }
+
+    # Reads an array of ZigZag encoded variable length integers through a single call.
+    # ```ballerina
+    # int[]|io:Error result = dataChannel.readZigZagVarIntArray(1000);
+    # ```
+    #
+    # + count - The number of integers to be read
+    # + return - The integers which are read, fewer than the count if the channel reached its end, or else an
+    # `io:Error` if any error occurred
+    public isolated function readZigZagVarIntArray(int count) returns int[]|Error {
+        return readZigZagVarIntArrayExtern(self, count);
+    }
+
+    # Reads an array of 32 bit integers through a single call.
+    # ```ballerina
+    # int[]|io:Error result = dataChannel.readInt32Array(1000);
+    # ```
+    #
+    # + count - The number of integers to be read
+    # + return - The integers which are read, fewer than the count if the channel reached its end, or else an
+    # `io:Error` if any error occurred
+    public isolated function readInt32Array(int count) returns int[]|Error {
+        return readInt32ArrayExtern(self, count);
+    }
+
+    # Reads an array of 64 bit integers through a single call.
+    # ```ballerina
+    # int[]|io:Error result = dataChannel.readInt64Array(1000);
+    # ```
+    #
+    # + count - The number of integers to be read
+    # + return - The integers which are read, fewer than the count if the channel reached its end, or else an
+    # `io:Error` if any error occurred
+    public isolated function readInt64Array(int count) returns int[]|Error {
+        return readInt64ArrayExtern(self, count);
+    }
+
+    # Reads an array of 64 bit floats through a single call.
+    # ```ballerina
+    # float[]|io:Error result = dataChannel.readFloat64Array(1000);
+    # ```
+    #
+    # + count - The number of floats to be read
+    # + return - The floats which are read, fewer than the count if the channel reached its end, or else an
+    # `io:Error` if any error occurred
+    public isolated function readFloat64Array(int count) returns float[]|Error {
+        return readFloat64ArrayExtern(self, count);
+    }
+
     # Closes the data channel.
     # After a channel is closed, any further reading operations will cause an error.
     # ```ballerina
@@ -167,6 +240,37 @@ isolated function readVarIntExtern(ReadableDataChannel dataChannel) returns int|
     'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
 } external;
 
+isolated function readZigZagVarIntExtern(ReadableDataChannel dataChannel) returns int|Error = @java:Method {
+    name: "readZigZagVarInt",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function readVarIntArrayExtern(ReadableDataChannel dataChannel, int count) returns int[]|Error = @java:Method {
+    name: "readVarIntArray",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function readZigZagVarIntArrayExtern(ReadableDataChannel dataChannel, int count) returns int[]|Error =
+@java:Method {
+    name: "readZigZagVarIntArray",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function readInt32ArrayExtern(ReadableDataChannel dataChannel, int count) returns int[]|Error = @java:Method {
+    name: "readInt32Array",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function readInt64ArrayExtern(ReadableDataChannel dataChannel, int count) returns int[]|Error = @java:Method {
+    name: "readInt64Array",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function readFloat64ArrayExtern(ReadableDataChannel dataChannel, int count) returns float[]|Error = @java:Method {
+    name: "readFloat64Array",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
 isolated function closeReadableDataChannelExtern(ReadableDataChannel dataChannel) returns Error? = @java:Method {
     name: "closeDataChannel",
     'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
@@ -0,0 +1,106 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type BinaryEmployee record {
+    int id;
+    string name;
+    float salary;
+    decimal bonus;
+    boolean active;
+    string? department;
+    int manager?;
+};
+
+type BinaryEmployeeName record {
+    string name;
+    int id;
+};
+
+type BinaryEmployeeSalary record {
+    int id;
+    string salary;
+};
+
+@test:Config {}
+isolated function testWriteAndReadBinaryRecords() returns error? {
+    string path = TEMP_DIR + "employees.bin";
+    BinaryEmployee[] employees = [];
+    foreach int i in 0 ..< 10000 {
+        BinaryEmployee employee = {
+            id: i - 5000,
+            name: "Employee ආයුබෝවන් " + i.toString(),
+            salary: <float>i * 1.5,
+            bonus: <decimal>i / 3d,
+            active: i % 2 == 0,
+            department: i % 3 == 0 ? () : "Department " + (i % 7).toString()
+        };
+        if i % 5 == 0 {
+            employee.manager = i * 1000000000;
+        }
+        employees.push(employee);
+    }
+    check fileWriteRecords(path, employees);
+
+    stream<BinaryEmployee, Error?> recordStream = check fileReadRecordsAsStream(path);
+    BinaryEmployee[] result = check from BinaryEmployee employee in recordStream
+        select employee;
+    test:assertEquals(result, employees);
+
+    //The fields of the file, which are not in the record type, are skipped
+    stream<BinaryEmployeeName, Error?> nameStream = check fileReadRecordsAsStream(path);
+    BinaryEmployeeName[] names = check from BinaryEmployeeName name in nameStream
+        limit 2
+        select name;
+    test:assertEquals(names, [{name: "Employee ආයුබෝවන් 0", id: -5000}, {name: "Employee ආයුබෝවන් 1", id: -4999}]);
+    check nameStream.close();
+}
+
+@test:Config {}
+isolated function testWriteAndReadEmptyBinaryRecords() returns error? {
+    string path = TEMP_DIR + "empty_employees.bin";
+    BinaryEmployee[] employees = [];
+    check fileWriteRecords(path, employees);
+    stream<BinaryEmployee, Error?> recordStream = check fileReadRecordsAsStream(path);
+    test:assertEquals(recordStream.next(), ());
+}
+
+@test:Config {}
+isolated function testReadBinaryRecordsWithMismatchedType() returns error? {
+    string path = TEMP_DIR + "mismatched_employees.bin";
+    BinaryEmployee[] employees = [{id: 1, name: "John", salary: 10.5, bonus: 1.5d, active: true, department: ()}];
+    check fileWriteRecords(path, employees);
+    stream<BinaryEmployeeSalary, Error?>|Error result = fileReadRecordsAsStream(path);
+    if result is Error {
+        test:assertEquals(result.message(),
+            "The field 'salary' is written as 'float', which does not match the type of the record field");
+    } else {
+        test:assertFail("Expected an error");
+    }
+}
+
+@test:Config {}
+isolated function testReadBinaryRecordsFromInvalidFile() returns error? {
+    string path = TEMP_DIR + "invalid_employees.bin";
+    check fileWriteString(path, "id,name,salary");
+    stream<BinaryEmployee, Error?>|Error result = fileReadRecordsAsStream(path);
+    if result is Error {
+        test:assertEquals(result.message(), "The file does not contain binary records");
+    } else {
+        test:assertFail("Expected an error");
+    }
+}
@@ -88,6 +88,268 @@ isolated function testFileReadBytes() returns Error? {
     test:assertEquals(result, expectedString.toBytes(), msg = "Found unexpected output");
 }
 
+@test:Config {dependsOn: [testFileWriteBytes]}
+isolated function testFileReadBytesMemoryMapped() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile2.txt";
+    readonly & byte[] result = check fileReadBytes(filePath, MEMORY_MAPPED);
+    test:assertEquals(result, check fileReadBytes(filePath), msg = "Found unexpected output");
+
+    ReadableByteChannel byteChannel = check openReadableFile(filePath, MEMORY_MAPPED);
+    test:assertEquals(check byteChannel.read(7), "Sheldon".toBytes());
+    test:assertEquals(check byteChannel.readAll(), " Cooper".toBytes());
+    check byteChannel.close();
+}
+
+@test:Config {dependsOn: [testFileWriteBytes]}
+isolated function testReadAllAfterPartialRead() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile2.txt";
+    ReadableByteChannel byteChannel = check openReadableFile(filePath);
+    test:assertEquals(check byteChannel.read(3), "She".toBytes());
+    test:assertEquals(check byteChannel.readAll(), "ldon Cooper".toBytes());
+    check byteChannel.close();
+
+    byteChannel = check openReadableFile(filePath);
+    test:assertEquals(check readBlock(byteChannel, 4), "Shel".toBytes());
+    readonly & byte[] remaining = check byteChannel.readAll();
+    test:assertEquals(remaining, "don Cooper".toBytes());
+    check byteChannel.close();
+}
+
+@test:Config {}
+function testFileReadBlocksParallel() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile5.bin";
+    byte[] content = [];
+    foreach int i in 0 ..< 10000 {
+        content.push(<byte>(i % 251));
+    }
+    check fileWriteBytes(filePath, content);
+
+    stream<Block, Error?> orderedStream = check fileReadBlocksParallel(filePath, 1024, 4, 4096);
+    byte[] orderedContent = [];
+    check orderedStream.forEach(function(Block block) {
+        orderedContent.push(...block);
+    });
+    test:assertEquals(orderedContent, content);
+
+    stream<FileBlock, Error?> unorderedStream = check fileReadBlocksParallelUnordered(filePath, 1000, 3);
+    map<Block> blocks = {};
+    check unorderedStream.forEach(function(FileBlock fileBlock) {
+        blocks[fileBlock.offset.toString()] = fileBlock.block;
+    });
+    test:assertEquals(blocks.length(), 10);
+    test:assertEquals(blocks["9000"], content.slice(9000));
+
+    stream<Block, Error?> closedStream = check fileReadBlocksParallel(filePath, 100);
+    record {|Block value;|}? block = check closedStream.next();
+    test:assertEquals(block?.value, content.slice(0, 100));
+    check closedStream.close();
+
+    test:assertTrue(fileReadBlocksParallel(filePath, 0) is Error);
+    test:assertTrue(fileReadBlocksParallel(TEMP_DIR + "missing.bin") is Error);
+}
+
+@test:Config {}
+function testCompressedFiles() returns Error? {
+    string filePath = TEMP_DIR + "compressedFile1.csv.gz";
+    string content = "id,name\n1,Sheldon\n2,Leonard\n";
+    WritableByteChannel writableChannel = check openWritableFile(filePath, compression = GZIP);
+    _ = check writableChannel.write(content.toBytes(), 0);
+    check writableChannel.close();
+
+    ReadableByteChannel readableChannel = check openReadableFile(filePath, compression = GZIP);
+    test:assertEquals(check langstring:fromBytes(check readableChannel.readAll()), content);
+    check readableChannel.close();
+
+    byte[] compressedContent = check fileReadBytes(filePath);
+    test:assertEquals(compressedContent.slice(0, 2), [0x1f, 0x8b]);
+
+    stream<string[], Error?> csvStream = check fileReadCsvAsStream(filePath, compression = AUTO);
+    string[][] records = [];
+    check csvStream.forEach(function(string[] csvRecord) {
+        records.push(csvRecord);
+    });
+    test:assertEquals(records, [["id", "name"], ["1", "Sheldon"], ["2", "Leonard"]]);
+
+    writableChannel = check openWritableFile(filePath, APPEND, compression = GZIP);
+    _ = check writableChannel.write("3,Howard\n".toBytes(), 0);
+    check writableChannel.close();
+    ReadableCSVChannel csvChannel = check openReadableCsvFile(filePath, compression = AUTO);
+    int count = 0;
+    while csvChannel.hasNext() {
+        _ = check csvChannel.getNext();
+        count += 1;
+    }
+    check csvChannel.close();
+    test:assertEquals(count, 4);
+
+    string plainFilePath = TEMP_DIR + "compressedFile2.csv";
+    check fileWriteString(plainFilePath, content);
+    readableChannel = check openReadableFile(plainFilePath, compression = AUTO);
+    test:assertEquals(check langstring:fromBytes(check readableChannel.readAll()), content);
+    check readableChannel.close();
+    readableChannel = check openReadableFile(plainFilePath, compression = GZIP);
+    test:assertTrue(readableChannel.readAll() is Error);
+    check readableChannel.close();
+
+    string formulaFilePath = TEMP_DIR + "compressedFile3.txt";
+    check fileWriteString(formulaFilePath, "x^2 + y^2");
+    readableChannel = check openReadableFile(formulaFilePath, compression = AUTO);
+    test:assertEquals(check langstring:fromBytes(check readableChannel.readAll()), "x^2 + y^2");
+    check readableChannel.close();
+
+    test:assertTrue(openWritableFile(filePath, compression = AUTO) is Error);
+    test:assertTrue(openWritableFile(filePath, APPEND, compression = DEFLATE) is Error);
+}
+
+@test:Config {}
+function testChecksum() returns Error? {
+    string filePath = TEMP_DIR + "checksumFile1.txt";
+    WritableByteChannel writableChannel = check openWritableFile(filePath, checksum = SHA256);
+    _ = check writableChannel.write("ab".toBytes(), 0);
+    _ = check writableChannel.write("c".toBytes(), 0);
+    check writableChannel.close();
+    byte[] expected = check fileChecksum(filePath);
+    test:assertEquals(expected.toBase16(), "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    test:assertEquals(check writableChannel.digest(), expected);
+
+    ReadableByteChannel readableChannel = check openReadableFile(filePath, checksum = CRC32C);
+    test:assertEquals(check readableChannel.readAll(), "abc".toBytes());
+    check readableChannel.close();
+    test:assertEquals(check readableChannel.digest(), check fileChecksum(filePath, CRC32C));
+
+    string compressedFilePath = TEMP_DIR + "checksumFile2.txt.gz";
+    writableChannel = check openWritableFile(compressedFilePath, compression = GZIP, checksum = MD5);
+    _ = check writableChannel.write("abc".toBytes(), 0);
+    check writableChannel.close();
+    test:assertEquals(check writableChannel.digest(), check fileChecksum(compressedFilePath, MD5));
+
+    readableChannel = check openReadableFile(filePath);
+    test:assertTrue(readableChannel.digest() is Error);
+    check readableChannel.close();
+    test:assertTrue(fileChecksum(TEMP_DIR + "missing.txt") is Error);
+}
+
+@test:Config {}
+isolated function testRandomAccess() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile4.txt";
+    WritableByteChannel writableChannel = check openWritableFile(filePath);
+    _ = check writableChannel.write("Sheldon Cooper".toBytes(), 0);
+    test:assertEquals(check writableChannel.writeAt(0, "Leonard".toBytes()), 7);
+    test:assertEquals(check writableChannel.size(), 14);
+    check writableChannel.close();
+
+    ReadableByteChannel readableChannel = check openReadableFile(filePath);
+    test:assertEquals(check readableChannel.size(), 14);
+    test:assertEquals(check readableChannel.readAt(8, 10), "Cooper".toBytes());
+    test:assertEquals(check readableChannel.read(7), "Leonard".toBytes());
+    test:assertEquals(check readableChannel.readAt(0, 3), "Leo".toBytes());
+    test:assertEquals(check readableChannel.read(7), " Cooper".toBytes());
+    test:assertTrue(readableChannel.readAt(14, 1) is EofError);
+    test:assertTrue(readableChannel.readAt(-1, 1) is Error);
+    check readableChannel.close();
+
+    ReadableByteChannel blobChannel = check createReadableChannel("Sheldon Cooper".toBytes());
+    test:assertTrue(blobChannel.readAt(0, 1) is Error);
+    test:assertTrue(blobChannel.size() is Error);
+}
+
+@test:Config {dependsOn: [testFileWriteBytes]}
+isolated function testFileCopy() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile2.txt";
+    string copyPath = TEMP_DIR + "bytesFile2_copy.txt";
+    test:assertEquals(check fileCopy(filePath, copyPath), 14);
+    test:assertEquals(check fileReadBytes(copyPath), "Sheldon Cooper".toBytes());
+
+    test:assertEquals(check fileCopy(filePath, copyPath, APPEND), 14);
+    test:assertEquals(check fileReadBytes(copyPath), "Sheldon CooperSheldon Cooper".toBytes());
+
+    int|Error result = fileCopy(copyPath, copyPath);
+    test:assertTrue(result is Error);
+}
+
+@test:Config {dependsOn: [testFileWriteBytes]}
+isolated function testTransferTo() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile2.txt";
+    string destinationPath = TEMP_DIR + "bytesFile2_transferred.txt";
+    ReadableByteChannel sourceChannel = check openReadableFile(filePath);
+    WritableByteChannel destinationChannel = check openWritableFile(destinationPath);
+    _ = check readBlock(sourceChannel, 4);
+    test:assertEquals(check sourceChannel.transferTo(destinationChannel), 10);
+    check sourceChannel.close();
+    check destinationChannel.close();
+    test:assertEquals(check fileReadBytes(destinationPath), "don Cooper".toBytes());
+
+    ReadableByteChannel blobChannel = check createReadableChannel("Sheldon Cooper".toBytes());
+    destinationChannel = check openWritableFile(destinationPath);
+    test:assertEquals(check blobChannel.transferTo(destinationChannel), 14);
+    check destinationChannel.close();
+    test:assertEquals(check fileReadBytes(destinationPath), "Sheldon Cooper".toBytes());
+}
+
+@test:Config {dependsOn: [testFileWriteBytes]}
+function testFileReadBlocksAsStreamModes() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile2.txt";
+    byte[][] expectedBlocks = ["Sheld".toBytes(), "on Co".toBytes(), "oper".toBytes()];
+    foreach BlockReadMode mode in [PARTIAL, FILL] {
+        foreach boolean readAhead in [false, true] {
+            stream<Block, Error?> blockStream = check fileReadBlocksAsStream(filePath, 5, mode, readAhead);
+            byte[][] blocks = [];
+            check blockStream.forEach(function(Block block) {
+                blocks.push(block);
+            });
+            if mode == FILL {
+                test:assertEquals(blocks, expectedBlocks);
+            } else {
+                byte[] content = [];
+                foreach byte[] block in blocks {
+                    content.push(...block);
+                }
+                test:assertEquals(content, "Sheldon Cooper".toBytes());
+            }
+        }
+    }
+
+    ReadableByteChannel byteChannel = check openReadableFile(filePath);
+    stream<Block, Error?> blockStream = check byteChannel.blockStream(3, FILL, true);
+    record {|Block value;|}? block = check blockStream.next();
+    test:assertEquals(block?.value, "She".toBytes());
+    check blockStream.close();
+    check byteChannel.close();
+
+    byteChannel = check openReadableFile(filePath);
+    blockStream = check byteChannel.blockStream(3, FILL, true);
+    block = check blockStream.next();
+    test:assertEquals(block?.value, "She".toBytes());
+    stream<Block, Error?> largerBlockStream = check byteChannel.blockStream(5, FILL, true);
+    byte[][] largerBlocks = [];
+    check largerBlockStream.forEach(function(Block largerBlock) {
+        largerBlocks.push(largerBlock);
+    });
+    test:assertEquals(largerBlocks, ["ldon ".toBytes(), "Coope".toBytes(), "r".toBytes()]);
+    check byteChannel.close();
+
+    byteChannel = check openReadableFile(filePath);
+    blockStream = check byteChannel.blockStream(3, FILL, true);
+    block = check blockStream.next();
+    test:assertEquals(block?.value, "She".toBytes());
+    //The block which is read ahead precedes the rest of the content
+    test:assertEquals(check byteChannel.readAll(), "ldon Cooper".toBytes());
+    check byteChannel.close();
+
+    byteChannel = check openReadableFile(filePath);
+    blockStream = check byteChannel.blockStream(3, FILL, true);
+    block = check blockStream.next();
+    test:assertEquals(block?.value, "She".toBytes());
+    test:assertEquals(check byteChannel.read(2), "ld".toBytes());
+    test:assertEquals(check byteChannel.readAll(), "on Cooper".toBytes());
+    check byteChannel.close();
+
+    stream<Block, Error?>|Error invalidStream = fileReadBlocksAsStream(filePath, 0);
+    if invalidStream is stream<Block, Error?> {
+        test:assertTrue(invalidStream.next() is Error);
+    }
+}
+
 @test:Config {}
 isolated function testFileWriteBytesFromStreamUsingIntermediateFile() returns Error? {
     string filePath = TEMP_DIR + "bytesFile3_A.txt";
@@ -99,6 +361,39 @@ isolated function testFileWriteBytesFromStreamUsingIntermediateFile() returns Er
     check fileWriteBlocksFromStream(filePath, bytesStream);
 }
 
+@test:Config {}
+isolated function testFileWriteBlocksFromStreamCoalesced() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile3_B.txt";
+    byte[][] blocks = [];
+    byte[] expected = [];
+    foreach int i in 0 ..< 1000 {
+        byte[] block = [<byte>(i % 256), <byte>(i / 256)];
+        blocks.push(block);
+        expected.push(...block);
+    }
+    check fileWriteBlocksFromStream(filePath, blocks.toStream(), flushThreshold = 64);
+    test:assertEquals(check fileReadBytes(filePath), expected);
+
+    check fileWriteBlocksFromStream(filePath, blocks.toStream(), APPEND, 0);
+    test:assertEquals((check fileReadBytes(filePath)).length(), 4000);
+}
+
+@test:Config {}
+isolated function testWritableByteChannelFlush() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile3_C.txt";
+    WritableByteChannel byteChannel = check openWritableFile(filePath, flushThreshold = 1024);
+    test:assertEquals(check byteChannel.write("Sheldon".toBytes(), 0), 7);
+    test:assertEquals(check fileReadBytes(filePath), []);
+    check byteChannel.flush();
+    test:assertEquals(check fileReadBytes(filePath), "Sheldon".toBytes());
+    _ = check byteChannel.write(" Cooper".toBytes(), 0);
+    check byteChannel.close();
+    test:assertEquals(check fileReadBytes(filePath), "Sheldon Cooper".toBytes());
+
+    Error? result = byteChannel.flush();
+    test:assertTrue(result is Error);
+}
+
 @test:Config {dependsOn: [testFileWriteBytesFromStreamUsingIntermediateFile]}
 function testFileReadBytesAsStreamUsingIntermediateFile() returns error? {
     string filePath = TEMP_DIR + "bytesFile3_A.txt";
@@ -412,6 +707,25 @@ isolated function testBase64EncodeAndDecode() returns Error? {
     test:assertEquals(langstring:fromBytes(check decodedByteChannel.readAll()), expectedString);
 }
 
+@test:Config {}
+isolated function testBase64EncodeAfterPartialRead() returns Error? {
+    string filePath = TEMP_DIR + "bytesFile11.txt";
+    check fileWriteString(filePath, "Ballerina is an open source programming language.");
+
+    ReadableByteChannel byteChannel = check openReadableFile(filePath);
+    test:assertEquals(check byteChannel.read(10), "Ballerina ".toBytes());
+    ReadableByteChannel encodedByteChannel = check byteChannel.base64Encode();
+    test:assertEquals(check langstring:fromBytes(check encodedByteChannel.readAll()),
+            "aXMgYW4gb3BlbiBzb3VyY2UgcHJvZ3JhbW1pbmcgbGFuZ3VhZ2Uu");
+    check encodedByteChannel.close();
+
+    check fileWriteString(filePath, "YmFsbGVy*W5h");
+    byteChannel = check openReadableFile(filePath);
+    ReadableByteChannel decodedByteChannel = check byteChannel.base64Decode();
+    test:assertTrue(decodedByteChannel.readAll() is Error);
+    check decodedByteChannel.close();
+}
+
 @test:Config {}
 isolated function testByteChannelReadAfterClose() returns Error? {
     string filePath = TEST_RESOURCE_PATH + "stringResourceFile1.txt";
@@ -1036,6 +1036,17 @@ isolated function testTableNegative() returns error? {
     check csvChannel.close();
 }
 
+@test:Config {}
+isolated function testTableInvalidValue() returns error? {
+    string filePath = RESOURCES_BASE_PATH + "datafiles/io/records/sample5.csv";
+    ReadableCSVChannel csvChannel = check openReadableCsvFile(filePath);
+    table<record {}>|error tableResult = csvChannel.toTable(Employee4, ["id"]);
+    test:assertTrue(tableResult is error);
+    test:assertEquals((<error>tableResult).message(),
+            "failed to process the delimited file: Invalid value: 10000.50 for the field: 'salary'");
+    check csvChannel.close();
+}
+
 @test:Config {}
 isolated function testFileCsvWrite() returns Error? {
     string[][] content = [
@@ -2180,3 +2191,127 @@ function testFileReadCsvRecordWithOptionalFieldsHasValues() returns Error? {
     test:assertEquals(i, 3);
 }
 
+
+@test:Config {}
+function testFileReadCsvInParallel() returns Error? {
+    string filePath = TEMP_DIR + "parallelRecords.csv";
+    string[][] content = [["id", "name", "salary"]];
+    foreach int i in 1 ... 20000 {
+        content.push(["User" + i.toString(), "Doe, John " + i.toString(), (i * 100).toString()]);
+    }
+    check fileWriteCsv(filePath, content);
+
+    string[][] sequentialContent = check fileReadCsv(filePath, 1);
+    string[][] parallelContent = check fileReadCsv(filePath, 1, parallelism = 4);
+    test:assertEquals(parallelContent.length(), 20000);
+    test:assertEquals(parallelContent, sequentialContent);
+    test:assertEquals(parallelContent[19999], ["User20000", "Doe, John 20000", "2000000"]);
+
+    Employee4[] sequentialRecords = check fileReadCsv(filePath);
+    Employee4[] parallelRecords = check fileReadCsv(filePath, parallelism = 4);
+    test:assertEquals(parallelRecords.length(), 20000);
+    test:assertEquals(parallelRecords, sequentialRecords);
+    test:assertEquals(parallelRecords[0], {id: "User1", name: "Doe, John 1", salary: 100});
+}
+
+@test:Config {}
+function testFileReadCsvInParallelWithCarriageReturns() returns Error? {
+    string filePath = TEMP_DIR + "parallelCarriageReturns.csv";
+    string[] lines = ["id,name,salary"];
+    foreach int i in 1 ... 20000 {
+        lines.push("User" + i.toString() + ",\"Doe, John " + i.toString() + "\"," + (i * 100).toString());
+    }
+    check fileWriteString(filePath, 'string:'join("\r", ...lines) + "\r");
+
+    string[][] sequentialContent = check fileReadCsv(filePath, 1);
+    string[][] parallelContent = check fileReadCsv(filePath, 1, parallelism = 4);
+    test:assertEquals(sequentialContent.length(), 20000);
+    test:assertEquals(parallelContent, sequentialContent);
+    test:assertEquals(parallelContent[19999], ["User20000", "Doe, John 20000", "2000000"]);
+    string[][] parallelContentWithHeaders = check fileReadCsv(filePath, parallelism = 4);
+    test:assertEquals(parallelContentWithHeaders.length(), 20001);
+    test:assertEquals(parallelContentWithHeaders[0], ["id", "name", "salary"]);
+
+    Employee4[] sequentialRecords = check fileReadCsv(filePath);
+    Employee4[] parallelRecords = check fileReadCsv(filePath, parallelism = 4);
+    test:assertEquals(parallelRecords.length(), 20000);
+    test:assertEquals(parallelRecords, sequentialRecords);
+    test:assertEquals(parallelRecords[0], {id: "User1", name: "Doe, John 1", salary: 100});
+}
+
+@test:Config {dependsOn: [testFileReadCsvInParallel]}
+function testFileReadCsvMemoryMapped() returns Error? {
+    string filePath = TEMP_DIR + "parallelRecords.csv";
+    string[][] content = check fileReadCsv(filePath, 1);
+    test:assertEquals(check fileReadCsv(filePath, 1, mode = MEMORY_MAPPED), content);
+    test:assertEquals(check fileReadCsv(filePath, 1, parallelism = 4, mode = MEMORY_MAPPED), content);
+
+    Employee4[] records = check fileReadCsv(filePath, mode = MEMORY_MAPPED);
+    test:assertEquals(records.length(), 20000);
+    test:assertEquals(records[19999], {id: "User20000", name: "Doe, John 20000", salary: 2000000});
+}
+
+@test:Config {dependsOn: [testFileReadCsvInParallel]}
+function testFileReadCsvColumns() returns Error? {
+    string filePath = TEST_RESOURCE_PATH + "csvResourceFile1.csv";
+    string[][] content = check fileReadCsv(filePath, 1, columns = ["residence", "name"]);
+    test:assertEquals(content, [[" New York", "Anne Hamiltom"], [" Colombo", "John Thomson"],
+        [" Colombo", "Mary Thompson"]]);
+
+    Employee6[] employees = check fileReadCsv(filePath, columns = ["name", "designation", "company", "age"]);
+    test:assertEquals(employees.length(), 3);
+    test:assertEquals(employees[1], {name: "John Thomson", designation: "Software Architect", company: "WSO2",
+        age: "38 years"});
+
+    string[][] parallelContent = check fileReadCsv(TEMP_DIR + "parallelRecords.csv", 1, parallelism = 4,
+        columns = ["salary", "id"]);
+    test:assertEquals(parallelContent.length(), 20000);
+    test:assertEquals(parallelContent[19999], ["2000000", "User20000"]);
+}
+
+@test:Config {}
+function testFileReadCsvColumnsAsStream() returns Error? {
+    string filePath = TEST_RESOURCE_PATH + "csvResourceFile1.csv";
+    stream<record {string name; string residence;}, Error?> result =
+        check fileReadCsvAsStream(filePath, columns = ["residence", "name"]);
+    string[] expected = ["New York", "Colombo", "Colombo"];
+    int i = 0;
+    check result.forEach(function(record {string name; string residence;} val) {
+        test:assertEquals(val.residence, expected[i]);
+        i += 1;
+    });
+    test:assertEquals(i, 3);
+
+    stream<string[], Error?> lines = check fileReadCsvAsStream(filePath, columns = ["age"]);
+    string[][] ages = check from string[] line in lines select line;
+    test:assertEquals(ages, [["age"], [" 26 years"], [" 38 years"], [" 30 years"]]);
+}
+
+@test:Config {}
+function testFileReadCsvAsStreamWithFilters() returns Error? {
+    string filePath = RESOURCES_BASE_PATH + "datafiles/io/records/sample5b.csv";
+    stream<Employee4, Error?> result = check fileReadCsvAsStream(filePath,
+        filters = [{column: "salary", min: 15000, max: 30000}, {column: "id", values: ["User1", "User3"]}]);
+    Employee4[] employees = check from Employee4 employee in result select employee;
+    test:assertEquals(employees, [{id: "User3", name: "WSO2", salary: 30000}]);
+
+    stream<string[], Error?> lines = check fileReadCsvAsStream(TEST_RESOURCE_PATH + "csvResourceFile1.csv",
+        columns = ["name"], filters = [{column: "residence", value: "Colombo"}, {column: "name", prefix: "M"}]);
+    string[][] names = check from string[] line in lines select line;
+    test:assertEquals(names, [["name"], ["Mary Thompson"]]);
+}
+
+@test:Config {dependsOn: [testFileReadCsvInParallel]}
+function testFileReadCsvRange() returns Error? {
+    string filePath = TEMP_DIR + "parallelRecords.csv";
+    check fileCreateIndex(filePath, stride = 100, parallelism = 4);
+
+    string[][] rows = check fileReadCsvRange(filePath, 15000, 2);
+    test:assertEquals(rows, [["User15000", "Doe, John 15000", "1500000"], ["User15001", "Doe, John 15001", "1500100"]]);
+
+    Employee4[] employees = check fileReadCsvRange(filePath, -1, 5);
+    test:assertEquals(employees, [{id: "User20000", name: "Doe, John 20000", salary: 2000000}]);
+
+    Employee4[] first = check fileReadCsvRange(filePath, 0, 1);
+    test:assertEquals(first, [{id: "User1", name: "Doe, John 1", salary: 100}]);
+}
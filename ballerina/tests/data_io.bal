@@ -217,3 +217,84 @@ isolated function testReadDataAfterClosing() returns Error? {
     test:assertEquals((<Error>rr8).message(), "Data channel is already closed.");
 }
 
+
+@test:Config {}
+isolated function testReadWriteArrays() returns error? {
+    string path = TEMP_DIR + "arrays.bin";
+    int[] integers = [0, 1, -1, 32767, -2147483648, 2147483647, 342147483647, -342147483647];
+    float[] floats = [0.0, -1.5, 3.141592653589793, langfloat:Infinity];
+    WritableByteChannel writableByteChannel = check openWritableFile(path);
+    WritableDataChannel writableDataChannel = new (writableByteChannel, LITTLE_ENDIAN);
+    check writableDataChannel.writeInt64Array(integers);
+    check writableDataChannel.writeInt32Array(integers.slice(0, 6));
+    check writableDataChannel.writeFloat64Array(floats);
+    check writableDataChannel.writeInt64(7);
+    check writableDataChannel.close();
+
+    ReadableByteChannel readableByteChannel = check openReadableFile(path);
+    ReadableDataChannel readableDataChannel = new (readableByteChannel, LITTLE_ENDIAN);
+    test:assertEquals(readableDataChannel.readInt64(), integers[0]);
+    test:assertEquals(readableDataChannel.readInt64Array(7), integers.slice(1));
+    test:assertEquals(readableDataChannel.readInt32Array(6), integers.slice(0, 6));
+    test:assertEquals(readableDataChannel.readFloat64Array(4), floats);
+    test:assertEquals(readableDataChannel.readInt64Array(10), [7]);
+    int[]|Error result = readableDataChannel.readInt64Array(10);
+    test:assertTrue(result is EofError);
+    check readableDataChannel.close();
+}
+
+@test:Config {}
+isolated function testReadWriteVarIntArrays() returns error? {
+    string path = TEMP_DIR + "varints.bin";
+    int[] integers = [0, 1, -1, 64, -65, 300, 8192, 9223372036854775807, -9223372036854775807 - 1];
+    WritableByteChannel writableByteChannel = check openWritableFile(path);
+    WritableDataChannel writableDataChannel = new (writableByteChannel, LITTLE_ENDIAN);
+    check writableDataChannel.writeVarIntArray(integers);
+    check writableDataChannel.writeZigZagVarIntArray(integers);
+    check writableDataChannel.writeInt32(7);
+    check writableDataChannel.writeZigZagVarInt(-1);
+    check writableDataChannel.close();
+
+    ReadableByteChannel readableByteChannel = check openReadableFile(path);
+    ReadableDataChannel readableDataChannel = new (readableByteChannel, LITTLE_ENDIAN);
+    test:assertEquals(readableDataChannel.readVarInt(), integers[0]);
+    test:assertEquals(readableDataChannel.readVarIntArray(8), integers.slice(1));
+    test:assertEquals(readableDataChannel.readZigZagVarIntArray(9), integers);
+    test:assertEquals(readableDataChannel.readInt32(), 7);
+    test:assertEquals(readableDataChannel.readZigZagVarInt(), -1);
+    int[]|Error result = readableDataChannel.readZigZagVarIntArray(10);
+    test:assertTrue(result is EofError);
+    check readableDataChannel.close();
+}
+
+@test:Config {}
+isolated function testWritableDataChannelFlush() returns error? {
+    string filePath = TEMP_DIR + "dataChannelFlush.bin";
+    WritableByteChannel byteChannel = check openWritableFile(filePath);
+    WritableDataChannel dataChannel = new (byteChannel, BIG_ENDIAN);
+    foreach int i in 0 ..< 100 {
+        check dataChannel.writeInt16(i);
+    }
+    check dataChannel.flush();
+    byte[] content = check fileReadBytes(filePath);
+    test:assertEquals(content.length(), 200);
+
+    check dataChannel.writeBool(true);
+    check dataChannel.close();
+    content = check fileReadBytes(filePath);
+    test:assertEquals(content.length(), 201);
+
+    Error? err = dataChannel.flush();
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "Data channel is already closed.");
+
+    ReadableByteChannel readableByteChannel = check openReadableFile(filePath);
+    ReadableDataChannel readableDataChannel = new (readableByteChannel, BIG_ENDIAN);
+    foreach int i in 0 ..< 100 {
+        test:assertEquals(readableDataChannel.readInt16(), i);
+    }
+    test:assertEquals(readableDataChannel.readBool(), true);
+    int|Error result = readableDataChannel.readInt16();
+    test:assertTrue(result is EofError);
+    check readableDataChannel.close();
+}
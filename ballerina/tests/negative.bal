@@ -253,3 +253,18 @@ function readCsvWithMissingValueAndOptionalField() {
     Employee8[]|Error out = fileReadCsv(filePath);
     test:assertEquals((<Error>out).message(), "Field 'age' does not support nil value.");
 }
+
+@test:Config {}
+function readCsvWithUnknownColumn() {
+    string filePath = TEST_RESOURCE_PATH + "csvResourceFile1.csv";
+    string[][]|Error out = fileReadCsv(filePath, columns = ["name", "salary"]);
+    test:assertEquals((<Error>out).message(), "The csv file does not contain the column - salary.");
+}
+
+@test:Config {}
+function readCsvAsStreamWithUnknownFilterColumn() returns Error? {
+    string filePath = TEST_RESOURCE_PATH + "csvResourceFile1.csv";
+    stream<string[], Error?> result = check fileReadCsvAsStream(filePath, filters = [{column: "salary", min: 10}]);
+    record {|string[] value;|}|Error? out = result.next();
+    test:assertEquals((<Error>out).message(), "The csv file does not contain the column - salary.");
+}
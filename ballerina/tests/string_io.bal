@@ -706,3 +706,44 @@ isolated function isWindowsEnvironment() returns boolean = @java:Method {
     name: "isWindowsEnvironment",
     'class: "io.ballerina.stdlib.io.testutils.EnvironmentTestUtils"
 } external;
+
+@test:Config {}
+isolated function testFileReadLinesRange() returns Error? {
+    string filePath = TEMP_DIR + "stringContentAsLinesRange.txt";
+    string[] content = [];
+    foreach int i in 0 ..< 5000 {
+        content.push("line " + i.toString());
+    }
+    check fileWriteLines(filePath, content);
+
+    test:assertEquals(check fileReadLinesRange(filePath, 2500, 3), ["line 2500", "line 2501", "line 2502"]);
+    test:assertEquals(check fileReadLinesRange(filePath, -2, 10), ["line 4998", "line 4999"]);
+    test:assertEquals(check fileReadLinesRange(filePath, 5000, 10), []);
+
+    check fileWriteLines(filePath, ["line 5000"], APPEND);
+    test:assertEquals(check fileReadLinesRange(filePath, -1, 1), ["line 5000"]);
+}
+
+@test:Config {}
+isolated function testWritableCharacterChannelFlush() returns error? {
+    string filePath = TEMP_DIR + "characterChannelFlush.txt";
+    WritableByteChannel byteChannel = check openWritableFile(filePath);
+    WritableCharacterChannel characterChannel = new (byteChannel, DEFAULT_ENCODING);
+    foreach int i in 0 ..< 100 {
+        check characterChannel.writeLine("line " + i.toString());
+    }
+    check characterChannel.flush();
+    string[] lines = check fileReadLines(filePath);
+    test:assertEquals(lines.length(), 100);
+    test:assertEquals(lines[99], "line 99");
+
+    check characterChannel.writeLine("line 100");
+    check characterChannel.close();
+    lines = check fileReadLines(filePath);
+    test:assertEquals(lines.length(), 101);
+    test:assertEquals(lines[100], "line 100");
+
+    Error? err = characterChannel.flush();
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "Character channel is already closed.");
+}
@@ -40,6 +40,55 @@ public class WritableByteChannel {
         return byteWriteExtern(self, content, offset);
     }
 
+    # Sinks bytes at a given position of the output resource without changing the position, from which the `write`
+    # function continues. The whole content is written. Only the channels of files support this, and the position is
+    # not honoured by some platforms if the file is opened to append.
+    # ```ballerina
+    # int|io:Error result = writableByteChannel.writeAt(0, header);
+    # ```
+    #
+    # + offset - The position, which the first byte should be written at
+    # + content - Block of bytes to be written
+    # + return - Number of bytes written or else an `io:Error`
+    public isolated function writeAt(int offset, byte[] content) returns int|Error {
+        return byteWriteAtExtern(self, offset, content);
+    }
+
+    # Returns the size of the output resource. Only the channels of files support this.
+    # ```ballerina
+    # int|io:Error size = writableByteChannel.size();
+    # ```
+    #
+    # + return - The number of bytes of the output resource or else an `io:Error`
+    public isolated function size() returns int|Error {
+        return byteChannelSizeExtern(self);
+    }
+
+    # Returns the checksum of the bytes, which have been written to the file so far. The bytes, which are buffered by
+    # the channel are not included until the channel is flushed or closed. The checksum is also available after the
+    # channel is closed.
+    # Only the channels, which are opened with a checksum algorithm, support this.
+    # ```ballerina
+    # byte[]|io:Error checksum = writableByteChannel.digest();
+    # ```
+    #
+    # + return - The checksum or else an `io:Error`
+    public isolated function digest() returns readonly & byte[]|Error {
+        return byteChannelDigestExtern(self);
+    }
+
+    # Writes the content, which is buffered by the channel, to the file.
+    # Only the channels, which are opened with a flush threshold or a compression format, buffer the content. The
+    # content of a compressed channel, which is flushed, could be decompressed up to that point.
+    # ```ballerina
+    # io:Error? result = writableByteChannel.flush();
+    # ```
+    #
+    # + return - `()` or else an `io:Error` if any error occurred
+    public isolated function flush() returns Error? {
+        return flushWritableByteChannelExtern(self);
+    }
+
     # Closes the byte channel.
     # After a channel is closed, any further writing operations will cause an error.
     # ```ballerina
@@ -57,6 +106,17 @@ isolated function byteWriteExtern(WritableByteChannel byteChannel, byte[] conten
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+isolated function byteWriteAtExtern(WritableByteChannel byteChannel, int offset, byte[] content) returns int|Error =
+@java:Method {
+    name: "writeAt",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+isolated function flushWritableByteChannelExtern(WritableByteChannel byteChannel) returns Error? = @java:Method {
+    name: "flush",
+    'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 isolated function closeWritableByteChannelExtern(WritableByteChannel byteChannel) returns Error? = @java:Method {
     name: "closeByteChannel",
     'class: "io.ballerina.stdlib.io.nativeimpl.ByteChannelUtils"
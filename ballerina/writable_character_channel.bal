@@ -32,6 +32,8 @@ public class WritableCharacterChannel {
     }
 
     # Writes a given sequence of characters (string).
+    # The encoded content is buffered and it is written to the underlying `io:WritableByteChannel` when the buffer
+    # is full, when the channel is flushed, or when the channel is closed.
     # ```ballerina
     # int|io:Error result = writableCharChannel.write("Content", 0);
     # ```
@@ -97,7 +99,18 @@ public class WritableCharacterChannel {
         return writePropertiesExtern(self, properties, comment);
     }
 
+    # Writes the buffered content to the underlying `io:WritableByteChannel`.
+    # ```ballerina
+    # io:Error? err = writableCharChannel.flush();
+    # ```
+    #
+    # + return - `()` or else an `io:Error` if any error occurred
+    public isolated function flush() returns Error? {
+        return flushWritableCharacterChannel(self);
+    }
+
     # Closes the `io:WritableCharacterChannel`.
+    # The buffered content is written to the underlying `io:WritableByteChannel` before the channel is closed.
     # After a channel is closed, any further writing operations will cause an error.
     # ```ballerina
     # io:Error err = writableCharChannel.close();
@@ -162,6 +175,11 @@ isolated function writePropertiesExtern(WritableCharacterChannel characterChanne
     'class: "io.ballerina.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+isolated function flushWritableCharacterChannel(WritableCharacterChannel characterChannel) returns Error? = @java:Method {
+    name: "flush",
+    'class: "io.ballerina.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 isolated function closeWritableCharacterChannel(WritableCharacterChannel characterChannel) returns Error? = @java:Method {
     name: "close",
     'class: "io.ballerina.stdlib.io.nativeimpl.CharacterChannelUtils"
@@ -29,6 +29,8 @@ public const BIG_ENDIAN = "BE";
 public const LITTLE_ENDIAN = "LE";
 
 # Represents a WritableDataChannel for writing data.
+# The written values are buffered and they are written to the underlying `io:WritableByteChannel` when the buffer
+# is full, when the channel is flushed, or when the channel is closed.
 public class WritableDataChannel {
 
     # Initializes data channel.
@@ -130,7 +132,85 @@ public class WritableDataChannel {
         return writeVarIntExtern(self, value);
     }
 
+    # Writes a ZigZag encoded variable-length integer, so that small negative values take few bytes.
+    # ```ballerina
+    # io:Error? err = dataChannel.writeZigZagVarInt(-1);
+    # ```
+    #
+    # + value - The int, which will be written
+    # + return - `()` if the content is written successfully or else an `io:Error` if any error occurred
+    public isolated function writeZigZagVarInt(int value) returns Error? {
+        return writeZigZagVarIntExtern(self, value);
+    }
+
+    # Writes an array of variable-length integers through a single call.
+    # With the `io:LITTLE_ENDIAN` byte order, the integers are written in the protobuf varint layout.
+    # ```ballerina
+    # io:Error? err = dataChannel.writeVarIntArray([1, 300, 70000]);
+    # ```
+    #
+    # + values - The integers, which will be written
+    # + return - `()` if the content is written successfully or else an `io:Error` if any error occurred
+    public isolated function writeVarIntArray(int[] values) returns Error? {
+        return writeVarIntArrayExtern(self, values);
+    }
+
+    # Writes an array of ZigZag encoded variable-length integers through a single call.
+    # ```ballerina
+    # io:Error? err = dataChannel.writeZigZagVarIntArray([-1, 0, 1]);
+    # ```
+    #
+    # + values - The integers, which will be written
+    # + return - `()` if the content is written successfully or else an `io:Error` if any error occurred
+    public isolated function writeZigZagVarIntArray(int[] values) returns Error? {
+        return writeZigZagVarIntArrayExtern(self, values);
+    }
+
+    # Writes an array of integers as 32 bit integers through a single call.
+    # ```ballerina
+    # io:Error? err = dataChannel.writeInt32Array([1, 2, 3]);
+    # ```
+    #
+    # + values - The integers, which will be written
+    # + return - `()` if the content is written successfully or else an `io:Error` if any error occurred
+    public isolated function writeInt32Array(int[] values) returns Error? {
+        return writeInt32ArrayExtern(self, values);
+    }
+
+    # Writes an array of integers as 64 bit integers through a single call.
+    # ```ballerina
+    # io:Error? err = dataChannel.writeInt64Array([1, 2, 3]);
+    # ```
+    #
+    # + values - The integers, which will be written
+    # + return - `()` if the content is written successfully or else an `io:Error` if any error occurred
+    public isolated function writeInt64Array(int[] values) returns Error? {
+        return writeInt64ArrayExtern(self, values);
+    }
+
+    # Writes an array of floats as 64 bit floats through a single call.
+    # ```ballerina
+    # io:Error? err = dataChannel.writeFloat64Array([1.5, 2.5]);
+    # ```
+    #
+    # + values - The floats, which will be written
+    # + return - `()` if the content is written successfully or else an `io:Error` if any error occurred
+    public isolated function writeFloat64Array(float[] values) returns Error? {
+        return writeFloat64ArrayExtern(self, values);
+    }
+
+    # Writes the buffered values to the underlying `io:WritableByteChannel`.
+    # ```ballerina
+    # io:Error? err = dataChannel.flush();
+    # ```
+    #
+    # + return - `()` if the buffered values are written successfully or else an `io:Error` if any error occurred
+    public isolated function flush() returns Error? {
+        return flushWritableDataChannelExtern(self);
+    }
+
     # Closes the data channel.
+    # The buffered values are written to the underlying `io:WritableByteChannel` before the channel is closed.
     # After a channel is closed, any further writing operations will cause an error.
     # ```ballerina
     # io:Error? err = dataChannel.close();
@@ -188,6 +268,42 @@ isolated function writeVarIntExtern(WritableDataChannel dataChannel, int value)
     'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
 } external;
 
+isolated function writeZigZagVarIntExtern(WritableDataChannel dataChannel, int value) returns Error? = @java:Method {
+    name: "writeZigZagVarInt",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function writeVarIntArrayExtern(WritableDataChannel dataChannel, int[] values) returns Error? = @java:Method {
+    name: "writeVarIntArray",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function writeZigZagVarIntArrayExtern(WritableDataChannel dataChannel, int[] values) returns Error? =
+@java:Method {
+    name: "writeZigZagVarIntArray",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function writeInt32ArrayExtern(WritableDataChannel dataChannel, int[] values) returns Error? = @java:Method {
+    name: "writeInt32Array",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function writeInt64ArrayExtern(WritableDataChannel dataChannel, int[] values) returns Error? = @java:Method {
+    name: "writeInt64Array",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function writeFloat64ArrayExtern(WritableDataChannel dataChannel, float[] values) returns Error? = @java:Method {
+    name: "writeFloat64Array",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
+isolated function flushWritableDataChannelExtern(WritableDataChannel dataChannel) returns Error? = @java:Method {
+    name: "flush",
+    'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
 isolated function closeWritableDataChannelExtern(WritableDataChannel dataChannel) returns Error? = @java:Method {
     name: "closeDataChannel",
     'class: "io.ballerina.stdlib.io.nativeimpl.DataChannelUtils"
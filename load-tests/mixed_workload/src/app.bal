@@ -0,0 +1,45 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/http;
+
+const int MODULUS = 1000000007;
+
+service http:Service /BalPerformance on new http:Listener(9090) {
+
+    resource function get mixed() returns json|error {
+        string[] lines = check io:fileReadLines("resources/lines.txt");
+
+        int checksum = 0;
+        int words = 0;
+        foreach string line in lines {
+            foreach int codePoint in line.toCodePointInts() {
+                checksum = (checksum * 31 + codePoint) % MODULUS;
+                if codePoint == 32 {
+                    words += 1;
+                }
+            }
+            words += 1;
+        }
+
+        return {
+            "No. of lines": lines.length(),
+            "No. of words": words,
+            "Checksum": checksum
+        };
+    }
+}
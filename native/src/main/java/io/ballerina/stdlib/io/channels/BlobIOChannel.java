@@ -35,7 +35,7 @@ public class BlobIOChannel extends Channel {
      * {@inheritDoc}
      */
     @Override
-    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
         throw new UnsupportedOperationException();
     }
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.BufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Coalesces the writes to a channel.
+ * </p>
+ * <p>
+ * Small writes are copied into a staging buffer, which is written to the channel once it holds the flush threshold
+ * of bytes, when it is flushed or when the channel is closed. A write which does not fit into the remaining space of
+ * the staging buffer is written together with the staged bytes through a single gathering write, hence large writes
+ * are not copied. The flush threshold is capped at {@link #MAX_FLUSH_THRESHOLD}, since the staging buffer is a direct
+ * buffer of the size of the threshold.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class CoalescingByteChannel implements ByteChannel {
+
+    /**
+     * The default number of bytes which are staged before they are written to the channel.
+     */
+    public static final int DEFAULT_FLUSH_THRESHOLD = 64 * 1024;
+
+    /**
+     * The maximum number of bytes which are staged, a larger flush threshold is reduced to it.
+     */
+    public static final int MAX_FLUSH_THRESHOLD = BufferPool.MAX_POOLED_SIZE;
+
+    private final WritableByteChannel channel;
+    private final int flushThreshold;
+    private ByteBuffer staging;
+    private long writeCount;
+    private long systemWriteCount;
+
+    /**
+     * Creates a channel which coalesces the writes to the given channel.
+     *
+     * @param channel        the channel the bytes are written to.
+     * @param flushThreshold the number of bytes which are staged before they are written to the channel, at most
+     *                       {@link #MAX_FLUSH_THRESHOLD}.
+     */
+    public CoalescingByteChannel(WritableByteChannel channel, int flushThreshold) {
+        if (flushThreshold < 1) {
+            throw new IllegalArgumentException("The flush threshold should be positive, but found " +
+                    flushThreshold);
+        }
+        this.channel = channel;
+        this.flushThreshold = Math.min(flushThreshold, MAX_FLUSH_THRESHOLD);
+        this.staging = BufferPool.direct().acquire(this.flushThreshold);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+        throw new NonReadableChannelException();
+    }
+
+    @Override
+    public synchronized int write(ByteBuffer src) throws IOException {
+        if (null == staging) {
+            throw new ClosedChannelException();
+        }
+        int length = src.remaining();
+        writeCount++;
+        if (length < staging.remaining()) {
+            staging.put(src);
+            return length;
+        }
+        //The content does not fit, hence the staged bytes and the content are written at once
+        staging.flip();
+        writeFully(new ByteBuffer[]{staging, src});
+        staging.clear().limit(flushThreshold);
+        return length;
+    }
+
+    /**
+     * Writes the staged bytes to the channel.
+     *
+     * @throws IOException errors which occur while writing to the channel.
+     */
+    public synchronized void flush() throws IOException {
+        if (null == staging || staging.position() == 0) {
+            return;
+        }
+        staging.flip();
+        writeFully(new ByteBuffer[]{staging});
+        staging.clear().limit(flushThreshold);
+    }
+
+    private void writeFully(ByteBuffer[] buffers) throws IOException {
+        ByteBuffer last = buffers[buffers.length - 1];
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+            while (last.hasRemaining()) {
+                gatheringChannel.write(buffers);
+                systemWriteCount++;
+            }
+            return;
+        }
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+                systemWriteCount++;
+            }
+        }
+    }
+
+    /**
+     * Provides the number of writes requested through the channel.
+     *
+     * @return the number of writes.
+     */
+    public synchronized long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Provides the number of writes issued to the underlying channel.
+     *
+     * @return the number of writes to the underlying channel.
+     */
+    public synchronized long getSystemWriteCount() {
+        return systemWriteCount;
+    }
+
+    /**
+     * Provides the number of writes to the underlying channel which have been saved through coalescing.
+     *
+     * @return the number of writes saved.
+     */
+    public synchronized long getSavedWriteCount() {
+        return Math.max(0, writeCount - systemWriteCount);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return null != staging && channel.isOpen();
+    }
+
+    /**
+     * Writes the staged bytes and closes the channel.
+     *
+     * @throws IOException errors which occur while writing the staged bytes or closing the channel.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (null == staging) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            BufferPool.direct().release(staging);
+            staging = null;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.Channel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents the channel to write to a file through {@link CoalescingByteChannel}.
+ * </p>
+ * <p>
+ * Writes are staged and written in batches, hence the content is visible in the file only once the channel is
+ * flushed or closed.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class CoalescingIOChannel extends Channel {
+
+    private final CoalescingByteChannel channel;
+    private final Channel target;
+
+    /**
+     * Creates a channel which coalesces the writes to the given channel.
+     *
+     * @param target         the channel the bytes are written to.
+     * @param flushThreshold the number of bytes which are staged before they are written.
+     */
+    public CoalescingIOChannel(Channel target, int flushThreshold) {
+        this(new CoalescingByteChannel(target.getByteChannel(), flushThreshold), target);
+    }
+
+    private CoalescingIOChannel(CoalescingByteChannel channel, Channel target) {
+        super(channel);
+        this.channel = channel;
+        this.target = target;
+    }
+
+    /**
+     * Writes the staged bytes to the file.
+     *
+     * @throws IOException errors which occur while writing to the file.
+     */
+    public void flush() throws IOException {
+        channel.flush();
+    }
+
+    /**
+     * Writes the staged bytes ahead, since the content is written directly to the target channel.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeAt(long position, ByteBuffer content) throws IOException {
+        channel.flush();
+        return target.writeAt(position, content);
+    }
+
+    /**
+     * Provides the size of the target channel including the staged bytes.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() throws IOException {
+        channel.flush();
+        return target.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
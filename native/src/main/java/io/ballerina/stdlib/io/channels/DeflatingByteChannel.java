@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.BufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * Compresses the content, which is written to a channel, in the GZIP or the ZLIB (deflate) format.
+ * </p>
+ * <p>
+ * The compressed bytes are staged in a pooled buffer, which is written to the channel once it is full, when the
+ * channel is flushed or when the channel is closed. The compressed content is completed when the channel is closed.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class DeflatingByteChannel implements ByteChannel {
+
+    /**
+     * The number of compressed bytes, which are staged before they are written to the channel.
+     */
+    public static final int OUTPUT_BUFFER_SIZE = 16384;
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final byte[] NO_INPUT = new byte[0];
+
+    private final WritableByteChannel channel;
+    private final boolean gzip;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer output;
+
+    /**
+     * Creates a channel which compresses the content written to the given channel.
+     *
+     * @param channel the channel the compressed content is written to.
+     * @param gzip    true if the content is compressed in the GZIP format, false if it is in the ZLIB format.
+     */
+    public DeflatingByteChannel(WritableByteChannel channel, boolean gzip) {
+        this.channel = channel;
+        this.gzip = gzip;
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, gzip);
+        this.output = BufferPool.heap().acquire(OUTPUT_BUFFER_SIZE);
+        if (gzip) {
+            output.put(GZIP_HEADER);
+        }
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+        throw new NonReadableChannelException();
+    }
+
+    @Override
+    public synchronized int write(ByteBuffer src) throws IOException {
+        if (null == output) {
+            throw new ClosedChannelException();
+        }
+        int length = src.remaining();
+        if (gzip) {
+            crc.update(src.duplicate());
+        }
+        deflater.setInput(src);
+        while (!deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+        //The deflater should not refer to the buffer of the writer, since it could be reused
+        deflater.setInput(NO_INPUT);
+        return length;
+    }
+
+    private void deflate(int flush) throws IOException {
+        if (!output.hasRemaining()) {
+            drain();
+        }
+        deflater.deflate(output, flush);
+    }
+
+    private void drain() throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        output.clear().limit(OUTPUT_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the content, which has been written so far, to the channel, hence it could be decompressed by a reader.
+     *
+     * @throws IOException errors which occur while writing to the channel.
+     */
+    public synchronized void flush() throws IOException {
+        if (null == output) {
+            return;
+        }
+        do {
+            deflate(Deflater.SYNC_FLUSH);
+        } while (!output.hasRemaining());
+        drain();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return null != output && channel.isOpen();
+    }
+
+    /**
+     * Completes the compressed content and closes the channel.
+     *
+     * @throws IOException errors which occur while writing the compressed content or closing the channel.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (null == output) {
+            return;
+        }
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+            if (gzip) {
+                writeTrailer();
+            }
+            drain();
+        } finally {
+            BufferPool.heap().release(output);
+            output = null;
+            deflater.end();
+            channel.close();
+        }
+    }
+
+    private void writeTrailer() throws IOException {
+        if (output.remaining() < 8) {
+            drain();
+        }
+        writeInt((int) crc.getValue());
+        writeInt((int) deflater.getBytesRead());
+    }
+
+    private void writeInt(int value) {
+        for (int i = 0; i < 4; i++) {
+            output.put((byte) (value >>> (i * 8)));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.Channel;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents the channel to write the compressed content of a file through {@link DeflatingByteChannel}.
+ * </p>
+ * <p>
+ * The compressed content is complete only once the channel is closed.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class DeflatingIOChannel extends Channel {
+
+    private final DeflatingByteChannel channel;
+
+    /**
+     * Creates a channel which compresses the content written to the given channel.
+     *
+     * @param target the channel the compressed content is written to.
+     * @param gzip   true if the content is compressed in the GZIP format, false if it is in the ZLIB format.
+     */
+    public DeflatingIOChannel(Channel target, boolean gzip) {
+        this(new DeflatingByteChannel(target.getByteChannel(), gzip));
+    }
+
+    private DeflatingIOChannel(DeflatingByteChannel channel) {
+        super(channel);
+        this.channel = channel;
+    }
+
+    /**
+     * Writes the content, which has been written so far, to the file.
+     *
+     * @throws IOException errors which occur while writing to the file.
+     */
+    public void flush() throws IOException {
+        channel.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
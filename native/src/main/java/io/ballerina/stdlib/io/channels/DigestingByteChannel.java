@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.utils.ContentDigest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+
+/**
+ * <p>
+ * Computes the digest of the bytes, which are read from or written to a channel.
+ * </p>
+ * <p>
+ * The digest is updated with the bytes as they pass through the channel, hence the content is not read again in
+ * order to compute its digest.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class DigestingByteChannel implements ByteChannel {
+
+    private final ByteChannel channel;
+    private final ContentDigest digest;
+
+    /**
+     * Creates a channel which computes the digest of the bytes passing through the given channel.
+     *
+     * @param channel the channel the bytes are read from or written to.
+     * @param digest  the digest which is updated with the bytes.
+     */
+    public DigestingByteChannel(ByteChannel channel, ContentDigest digest) {
+        this.channel = channel;
+        this.digest = digest;
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        int start = dst.position();
+        int read = channel.read(dst);
+        if (read > 0) {
+            ByteBuffer content = dst.duplicate();
+            content.limit(start + read);
+            content.position(start);
+            digest.update(content);
+        }
+        return read;
+    }
+
+    @Override
+    public synchronized int write(ByteBuffer src) throws IOException {
+        ByteBuffer content = src.duplicate();
+        int written = channel.write(src);
+        if (written > 0) {
+            content.limit(content.position() + written);
+            digest.update(content);
+        }
+        return written;
+    }
+
+    /**
+     * Provides the digest of the bytes, which have passed through the channel so far.
+     *
+     * @return the value of the digest.
+     */
+    public synchronized byte[] digest() {
+        return digest.value();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
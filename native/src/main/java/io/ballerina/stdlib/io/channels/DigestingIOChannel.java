@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.Channel;
+import io.ballerina.stdlib.io.utils.ContentDigest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents the channel to read or write a file through {@link DigestingByteChannel}.
+ * </p>
+ * <p>
+ * The digest covers the bytes read from or written to the file through the channel. Positional reads are passed to
+ * the file, but they are not included in the digest.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class DigestingIOChannel extends Channel {
+
+    private final DigestingByteChannel channel;
+    private final Channel target;
+
+    /**
+     * Creates a channel which computes the digest of the bytes passing through the given channel.
+     *
+     * @param target the channel of the file.
+     * @param digest the digest which is updated with the bytes.
+     */
+    public DigestingIOChannel(Channel target, ContentDigest digest) {
+        this(new DigestingByteChannel(target.getByteChannel(), digest), target);
+    }
+
+    private DigestingIOChannel(DigestingByteChannel channel, Channel target) {
+        super(channel);
+        this.channel = channel;
+        this.target = target;
+        setReadable(target.isReadable());
+    }
+
+    /**
+     * Provides the digest of the bytes, which have passed through the channel so far. The digest is also available
+     * once the channel is closed.
+     *
+     * @return the value of the digest.
+     */
+    public byte[] digest() {
+        return channel.digest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readAt(long position, ByteBuffer buffer) throws IOException {
+        return target.readAt(position, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() throws IOException {
+        return target.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
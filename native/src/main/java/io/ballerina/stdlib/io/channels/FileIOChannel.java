@@ -21,6 +21,7 @@ import io.ballerina.stdlib.io.channels.base.Channel;
 import io.ballerina.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -47,14 +48,82 @@ public class FileIOChannel extends Channel {
      * {@inheritDoc}
      */
     @Override
-    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
         try {
-            channel.transferTo(position, count, dstChannel);
+            return IOUtils.transferFull(channel, position, count, dstChannel);
         } catch (IOException e) {
             throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
         }
     }
 
+    /**
+     * Transfers the file content from the current position of the file to the specified destination.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long position = channel.position();
+        long transferred = transfer(position, Math.max(0, channel.size() - position), dstChannel);
+        channel.position(position + transferred);
+        return transferred;
+    }
+
+    @Override
+    public int readAt(long position, ByteBuffer buffer) throws IOException {
+        return IOUtils.readFullAt(channel, position, buffer);
+    }
+
+    /**
+     * Writes at the given position of the file, the position is not honoured by some platforms if the file has been
+     * opened to append.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeAt(long position, ByteBuffer content) throws IOException {
+        return IOUtils.writeFullAt(channel, position, content);
+    }
+
+    @Override
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Provides the number of bytes between the current position and the end of the file.
+     *
+     * @return the number of bytes which have not been read.
+     * @throws IOException during I/O error.
+     */
+    public long getRemainingSize() throws IOException {
+        return Math.max(0, channel.size() - channel.position());
+    }
+
+    /**
+     * Reads the file from the current position into the given array through positional reads, the array is filled
+     * unless the file ends.
+     *
+     * @param content the array which should hold the content.
+     * @param offset  the index of the array the first byte should be placed at.
+     * @return the number of bytes read.
+     * @throws IOException during I/O error.
+     */
+    public int readFully(byte[] content, int offset) throws IOException {
+        long position = channel.position();
+        ByteBuffer buffer = ByteBuffer.wrap(content, offset, content.length - offset);
+        int numberOfBytesRead = 0;
+        while (buffer.hasRemaining()) {
+            int nBytesRead = channel.read(buffer, position + numberOfBytesRead);
+            if (nBytesRead < 0) {
+                break;
+            }
+            numberOfBytesRead += nBytesRead;
+        }
+        channel.position(position + numberOfBytesRead);
+        return numberOfBytesRead;
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
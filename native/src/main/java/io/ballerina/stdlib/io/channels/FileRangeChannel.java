@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>
+ * Reads a range of bytes from a file.
+ * </p>
+ * <p>
+ * Content is read through positional reads, hence several range channels could share the same file channel and be
+ * read concurrently. Closing the range channel will not close the underlying file channel.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class FileRangeChannel implements ReadableByteChannel {
+
+    private final FileChannel channel;
+    private long position;
+    private final long end;
+    private boolean open = true;
+
+    /**
+     * Creates a channel which reads the content between the given positions.
+     *
+     * @param channel the file channel shared between ranges.
+     * @param start   the position of the first byte of the range.
+     * @param end     the position after the last byte of the range.
+     */
+    public FileRangeChannel(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        long remaining = end - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        ByteBuffer target = dst;
+        if (dst.remaining() > remaining) {
+            target = dst.slice();
+            target.limit((int) remaining);
+        }
+        int numberOfBytesRead = channel.read(target, position);
+        if (numberOfBytesRead > 0) {
+            position += numberOfBytesRead;
+            if (target != dst) {
+                dst.position(dst.position() + numberOfBytesRead);
+            }
+        }
+        return numberOfBytesRead;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open && channel.isOpen();
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+}
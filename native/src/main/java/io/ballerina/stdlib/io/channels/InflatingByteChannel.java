@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.BufferPool;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * <p>
+ * Decompresses the content of a channel, which is compressed in the GZIP or the ZLIB (deflate) format.
+ * </p>
+ * <p>
+ * The compressed bytes are read into a pooled buffer, which is reused for all the reads of the channel, and are
+ * inflated directly into the buffer of the reader. A GZIP file which consists of several members, i.e. the content
+ * of a file which has been appended to, is read as a single content.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class InflatingByteChannel implements ByteChannel {
+
+    /**
+     * The number of compressed bytes, which are read from the channel at once.
+     */
+    public static final int INPUT_BUFFER_SIZE = 16384;
+
+    static final int GZIP_MAGIC = 0x8b1f;
+    private static final int DEFLATE_METHOD = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final ReadableByteChannel channel;
+    private final boolean gzip;
+    private final Inflater inflater;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer input;
+    private boolean memberStarted;
+    private boolean finished;
+
+    /**
+     * Creates a channel which decompresses the content of the given channel.
+     *
+     * @param channel the channel which provides the compressed content.
+     * @param gzip    true if the content is in the GZIP format, false if it is in the ZLIB format.
+     */
+    public InflatingByteChannel(ReadableByteChannel channel, boolean gzip) {
+        this.channel = channel;
+        this.gzip = gzip;
+        this.inflater = new Inflater(gzip);
+        this.input = BufferPool.heap().acquire(INPUT_BUFFER_SIZE);
+        this.input.flip();
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        if (null == input) {
+            throw new ClosedChannelException();
+        }
+        if (finished) {
+            return -1;
+        }
+        if (!memberStarted) {
+            startMember(true);
+        }
+        int total = 0;
+        while (dst.hasRemaining() && !finished) {
+            if (inflater.needsInput()) {
+                if (total > 0) {
+                    //Bytes are returned without waiting for more compressed content
+                    break;
+                }
+                if (!fill()) {
+                    throw new EOFException("Unexpected end of the compressed content");
+                }
+                inflater.setInput(input);
+            }
+            int inflated = inflate(dst);
+            total += inflated;
+            if (inflater.finished()) {
+                endMember();
+            } else if (inflated == 0 && inflater.needsDictionary()) {
+                throw new ZipException("The compressed content requires a preset dictionary");
+            }
+        }
+        return total == 0 && finished ? -1 : total;
+    }
+
+    private int inflate(ByteBuffer dst) throws IOException {
+        int start = dst.position();
+        try {
+            inflater.inflate(dst);
+        } catch (DataFormatException e) {
+            throw new ZipException("Invalid compressed content: " + e.getMessage());
+        }
+        int inflated = dst.position() - start;
+        if (gzip && inflated > 0) {
+            ByteBuffer content = dst.duplicate();
+            content.limit(dst.position());
+            content.position(start);
+            crc.update(content);
+        }
+        return inflated;
+    }
+
+    /**
+     * Reads the header of a GZIP member.
+     *
+     * @param first whether this is the first member of the content.
+     * @throws IOException if the header is not valid.
+     */
+    private void startMember(boolean first) throws IOException {
+        memberStarted = true;
+        if (!gzip) {
+            inflater.setInput(input);
+            return;
+        }
+        if (!first && !input.hasRemaining() && !fill()) {
+            finished = true;
+            return;
+        }
+        if ((readUnsignedByte() | readUnsignedByte() << 8) != GZIP_MAGIC) {
+            throw new ZipException("The content is not in the GZIP format");
+        }
+        if (readUnsignedByte() != DEFLATE_METHOD) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUnsignedByte();
+        //Modification time, extra flags and operating system
+        skip(6);
+        if ((flags & FEXTRA) != 0) {
+            skip(readUnsignedByte() | readUnsignedByte() << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            skipString();
+        }
+        if ((flags & FCOMMENT) != 0) {
+            skipString();
+        }
+        if ((flags & FHCRC) != 0) {
+            skip(2);
+        }
+        inflater.reset();
+        crc.reset();
+        inflater.setInput(input);
+    }
+
+    /**
+     * Verifies the trailer of a GZIP member and starts the next member if there is one.
+     *
+     * @throws IOException if the content does not match the trailer.
+     */
+    private void endMember() throws IOException {
+        if (!gzip) {
+            finished = true;
+            return;
+        }
+        long checksum = readUnsignedInt();
+        long size = readUnsignedInt();
+        if (checksum != crc.getValue()) {
+            throw new ZipException("Corrupt GZIP content, the checksum does not match");
+        }
+        if (size != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP content, the size does not match");
+        }
+        startMember(false);
+    }
+
+    private boolean fill() throws IOException {
+        input.compact();
+        int read;
+        try {
+            do {
+                read = channel.read(input);
+            } while (read == 0 && input.hasRemaining());
+        } finally {
+            input.flip();
+        }
+        return read > 0;
+    }
+
+    private int readUnsignedByte() throws IOException {
+        if (!input.hasRemaining() && !fill()) {
+            throw new EOFException("Unexpected end of the compressed content");
+        }
+        return input.get() & 0xff;
+    }
+
+    private long readUnsignedInt() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            value |= (long) readUnsignedByte() << (i * 8);
+        }
+        return value;
+    }
+
+    private void skip(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readUnsignedByte();
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (readUnsignedByte() != 0) {
+            //The zero terminated string is skipped
+        }
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return null != input && channel.isOpen();
+    }
+
+    /**
+     * Releases the buffer and the inflater, and closes the channel.
+     *
+     * @throws IOException errors which occur while closing the channel.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (null == input) {
+            return;
+        }
+        BufferPool.heap().release(input);
+        input = null;
+        inflater.end();
+        channel.close();
+    }
+}
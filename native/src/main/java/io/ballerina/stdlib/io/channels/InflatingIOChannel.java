@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.Channel;
+import io.ballerina.stdlib.io.utils.IOConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents the channel to read the decompressed content of a file through {@link InflatingByteChannel}.
+ * </p>
+ * <p>
+ * The channel could be read through a character channel and a record channel as any other channel.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class InflatingIOChannel extends Channel {
+
+    /**
+     * Creates a channel which decompresses the content of the given channel.
+     *
+     * @param source the channel which provides the compressed content.
+     * @param gzip   true if the content is in the GZIP format, false if it is in the ZLIB format.
+     */
+    public InflatingIOChannel(Channel source, boolean gzip) {
+        super(new InflatingByteChannel(source.getByteChannel(), gzip));
+        setReadable(true);
+    }
+
+    /**
+     * <p>
+     * Detects the compression format of a file through the magic bytes at the beginning of the file.
+     * </p>
+     * <p>
+     * The ZLIB format is detected only through the headers written with the default and the best compression levels
+     * (0x78 0x9C and 0x78 0xDA), since the header is two bytes long and a text could begin with other valid headers,
+     * e.g. the header of the low compression levels (0x78 0x5E) is the text "x^". Such content should be read by
+     * specifying the format.
+     * </p>
+     *
+     * @param channel the channel of the file, which should support positional reads.
+     * @return the compression format, NONE if the file is not compressed.
+     * @throws IOException errors which occur while reading the file.
+     */
+    public static IOConstants.Compression detect(Channel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(2);
+        if (channel.readAt(0, magic) < 2) {
+            return IOConstants.Compression.NONE;
+        }
+        int first = magic.get(0) & 0xff;
+        int second = magic.get(1) & 0xff;
+        if ((first | second << 8) == InflatingByteChannel.GZIP_MAGIC) {
+            return IOConstants.Compression.GZIP;
+        }
+        if (first == 0x78 && (second == 0x9c || second == 0xda)) {
+            return IOConstants.Compression.DEFLATE;
+        }
+        return IOConstants.Compression.NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+
+/**
+ * <p>
+ * Reads a range of bytes from a file through a memory mapping.
+ * </p>
+ * <p>
+ * The range is mapped as a sequence of windows, each of them at most {@link #DEFAULT_WINDOW_SIZE} bytes, hence files
+ * larger than 2 GB are read by remapping the next window once the current one is exhausted. Content is only copied
+ * from the mapping to the buffers given by the consumer, the mapped memory itself is never handed out. Therefore
+ * closing the channel drops the mapping without an explicit unmap, which could not be done safely while a view of
+ * the mapped memory is reachable, and the mapping is released by the garbage collector.
+ * </p>
+ * <p>
+ * Similar to {@link FileRangeChannel}, closing the mapped channel will not close the underlying file channel.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class MappedByteChannel implements ByteChannel {
+
+    /**
+     * The maximum number of bytes which are mapped at once.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long end;
+    private final int windowSize;
+    private long position;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean open = true;
+
+    /**
+     * Creates a channel which reads the content between the given positions.
+     *
+     * @param channel the file channel which is mapped.
+     * @param start   the position of the first byte of the range.
+     * @param end     the position after the last byte of the range.
+     */
+    public MappedByteChannel(FileChannel channel, long start, long end) {
+        this(channel, start, end, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a channel which reads the content between the given positions.
+     *
+     * @param channel    the file channel which is mapped.
+     * @param start      the position of the first byte of the range.
+     * @param end        the position after the last byte of the range.
+     * @param windowSize the maximum number of bytes which are mapped at once.
+     */
+    public MappedByteChannel(FileChannel channel, long start, long end, int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The window size should be positive, but found " + windowSize);
+        }
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        if (position >= end) {
+            return -1;
+        }
+        int numberOfBytesRead = 0;
+        while (dst.hasRemaining() && position < end) {
+            ByteBuffer source = getWindow();
+            int offset = (int) (position - windowStart);
+            int length = (int) Math.min(dst.remaining(), source.limit() - offset);
+            source.limit(offset + length).position(offset);
+            dst.put(source);
+            position += length;
+            numberOfBytesRead += length;
+        }
+        return numberOfBytesRead;
+    }
+
+    /**
+     * Reads the remaining content of the range at once.
+     *
+     * @return the remaining content.
+     * @throws IOException if the channel is closed or the remaining content does not fit into an array.
+     */
+    public byte[] readRemaining() throws IOException {
+        long remaining = Math.max(0, end - position);
+        if (remaining > Integer.MAX_VALUE - 8) {
+            throw new IOException("The content is too large to be read at once, " + remaining + " bytes remain");
+        }
+        byte[] content = new byte[(int) remaining];
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            if (read(buffer) <= 0) {
+                break;
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Provides the position of the next byte which is read.
+     *
+     * @return the position in the file.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Moves the position of the next byte which is read, the window is mapped again on the next read if the
+     * position is outside of it.
+     *
+     * @param newPosition the position in the file, a position after the range ends the channel.
+     */
+    public void position(long newPosition) {
+        position = Math.min(newPosition, end);
+    }
+
+    /**
+     * Provides the position after the last byte of the range.
+     *
+     * @return the end of the range in the file.
+     */
+    public long end() {
+        return end;
+    }
+
+    /**
+     * Provides a view of the window which contains the current position, the next window is mapped if the current
+     * one is exhausted.
+     */
+    private ByteBuffer getWindow() throws IOException {
+        if (null == window || position < windowStart || position >= windowStart + window.capacity()) {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(end - position, windowSize));
+        }
+        return window.duplicate();
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open && channel.isOpen();
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        window = null;
+    }
+}
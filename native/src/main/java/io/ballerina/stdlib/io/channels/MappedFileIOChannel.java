@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.Channel;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents the channel to read a file through a memory mapping.
+ * </p>
+ * <p>
+ * Reads are served from the mapping through {@link MappedByteChannel} instead of a system call per read, which
+ * suits read mostly workloads on large local files. The file should not be truncated while it is mapped.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class MappedFileIOChannel extends Channel {
+
+    private final FileChannel channel;
+    private final MappedByteChannel mappedChannel;
+
+    public MappedFileIOChannel(FileChannel channel) throws IOException {
+        this(channel, new MappedByteChannel(channel, 0, channel.size()));
+    }
+
+    private MappedFileIOChannel(FileChannel channel, MappedByteChannel mappedChannel) {
+        super(mappedChannel);
+        this.channel = channel;
+        this.mappedChannel = mappedChannel;
+    }
+
+    /**
+     * Reads the content which has not been read yet with a single copy from the mapping.
+     *
+     * @return the remaining content of the file.
+     * @throws IOException during I/O error.
+     */
+    public byte[] readRemaining() throws IOException {
+        return mappedChannel.readRemaining();
+    }
+
+    /**
+     * Transfer file content to the specified destination.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
+        try {
+            return IOUtils.transferFull(channel, position, count, dstChannel);
+        } catch (IOException e) {
+            throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Transfers the file content which has not been read from the mapping to the specified destination.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long position = mappedChannel.position();
+        long transferred = transfer(position, Math.max(0, mappedChannel.end() - position), dstChannel);
+        mappedChannel.position(position + transferred);
+        return transferred;
+    }
+
+    @Override
+    public int readAt(long position, ByteBuffer buffer) throws IOException {
+        return IOUtils.readFullAt(channel, position, buffer);
+    }
+
+    @Override
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+
+    /**
+     * Drops the mapping and closes the file.
+     *
+     * @throws IOException errors occur while closing the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            channel.close();
+        }
+    }
+}
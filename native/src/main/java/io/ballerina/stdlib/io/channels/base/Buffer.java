@@ -28,16 +28,30 @@ import java.nio.ByteBuffer;
  * necessary to return the required amount of bytes.
  * </p>
  * <p>
- * Buffer also focuses on offering the capability to get bytes through multiple channels and place into one.
+ * Bytes are read ahead into a single backing buffer, which is compacted before it is refilled. Requested bytes are
+ * handed out as a view of the backing buffer instead of a copy, hence once the backing buffer is large enough for the
+ * requests no further allocation is made.
+ * </p>
+ * <p>
+ * The backing buffer is borrowed from {@link BufferPool#heap()} and it is returned through {@link #release()}.
  * </p>
  */
 public class Buffer {
 
     /**
      * Contains the buffer instance which will be wrapped.
+     * <p>
+     * The buffer is kept ready to be read, the position marks the next byte to be handed out and the limit marks the
+     * end of the bytes read from the channel.
+     * </p>
      */
     private ByteBuffer byteBuffer;
 
+    /**
+     * The view of the backing buffer, which is handed out, this is reused until the backing buffer is re-allocated.
+     */
+    private ByteBuffer view;
+
     /**
      * <p>
      * This is used for performance reasons, specified the minimum byte count which should be read from channel.
@@ -49,33 +63,16 @@ public class Buffer {
      */
     private int minimumSizeOfBuffer;
 
+    /**
+     * The maximum number of bytes which are read ahead, this is the largest number of bytes requested so far.
+     */
+    private int readAheadSize;
+
     public Buffer(int minimumSizeOfBuffer) {
         this.minimumSizeOfBuffer = minimumSizeOfBuffer;
         this.byteBuffer = null;
     }
 
-    /**
-     * <p>
-     * Returns a ByteBuffer which will contain any remaining bytes left in the previous read.
-     * </p>
-     * <p>
-     * This operation will not guarantee a return of all the bytes required. This will return bytes if any is
-     * available in the buffer.
-     * </p>
-     * <p>
-     * The operation will return null if none of the bytes are remaining in the buffer.
-     * </p>
-     *
-     * @return new ByteBuffer which will contain bytes which are remaining.
-     */
-    private ByteBuffer remainingContent() {
-        ByteBuffer remainingContent = null;
-        if (null != byteBuffer) {
-            remainingContent = byteBuffer.slice();
-        }
-        return remainingContent;
-    }
-
     /**
      * <p>
      * Will allocate a buffer for the specified size.
@@ -92,34 +89,50 @@ public class Buffer {
         if (size < minimumSizeOfBuffer) {
             size = minimumSizeOfBuffer;
         }
-        return ByteBuffer.allocate(size);
+        return BufferPool.heap().acquire(size);
     }
 
     /**
      * <p>
-     * Resize the buffer for the specified size.
+     * Makes room for the specified number of bytes.
      * </p>
      * <p>
-     * If a larger buffer was selected
+     * The bytes which are not handed out yet are moved to the beginning of the backing buffer, the backing buffer is
+     * only re-allocated if it is smaller than the specified size. The buffer is limited to the largest number of
+     * bytes requested so far, since a pooled buffer could be larger than the bytes which should be read ahead.
      * </p>
      *
-     * @param srcBuffer             buffer which requires resizing.
-     * @param requiredNumberOfBytes the number of bytes which should be in the buffer.
-     * @return the buffer which is resized.
+     * @param requiredNumberOfBytes the number of bytes which should fit into the buffer.
      */
-    private ByteBuffer resize(ByteBuffer srcBuffer, int requiredNumberOfBytes) {
-        srcBuffer.flip();
-        int totalBytesRead = srcBuffer.limit();
-        if (totalBytesRead > requiredNumberOfBytes) {
-            //If the size exceeds the required amount we need to narrow it down
-            srcBuffer.limit(requiredNumberOfBytes);
+    private void compact(int requiredNumberOfBytes) {
+        readAheadSize = Math.max(readAheadSize, Math.max(requiredNumberOfBytes, minimumSizeOfBuffer));
+        if (null == byteBuffer) {
+            byteBuffer = allocate(readAheadSize);
+            view = byteBuffer.duplicate();
+        } else if (byteBuffer.capacity() < readAheadSize) {
+            ByteBuffer resizedBuffer = allocate(readAheadSize);
+            resizedBuffer.put(byteBuffer);
+            BufferPool.heap().release(byteBuffer);
+            byteBuffer = resizedBuffer;
+            view = byteBuffer.duplicate();
+        } else {
+            byteBuffer.compact();
+            byteBuffer.limit(readAheadSize);
         }
-        ByteBuffer resizedBuffer = srcBuffer.slice();
-        //After slicing we rest the limit
-        srcBuffer.limit(totalBytesRead);
-        //We need to move the cursor forward of the main buffer and mark it as read
-        srcBuffer.position(resizedBuffer.capacity());
-        return resizedBuffer;
+    }
+
+    /**
+     * <p>
+     * Returns the backing buffer to the pool.
+     * </p>
+     * <p>
+     * The bytes which are not handed out yet are discarded, the buffer could be used again afterwards.
+     * </p>
+     */
+    public void release() {
+        BufferPool.heap().release(byteBuffer);
+        byteBuffer = null;
+        view = null;
     }
 
     /**
@@ -130,7 +143,8 @@ public class Buffer {
      * This will reverse the un-processed bytes so that these bytes could be re-read.
      * </p>
      * <p>
-     * Reverse will start from the current buffers read position and will go all the way to the position '0'.
+     * Reverse will start from the current buffers read position and will go all the way to the position '0'. The
+     * bytes handed out by the last {@link #get(int, Channel)} could always be reversed.
      * </p>
      *
      * @param count the number of bytes which should be reversed.
@@ -152,46 +166,6 @@ public class Buffer {
         }
     }
 
-    /**
-     * <p>
-     * Deep copies a byte buffer with it's underlying array.
-     * </p>
-     *
-     * @param srcBuffer the source buffer which should be copied.
-     * @return the buffer which is duplicated.
-     */
-    private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
-        srcBuffer.rewind();
-        dstBuffer.put(srcBuffer);
-        srcBuffer.rewind();
-        dstBuffer.flip();
-        return dstBuffer;
-    }
-
-    /**
-     * <p>
-     * Retrieves the required content from the existing buffer.
-     * </p>
-     * <p>
-     * In this case it will not be required to do another channel call.
-     * </p>
-     *
-     * @param numberOfBytesRequested number of bytes required.
-     * @param content                buffer which holds the content.
-     * @return buffer which contains the required amount of bytes.
-     */
-    private ByteBuffer copyRemainingContent(int numberOfBytesRequested, ByteBuffer content) {
-        //If there is excess bytes we need only a sub-set of them
-        int capacity;
-        content.limit(numberOfBytesRequested);
-        ByteBuffer slicedBuffer = content.slice();
-        capacity = slicedBuffer.capacity();
-        int offset = slicedBuffer.arrayOffset();
-        byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
-    }
-
     /**
      * <p>
      * Get readable byte buffer.
@@ -202,41 +176,33 @@ public class Buffer {
      * maximum available bytes will be returned.
      * </p>
      * <p>
-     * If bytes have being read previously through the buffer and the requested amount of bytes exceed the capacity
-     * of the current buffer. The buffer will be re-sized.
+     * If the requested amount of bytes exceed the capacity of the current buffer. The buffer will be re-sized.
      * </p>
      * <p>
-     * The operation will return slice of the bytes requested. The size of the buffer returned would be =
-     * numberOfBytesRequested. If numberOfBytesRequested &lt; minimumSizeOfBuffer the size of the buffer will be
-     * minimumSizeOfBuffer
+     * The operation will return a view of the bytes requested, where the remaining bytes of the view would be &lt;=
+     * numberOfBytesRequested. The view shares the content of the buffer, it should not be modified and it is only
+     * valid until the next call to this operation. A caller which retains the bytes should copy them.
      * </p>
      *
      * @param numberOfBytesRequested number of bytes requested from the buffer.
      * @param channel                byte channel which will perform I/O ops necessary for reading.
-     * @return buffer which will contain bytes &gt;= numberOfBytesRequested
+     * @return view of the buffer which will contain bytes &lt;= numberOfBytesRequested
      * @throws IOException errors which occur while reading from the channel.
      */
     public ByteBuffer get(int numberOfBytesRequested, Channel channel) throws IOException {
-        ByteBuffer remainingContent = remainingContent();
-        if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
-            return copyRemainingContent(numberOfBytesRequested, remainingContent);
-        } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
-            if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
-            } else {
-                //In this case we re-allocate
-                byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+        if (null == byteBuffer || byteBuffer.remaining() < numberOfBytesRequested) {
+            compact(numberOfBytesRequested);
+            try {
+                channel.read(byteBuffer);
+            } finally {
+                byteBuffer.flip();
             }
-            channel.read(byteBuffer);
-            return resize(byteBuffer, numberOfBytesRequested);
         }
+        int start = byteBuffer.position();
+        int end = start + Math.min(numberOfBytesRequested, byteBuffer.remaining());
+        byteBuffer.position(end);
+        view.limit(end);
+        view.position(start);
+        return view;
     }
-
 }
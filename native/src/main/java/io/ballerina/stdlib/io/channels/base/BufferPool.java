@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels.base;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Pool of byte buffers, which are shared across channels.
+ * </p>
+ * <p>
+ * Buffers are pooled in size classes of powers of two between {@link #MIN_POOLED_SIZE} and {@link #MAX_POOLED_SIZE},
+ * a request is served with a buffer of the smallest class which fits the request. The buffers are shared between
+ * threads rather than cached per thread, since the operations of channels run on short lived virtual threads and a
+ * buffer is often released on a thread other than the one which acquired it. The memory retained by the pool is
+ * bounded, a buffer which is released once the bound is reached is left to the garbage collector.
+ * </p>
+ * <p>
+ * A buffer should be released only once and it should not be used after it is released.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public final class BufferPool {
+
+    /**
+     * The size of the smallest class of buffers.
+     */
+    public static final int MIN_POOLED_SIZE = 512;
+
+    /**
+     * The size of the largest class of buffers, larger buffers are allocated for each request.
+     */
+    public static final int MAX_POOLED_SIZE = 1024 * 1024;
+
+    /**
+     * The maximum number of bytes retained by each of the shared pools.
+     */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 32L * 1024 * 1024;
+
+    private static final int MIN_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_SIZE);
+    private static final int NUMBER_OF_CLASSES = Integer.numberOfTrailingZeros(MAX_POOLED_SIZE) - MIN_CLASS_SHIFT + 1;
+
+    private static final BufferPool HEAP = new BufferPool(false, DEFAULT_MAX_RETAINED_BYTES);
+    private static final BufferPool DIRECT = new BufferPool(true, DEFAULT_MAX_RETAINED_BYTES);
+
+    private final boolean direct;
+    private final long maxRetainedBytes;
+    private final ConcurrentLinkedQueue<ByteBuffer>[] sharedBuffers;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a pool.
+     *
+     * @param direct           whether the pool holds direct buffers instead of heap buffers.
+     * @param maxRetainedBytes the maximum number of bytes retained by the pool.
+     */
+    @SuppressWarnings("unchecked")
+    public BufferPool(boolean direct, long maxRetainedBytes) {
+        this.direct = direct;
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.sharedBuffers = new ConcurrentLinkedQueue[NUMBER_OF_CLASSES];
+        for (int i = 0; i < NUMBER_OF_CLASSES; i++) {
+            sharedBuffers[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Provides the pool of heap buffers, which are backed by an accessible array.
+     *
+     * @return the shared pool of heap buffers.
+     */
+    public static BufferPool heap() {
+        return HEAP;
+    }
+
+    /**
+     * Provides the pool of direct buffers, which suit I/O against channels backed by the operating system.
+     *
+     * @return the shared pool of direct buffers.
+     */
+    public static BufferPool direct() {
+        return DIRECT;
+    }
+
+    /**
+     * <p>
+     * Acquires a buffer for the specified number of bytes.
+     * </p>
+     * <p>
+     * The position of the buffer is 0 and the limit is the specified size, the capacity could be larger than the
+     * size. The content of the buffer is not cleared.
+     * </p>
+     *
+     * @param size the number of bytes required.
+     * @return the buffer.
+     */
+    public ByteBuffer acquire(int size) {
+        int sizeClass = getSizeClass(size);
+        ByteBuffer buffer = null;
+        if (sizeClass < NUMBER_OF_CLASSES) {
+            buffer = sharedBuffers[sizeClass].poll();
+        }
+        if (null == buffer) {
+            misses.incrementAndGet();
+            buffer = allocate(sizeClass < NUMBER_OF_CLASSES ? MIN_POOLED_SIZE << sizeClass : size);
+        } else {
+            hits.incrementAndGet();
+            retainedBytes.addAndGet(-buffer.capacity());
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * <p>
+     * Releases a buffer, which was acquired from the pool.
+     * </p>
+     * <p>
+     * A buffer which does not belong to a size class of the pool is ignored.
+     * </p>
+     *
+     * @param buffer the buffer which is released, could be null.
+     */
+    public void release(ByteBuffer buffer) {
+        if (null == buffer || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+        int capacity = buffer.capacity();
+        int sizeClass = getSizeClass(capacity);
+        if (sizeClass >= NUMBER_OF_CLASSES || (MIN_POOLED_SIZE << sizeClass) != capacity) {
+            return;
+        }
+        if (retainedBytes.addAndGet(capacity) > maxRetainedBytes) {
+            retainedBytes.addAndGet(-capacity);
+            return;
+        }
+        sharedBuffers[sizeClass].offer(buffer);
+    }
+
+    /**
+     * Provides the number of requests, which were served with a pooled buffer.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Provides the number of requests, which required a new buffer to be allocated.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Provides the number of bytes held by the buffers, which are pooled.
+     *
+     * @return the number of retained bytes.
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Identifies the index of the smallest size class, which fits the given size.
+     */
+    private static int getSizeClass(int size) {
+        if (size <= MIN_POOLED_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_CLASS_SHIFT;
+    }
+}
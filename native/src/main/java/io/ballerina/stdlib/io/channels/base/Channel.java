@@ -37,6 +37,11 @@ import java.nio.channels.WritableByteChannel;
  * </p>
  */
 public abstract class Channel implements IOChannel {
+    /**
+     * The size of the buffer which copies the bytes when they could not be transferred directly.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 16384;
+
     /**
      * Will be used to read/write bytes to/from channels.
      */
@@ -72,9 +77,85 @@ public abstract class Channel implements IOChannel {
      * @param position   starting position of the bytes to be transferred.
      * @param count      number of bytes to be transferred.
      * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
      * @throws IOException during I/O error.
      */
-    public abstract void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException;
+    public abstract long transfer(long position, long count, WritableByteChannel dstChannel) throws IOException;
+
+    /**
+     * <p>
+     * Transfers the bytes which have not been read yet to the given channel.
+     * </p>
+     * <p>
+     * The bytes are copied through a pooled buffer, channels which are backed by a file override this to transfer
+     * the bytes directly from the OS cache.
+     * </p>
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        ByteBuffer buffer = BufferPool.heap().acquire(TRANSFER_BUFFER_SIZE);
+        long transferred = 0;
+        try {
+            while (!hasReachedEnd()) {
+                read(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += dstChannel.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+        return transferred;
+    }
+
+    /**
+     * <p>
+     * Reads bytes from the given position without changing the position of the channel.
+     * </p>
+     * <p>
+     * Only channels which are backed by a file support this, the reads could be performed concurrently.
+     * </p>
+     *
+     * @param position the position of the first byte which should be read.
+     * @param buffer   the buffer which will hold the content, it is filled unless the channel ends.
+     * @return the number of bytes read, -1 if the position is at or after the end of the channel.
+     * @throws IOException during I/O error.
+     */
+    public int readAt(long position, ByteBuffer buffer) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * <p>
+     * Writes bytes at the given position without changing the position of the channel.
+     * </p>
+     * <p>
+     * Only channels which are backed by a file support this.
+     * </p>
+     *
+     * @param position the position the first byte should be written at.
+     * @param content  the buffer which holds the content, the whole content is written.
+     * @return the number of bytes written.
+     * @throws IOException during I/O error.
+     */
+    public int writeAt(long position, ByteBuffer content) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Provides the size of the channel. Only channels which are backed by a file support this.
+     *
+     * @return the number of bytes of the channel.
+     * @throws IOException during I/O error.
+     */
+    public long size() throws IOException {
+        throw new UnsupportedOperationException();
+    }
 
     /**
      * Returns the hashcode of the channel as the id.
@@ -26,6 +26,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 
 
@@ -49,6 +50,11 @@ public class CharacterChannel implements IOChannel {
      */
     private CharsetDecoder bytesDecoder;
 
+    /**
+     * Decodes the bytes of the character sets which have a fast path, null for the other character sets.
+     */
+    private FastPathDecoder fastPathDecoder;
+
     /**
      * Encodes a given list of characters before writing to channel.
      */
@@ -90,6 +96,31 @@ public class CharacterChannel implements IOChannel {
      */
     private static final int MINIMUM_BYTE_BUFFER_SIZE = 0;
 
+    /**
+     * The number of encoded bytes which are held before they are written to the channel.
+     */
+    private static final int WRITE_BUFFER_SIZE = 16384;
+
+    /**
+     * The number of characters which are copied from the content in order to be encoded at once.
+     */
+    private static final int ENCODE_BUFFER_SIZE = 4096;
+
+    /**
+     * Holds the characters which are being encoded, reused across the writes.
+     */
+    private CharBuffer encodeBuffer;
+
+    /**
+     * Holds the encoded bytes which have not been written to the channel yet.
+     */
+    private ByteBuffer writeBuffer;
+
+    /**
+     * The number of encoded bytes which have been written to the channel.
+     */
+    private long flushedCount;
+
     public CharacterChannel(Channel channel, String encoding) {
         this.channel = channel;
         this.encoding = encoding;
@@ -101,6 +132,7 @@ public class CharacterChannel implements IOChannel {
         //decoded could contain a fraction of a character which will result in a malformed-input Exception. The bytes
         //which are on the edge should not be replaced with unknown character.
         bytesDecoder.onMalformedInput(CodingErrorAction.REPLACE);
+        fastPathDecoder = FastPathDecoder.of(bytesDecoder);
     }
 
     @Override
@@ -119,6 +151,30 @@ public class CharacterChannel implements IOChannel {
         return limit - position;
     }
 
+    /**
+     * Specifies whether the given number of characters is in the character buffer, hence the characters are read
+     * without accessing the channel.
+     *
+     * @param numberOfCharacters the number of characters which are read.
+     * @return true if the characters are read from the character buffer.
+     */
+    public boolean isReadBuffered(int numberOfCharacters) {
+        return null != charBuffer && getNumberOfCharactersRemaining() >= numberOfCharacters;
+    }
+
+    /**
+     * Specifies whether the encoding of the given number of characters fits into the write buffer, hence the
+     * characters are written without accessing the channel.
+     *
+     * @param numberOfCharacters the number of characters which are written.
+     * @return true if the characters are encoded into the write buffer.
+     */
+    public boolean isWriteBuffered(int numberOfCharacters) {
+        //One more character is allowed for the bytes, which are emitted when the encoder is flushed
+        return null != writeBuffer && null != channel &&
+                (numberOfCharacters + 1L) * byteEncoder.maxBytesPerChar() <= writeBuffer.remaining();
+    }
+
     /**
      * Appends data from CharBuffer to string.
      *
@@ -205,13 +261,23 @@ public class CharacterChannel implements IOChannel {
         ByteBuffer buffer;
         int numberOfCharsProcessed = 0;
         CharBuffer intermediateCharacterBuffer;
-        //Provided at this point any remaining character left in the buffer is copied
-        charBuffer = CharBuffer.allocate(numberOfBytesRequired);
+        //Provided at this point any remaining character left in the buffer is copied, hence the buffer is reused
+        if (null == charBuffer || charBuffer.capacity() < numberOfBytesRequired) {
+            charBuffer = CharBuffer.allocate(numberOfBytesRequired);
+        } else {
+            charBuffer.clear();
+        }
+        if (null != fastPathDecoder) {
+            decodeBytesFromChannel(numberOfBytesRequired);
+            return;
+        }
         try {
             buffer = contentBuffer.get(numberOfBytesRequired, channel);
         } catch (IOException e) {
             throw new BallerinaIOException("error occurred while reading from channel: " + e.getMessage(), e);
         }
+        //The buffer is consumed by the decoder, hence the number of bytes is captured before decoding
+        int numberOfBytesRead = buffer.remaining();
         try {
             intermediateCharacterBuffer = bytesDecoder.decode(buffer);
         } catch (CharacterCodingException e) {
@@ -221,24 +287,40 @@ public class CharacterChannel implements IOChannel {
         charBuffer.put(intermediateCharacterBuffer);
         //We make the char buffer ready to read
         charBuffer.flip();
-        processChars(numberOfCharsRequired, buffer, numberOfCharsProcessed);
+        processChars(numberOfCharsRequired, numberOfBytesRead, numberOfCharsProcessed);
     }
 
     /**
-     * Reads bytes asynchronously from the channel.
+     * <p>
+     * Reads bytes from the channel and decodes them through the fast path of the character set.
+     * </p>
+     * <p>
+     * A character which is split at the end of the bytes is left in the content buffer to be decoded with the bytes
+     * which follow, unless no character could be decoded, in which case more bytes are read.
+     * </p>
      *
      * @param numberOfBytesRequired number of bytes required from the channel.
-     * @throws IOException if an error occurs while reading and encoding characters.
+     * @throws BallerinaIOException errors occur while reading from the channel.
      */
-    private String asyncReadBytesFromChannel(int numberOfBytesRequired)
-            throws IOException {
-        ByteBuffer buffer;
-        CharBuffer intermediateCharacterBuffer;
-        do {
-            buffer = contentBuffer.get(numberOfBytesRequired, channel);
-            intermediateCharacterBuffer = bytesDecoder.decode(buffer);
-        } while (!channel.hasReachedEnd() && buffer.hasRemaining());
-        return intermediateCharacterBuffer.toString();
+    private void decodeBytesFromChannel(int numberOfBytesRequired) throws BallerinaIOException {
+        int numberOfBytesRemaining = 0;
+        try {
+            do {
+                ByteBuffer buffer = contentBuffer.get(numberOfBytesRequired + numberOfBytesRemaining, channel);
+                boolean endOfInput = channel.hasReachedEnd() || buffer.remaining() == numberOfBytesRemaining;
+                if (charBuffer.capacity() < buffer.remaining()) {
+                    charBuffer = CharBuffer.allocate(buffer.remaining());
+                }
+                fastPathDecoder.decode(buffer, charBuffer, endOfInput);
+                numberOfBytesRemaining = buffer.remaining();
+                if (numberOfBytesRemaining > 0) {
+                    contentBuffer.reverse(numberOfBytesRemaining);
+                }
+            } while (charBuffer.position() == 0 && numberOfBytesRemaining > 0);
+        } catch (IOException e) {
+            throw new BallerinaIOException("error occurred while reading from channel: " + e.getMessage(), e);
+        }
+        charBuffer.flip();
     }
 
     /**
@@ -256,10 +338,10 @@ public class CharacterChannel implements IOChannel {
      * </p>
      *
      * @param numberOfCharsRequired  total number of characters required.
-     * @param buffer                 the buffer which will hold the content.
+     * @param numberOfBytesRead      number of bytes which were decoded.
      * @param numberOfCharsProcessed number of characters processed.
      */
-    private void processChars(int numberOfCharsRequired, ByteBuffer buffer, int numberOfCharsProcessed)
+    private void processChars(int numberOfCharsRequired, int numberOfBytesRead, int numberOfCharsProcessed)
             throws BallerinaIOException {
         final int minimumNumberOfCharsRequired = 0;
         if (numberOfCharsProcessed > minimumNumberOfCharsRequired) {
@@ -267,7 +349,7 @@ public class CharacterChannel implements IOChannel {
             char lastCharacterProcessed = charBuffer.get(lastCharacterIndex);
             if (numberOfCharsRequired < numberOfCharsProcessed && isMalformedCharacter(lastCharacterProcessed)) {
                 int numberOfBytesWithoutTheLastChar = getNumberOfBytesInContent(lastCharacterIndex);
-                int numberOfBytesAllocatedForLastChar = buffer.capacity() - numberOfBytesWithoutTheLastChar;
+                int numberOfBytesAllocatedForLastChar = numberOfBytesRead - numberOfBytesWithoutTheLastChar;
                 contentBuffer.reverse(numberOfBytesAllocatedForLastChar);
             }
         }
@@ -307,18 +389,12 @@ public class CharacterChannel implements IOChannel {
 
     /**
      * <p>
-     * Reads all characters to the provided number of bytes.
-     * </p>
-     *
-     * @param nBytes number of bytes.
-     * @return the character decoded for the specified byte length.
-     */
-    String readAllChars(int nBytes) throws IOException {
-        return asyncReadBytesFromChannel(nBytes);
-    }
-
-    /**
      * Writes a given string input into the channel.
+     * </p>
+     * <p>
+     * The content is encoded into a buffer, which is written to the channel once it is full, when the channel is
+     * flushed or when the channel is closed. The buffers are reused, hence a write does not allocate memory.
+     * </p>
      *
      * @param content the string content to be written.
      * @param offset  the offset which should be used for writing.
@@ -326,24 +402,92 @@ public class CharacterChannel implements IOChannel {
      * @throws IOException during I/O error.
      */
     public int write(String content, int offset) throws IOException {
+        if (channel == null) {
+            return 0;
+        }
+        if (null == writeBuffer) {
+            writeBuffer = BufferPool.heap().acquire(WRITE_BUFFER_SIZE);
+        }
+        if (null == encodeBuffer) {
+            encodeBuffer = CharBuffer.allocate(ENCODE_BUFFER_SIZE);
+        }
+        int start = writeBuffer.position();
+        long flushedBytes = flushedCount;
         try {
-            int numberOfBytesWritten = 0;
-            if (channel != null) {
-                char[] characters = content.toCharArray();
-                CharBuffer characterBuffer = CharBuffer.wrap(characters);
-                characterBuffer.position(offset);
-                ByteBuffer encodedBuffer = byteEncoder.encode(characterBuffer);
-                do {
-                    numberOfBytesWritten = numberOfBytesWritten + channel.write(encodedBuffer);
-                } while (encodedBuffer.hasRemaining());
+            int index = offset;
+            int length = content.length();
+            boolean endOfInput;
+            encodeBuffer.clear();
+            do {
+                int count = Math.min(length - index, encodeBuffer.remaining());
+                content.getChars(index, index + count, encodeBuffer.array(), encodeBuffer.position());
+                encodeBuffer.position(encodeBuffer.position() + count);
+                index += count;
+                endOfInput = index == length;
+                encodeBuffer.flip();
+                encode(endOfInput);
+                //A character which is split across the copies is carried over to the next copy
+                encodeBuffer.compact();
+            } while (!endOfInput);
+            CoderResult result;
+            while ((result = byteEncoder.flush(writeBuffer)).isOverflow()) {
+                flushWriteBuffer();
             }
-            return numberOfBytesWritten;
+            checkResult(result);
         } catch (CharacterCodingException e) {
+            if (flushedBytes == flushedCount) {
+                //Nothing of the content has been written, hence the content is discarded as a whole
+                writeBuffer.position(start);
+            }
             String message = "error occurred while writing bytes to the channel: " + e.getMessage();
             throw new IOException(message, e);
+        } finally {
+            byteEncoder.reset();
+        }
+        return (int) (flushedCount - flushedBytes + writeBuffer.position() - start);
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        CoderResult result;
+        while ((result = byteEncoder.encode(encodeBuffer, writeBuffer, endOfInput)).isOverflow()) {
+            flushWriteBuffer();
+        }
+        checkResult(result);
+    }
+
+    private static void checkResult(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    private void flushWriteBuffer() throws IOException {
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                flushedCount += channel.write(writeBuffer);
+            }
+        } finally {
+            writeBuffer.compact();
         }
     }
 
+    /**
+     * Writes the encoded bytes, which are held by the channel, to the underlying channel.
+     *
+     * @throws IOException during I/O error.
+     */
+    public void flush() throws IOException {
+        if (null == writeBuffer) {
+            return;
+        }
+        if (writeBuffer.position() > 0) {
+            flushWriteBuffer();
+        }
+        BufferPool.heap().release(writeBuffer);
+        writeBuffer = null;
+    }
+
     /**
      * Provides the id of the channel.
      *
@@ -370,13 +514,21 @@ public class CharacterChannel implements IOChannel {
     }
 
     /**
-     * Closes the given channel.
+     * Closes the given channel and returns the buffers to the pool.
      *
      * @throws IOException errors occur while trying to close the connection.
      */
     @Override
     public void close() throws IOException {
-        channel.close();
+        try {
+            flush();
+        } finally {
+            try {
+                channel.close();
+            } finally {
+                contentBuffer.release();
+            }
+        }
     }
 
     @Override
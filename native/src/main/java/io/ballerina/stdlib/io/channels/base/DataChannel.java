@@ -20,9 +20,20 @@ package io.ballerina.stdlib.io.channels.base;
 
 import io.ballerina.stdlib.io.channels.base.data.LongResult;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
 
 /**
  * Represents a channel which will allow performing data i/o operations.
@@ -38,9 +49,31 @@ public class DataChannel implements IOChannel {
     private ByteOrder order;
 
     /**
-     * Represents 64 bit long value which will be used to convert from var long to fixed long.
+     * The maximum number of bytes of a variable length integer, 7 bits of a 64 bit value are held in each byte.
      */
-    private static final long BIT_64_LONG_MAX = 0xFFFFFFFFFFFFFFFFL;
+    public static final int MAX_VAR_LONG_BYTES = 10;
+
+    /**
+     * The number of bits of a value which are held in a byte of a variable length integer.
+     */
+    private static final int VAR_LONG_BITS = 7;
+
+    /**
+     * The number of bytes which are read or written at once, when values are read ahead or written in batches.
+     */
+    private static final int ARRAY_BUFFER_SIZE = 65536;
+
+    /**
+     * Holds the bytes which were read ahead from the channel, the values are decoded from this buffer and it is
+     * refilled in large chunks.
+     */
+    private ByteBuffer readBuffer;
+
+    /**
+     * Holds the bytes which are not written to the channel yet, the buffer is written once it is full, when it is
+     * flushed or when the channel is closed.
+     */
+    private ByteBuffer writeBuffer;
 
     public DataChannel(Channel channel, ByteOrder order) {
         this.channel = channel;
@@ -49,249 +82,198 @@ public class DataChannel implements IOChannel {
 
     @Override
     public boolean hasReachedEnd() {
-        return channel.hasReachedEnd();
-    }
-
-    public Channel getChannel() {
-        return channel;
+        return channel.hasReachedEnd() && (null == readBuffer || !readBuffer.hasRemaining());
     }
 
     /**
-     * Reverse the underlying array of the given ByteBuffer.
+     * Reads bytes into the given buffer, the bytes which were read ahead are provided before the bytes of the channel.
      *
-     * @param buffer byte content in it's native order.
+     * @param buffer the buffer the bytes are read into.
+     * @return the number of bytes which were read.
+     * @throws IOException during i/o error.
      */
-    private byte[] reverse(ByteBuffer buffer) {
-        byte[] contentArr = buffer.array();
-        int length = buffer.limit();
-        byte[] reverseContent = new byte[length];
-        for (int count = 0; count <= (length / 2); count++) {
-            byte temp = contentArr[count];
-            reverseContent[count] = contentArr[(length - 1) - count];
-            reverseContent[(length - 1) - count] = temp;
+    private int read(ByteBuffer buffer) throws IOException {
+        if (null != readBuffer && readBuffer.hasRemaining()) {
+            int count = Math.min(buffer.remaining(), readBuffer.remaining());
+            ByteBuffer content = readBuffer.slice();
+            content.limit(count);
+            buffer.put(content);
+            readBuffer.position(readBuffer.position() + count);
+            return count;
+        }
+        return channel.read(buffer);
+    }
+
+    private ByteBuffer readBuffer() {
+        if (null == readBuffer) {
+            readBuffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+            readBuffer.flip();
         }
-        return reverseContent;
+        return readBuffer;
     }
 
     /**
-     * Recursively read bytes until the buffer is filled.
+     * Reads ahead from the channel into the read buffer.
      *
-     * @param buffer         buffer which holds the byte[].
-     * @param representation specifies the representation.
+     * @return true if the read buffer has bytes, false if the channel reached its end.
      * @throws IOException during i/o error.
      */
-    private void readFull(ByteBuffer buffer, Representation representation) throws IOException {
-        do {
-            channel.read(buffer);
-        } while (buffer.hasRemaining() && !channel.hasReachedEnd());
-        if (order.equals(ByteOrder.LITTLE_ENDIAN) && !representation.equals(Representation.VARIABLE)) {
-            int bufferPosition = buffer.position();
-            int limit = buffer.limit();
-            byte[] reverseContent = reverse(buffer);
-            buffer.rewind();
-            buffer.put(reverseContent, 0, limit);
-            buffer.position(bufferPosition);
-            buffer.limit(limit);
+    private boolean fillReadBuffer() throws IOException {
+        readBuffer().compact();
+        try {
+            int read;
+            do {
+                read = channel.read(readBuffer);
+            } while (read == 0 && readBuffer.hasRemaining() && !channel.hasReachedEnd());
+        } finally {
+            readBuffer.flip();
         }
+        return readBuffer.hasRemaining();
     }
 
     /**
-     * Reads varint from the given channel.
+     * Specifies whether a value of the given number of bytes is in the read buffer, hence it is read without
+     * accessing the channel.
      *
-     * @return the bytes read through the buffer.
-     * @throws IOException during i/o error.
+     * @param numberOfBytes the number of bytes of the value.
+     * @return true if the value is read from the read buffer.
      */
-    private ByteBuffer readVarInt() throws IOException {
-        int bufferLimit = 0;
-        boolean hasRemainingBytes = true;
-        //Will create an array with maximum number of bytes allocated
-        byte[] content = new byte[Long.BYTES];
-        ByteBuffer buf = ByteBuffer.wrap(content);
-        do {
-            buf.limit(++bufferLimit);
-            readFull(buf, Representation.VARIABLE);
-            buf.flip();
-            byte b = buf.get(bufferLimit - 1);
-            //We '&' with 10000000 and shift it by 7 to identify the msb
-            if ((b & 0x80) >> 7 == 0) {
-                //We identify whether there're bytes remaining to be read
-                hasRemainingBytes = false;
-            }
-            //This means we could read more bytes
-            //We convert the read value back by omitting the msb
-            buf.put(bufferLimit - 1, (byte) (b & 0x7F));
-            //The inserted byte will be made ready to be read
-            buf.position(buf.limit());
-        } while (hasRemainingBytes);
-        return buf;
+    public boolean isReadBuffered(int numberOfBytes) {
+        return null != readBuffer && readBuffer.remaining() >= numberOfBytes;
     }
 
     /**
-     * Decodes the long from a provided input channel.
+     * Specifies whether the last byte of a variable length integer is in the read buffer, hence the integer is read
+     * without accessing the channel.
      *
-     * @param representation specified size representation of the long value.
-     * @return the decoded long value.
-     * @throws IOException during i/o error.
+     * @return true if the integer is read from the read buffer.
      */
-    private LongResult decodeLong(Representation representation) throws IOException {
-        ByteBuffer buffer;
-        int requiredNumberOfBytes;
-        if (Representation.VARIABLE.equals(representation)) {
-            buffer = readVarInt();
-            if (order.equals(ByteOrder.LITTLE_ENDIAN)) {
-                byte[] reverse = reverse(buffer);
-                buffer.rewind();
-                buffer.put(reverse);
+    public boolean isVarLongReadBuffered() {
+        if (null == readBuffer) {
+            return false;
+        }
+        int limit = Math.min(readBuffer.limit(), readBuffer.position() + MAX_VAR_LONG_BYTES);
+        for (int i = readBuffer.position(); i < limit; i++) {
+            if (readBuffer.get(i) >= 0) {
+                return true;
             }
-        } else {
-            requiredNumberOfBytes = representation.getNumberOfBytes();
-            buffer = ByteBuffer.allocate(requiredNumberOfBytes);
-            buffer.order(order);
-            readFull(buffer, representation);
         }
-        buffer.flip();
-        return deriveLong(representation, buffer);
+        return false;
     }
 
     /**
-     * Converts var long to a fixed size long.
+     * Specifies whether a value of the given number of bytes fits into the write buffer, hence it is written
+     * without accessing the channel.
      *
-     * @param value  var long value.
-     * @param nBytes number of bytes in VarLong.
-     * @return corresponding long converted through VarLong.
+     * @param numberOfBytes the number of bytes of the value.
+     * @return true if the value is written to the write buffer.
      */
-    private long convertVarLongToFixedLong(long value, int nBytes) {
-        int nBits = nBytes * Representation.VARIABLE.getBase() - 1;
-        if (value >> nBits == 1) {
-            long intercept = BIT_64_LONG_MAX << nBits;
-            //This means it would be a sign representation
-            value = value | intercept;
-        }
-        return value;
+    public boolean isWriteBuffered(int numberOfBytes) {
+        return null != writeBuffer && writeBuffer.remaining() >= numberOfBytes;
+    }
+
+    public Channel getChannel() {
+        return channel;
     }
 
     /**
-     * Merge bytes and encodes long.
+     * Decodes the long from a provided input channel.
      *
-     * @param representation the capacity of the long value i.e whether it's 32bit, 64bit.
-     * @param buffer         holds the bytes which represents the long.
-     * @return the value of long and the corresponding number of bytes read.
+     * @param representation specified size representation of the long value.
+     * @return the decoded long value.
+     * @throws IOException during i/o error.
      */
-    private LongResult deriveLong(Representation representation, ByteBuffer buffer) {
-        long value = 0;
-        int maxNumberOfBits = 0xFFFF;
-        int byteLimit = buffer.limit();
-        int totalNumberOfBits = (byteLimit - 1) * representation.getBase();
-        do {
-            long shiftedValue = 0L;
-            if (Representation.BIT_64.equals(representation)) {
-                long flippedValue = (buffer.get() & maxNumberOfBits);
-                shiftedValue = flippedValue << totalNumberOfBits;
-            } else if (Representation.BIT_32.equals(representation)) {
-                int flippedValue = (buffer.get() & maxNumberOfBits);
-                shiftedValue = flippedValue << totalNumberOfBits;
-            } else if (Representation.BIT_16.equals(representation)) {
-                short flippedValue = (short) (buffer.get() & maxNumberOfBits);
-                shiftedValue = flippedValue << totalNumberOfBits;
-            } else if (Representation.VARIABLE.equals(representation)) {
-                long flippedValue = (buffer.get() & maxNumberOfBits);
-                shiftedValue = flippedValue << totalNumberOfBits;
-            }
-            maxNumberOfBits = 0xFF;
-            value = value + shiftedValue;
-            totalNumberOfBits = totalNumberOfBits - representation.getBase();
-        } while (buffer.hasRemaining());
+    private LongResult decodeLong(Representation representation) throws IOException {
         if (Representation.VARIABLE.equals(representation)) {
-            value = convertVarLongToFixedLong(value, byteLimit);
+            long value = readVarLong(false);
+            return new LongResult(value, getVarLongLength(value, false));
         }
-        return new LongResult(value, byteLimit);
+        int numberOfBytes = representation.getNumberOfBytes();
+        ByteBuffer buffer = readValue(numberOfBytes);
+        boolean bigEndian = ByteOrder.BIG_ENDIAN.equals(order);
+        long value = 0;
+        for (int i = 0; i < numberOfBytes; i++) {
+            long b = buffer.get() & 0xFF;
+            value = bigEndian ? (value << Byte.SIZE) | b : value | b << (Byte.SIZE * i);
+        }
+        //The value is sign extended from its last bit
+        int unusedBits = Long.SIZE - Byte.SIZE * numberOfBytes;
+        return new LongResult((value << unusedBits) >> unusedBits, numberOfBytes);
     }
 
     /**
-     * Reverse the buffer content based on little-endian byte order.
+     * Provides the read buffer, which holds at least the given number of bytes.
      *
-     * @param content original content which contains the byte[] information.
-     * @return content which is reversed.
-     */
-    private byte[] reverseOrder(byte[] content) {
-        byte[] reversedContent = new byte[content.length];
-        int length = content.length;
-        for (int count = 0; count < length; count++) {
-            //When we cast byte to a base 7 we need to omit the last bit being modified
-            reversedContent[count] = (byte) (content[(length - 1) - count] & 0x7F);
-            if (count < (length - 1)) {
-                //We indicated the most significant bit to be '1' since this is variable length
-                reversedContent[count] = (byte) (content[(length - 1) - count] | 0x80);
+     * @param numberOfBytes the number of bytes of the value which is read.
+     * @return the read buffer.
+     * @throws IOException if the channel reached its end before the bytes of the value or an I/O error occurred.
+     */
+    private ByteBuffer readValue(int numberOfBytes) throws IOException {
+        while (readBuffer().remaining() < numberOfBytes) {
+            int remaining = readBuffer.remaining();
+            fillReadBuffer();
+            if (readBuffer.remaining() == remaining) {
+                throw new EOFException(remaining == 0 ? "The channel reached its end" :
+                        "The channel reached its end in the middle of a value");
             }
         }
-        return reversedContent;
+        return readBuffer;
     }
 
     /**
-     * Splits the long between several bytes.
+     * Writes fixed size long value.
      *
-     * @param value          the value of the long which should be split.
+     * @param value          the value of the long which should be written.
      * @param representation the size of the long in bits.
-     * @return the encoded long value.
+     * @throws IOException during i/o error.
      */
-    private byte[] encodeLong(long value, Representation representation) {
-        byte[] content;
-        int nBytes;
-        int totalNumberOfBits;
+    public void writeLong(long value, Representation representation) throws IOException {
         if (Representation.VARIABLE.equals(representation)) {
-            //We identify the log(2) of the value to identify how many bits are required to represent
-            int nBits = (int) Math.abs(Math.round((Math.log(Math.abs(value)) / Math.log(2))));
-            nBytes = nBits / representation.getBase() + 1;
-            content = new byte[nBytes];
-        } else {
-            nBytes = representation.getNumberOfBytes();
-            content = new byte[representation.getNumberOfBytes()];
-        }
-        totalNumberOfBits = (nBytes * representation.getBase()) - representation.getBase();
-        for (int count = 0; count < nBytes; count++) {
-            content[count] = (byte) (value >> totalNumberOfBits);
-            if (Representation.VARIABLE.equals(representation) && order.equals(ByteOrder.BIG_ENDIAN)) {
-                //When we cast byte to a base 7 we need to omit the last bit being modified
-                content[count] = (byte) (content[count] & 0x7F);
-                if (count < (nBytes - 1)) {
-                    //We indicated the most significant bit to be '1' since this is variable length
-                    content[count] = (byte) (content[count] | 0x80);
-                }
-            }
-            totalNumberOfBits = totalNumberOfBits - representation.getBase();
+            writeVarLong(value, false);
+            return;
+        }
+        int numberOfBytes = representation.getNumberOfBytes();
+        ByteBuffer buffer = writeBuffer(numberOfBytes);
+        boolean bigEndian = ByteOrder.BIG_ENDIAN.equals(order);
+        for (int i = 0; i < numberOfBytes; i++) {
+            int group = bigEndian ? numberOfBytes - 1 - i : i;
+            buffer.put((byte) (value >> (Byte.SIZE * group)));
         }
-        return content;
     }
 
     /**
-     * Writes the given content to the channel.
+     * Provides the write buffer, which has space for at least the given number of bytes.
      *
-     * @param buffer         buffer which holds the content.
-     * @param representation whether this a var/fix int.
-     * @throws IOException occurs during i/o error.
-     */
-    private void write(ByteBuffer buffer, Representation representation) throws IOException {
-        if (order.equals(ByteOrder.LITTLE_ENDIAN) && !Representation.VARIABLE.equals(representation)) {
-            byte[] reverse = reverse(buffer);
-            channel.write(ByteBuffer.wrap(reverse));
-        } else if (order.equals(ByteOrder.LITTLE_ENDIAN) && Representation.VARIABLE.equals(representation)) {
-            byte[] reverse = reverseOrder(buffer.array());
-            channel.write(ByteBuffer.wrap(reverse));
-        } else {
-            channel.write(buffer);
+     * @param numberOfBytes the number of bytes of the value which is written.
+     * @return the write buffer.
+     * @throws IOException if the buffered bytes could not be written to the channel.
+     */
+    private ByteBuffer writeBuffer(int numberOfBytes) throws IOException {
+        if (null == writeBuffer) {
+            writeBuffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+        } else if (writeBuffer.remaining() < numberOfBytes) {
+            flush();
         }
+        return writeBuffer;
     }
 
     /**
-     * Writes fixed size long value.
+     * Writes the bytes which are in the write buffer to the channel.
      *
-     * @param value          the value of the long which should be written.
-     * @param representation the size of the long in bits.
      * @throws IOException during i/o error.
      */
-    public void writeLong(long value, Representation representation) throws IOException {
-        byte[] bytes = encodeLong(value, representation);
-        write(ByteBuffer.wrap(bytes), representation);
+    public void flush() throws IOException {
+        if (null == writeBuffer || writeBuffer.position() == 0) {
+            return;
+        }
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } finally {
+            writeBuffer.compact();
+        }
     }
 
     /**
@@ -339,6 +321,332 @@ public class DataChannel implements IOChannel {
         }
     }
 
+    /**
+     * <p>
+     * Reads an array of integers which are represented through the given fixed number of bytes.
+     * </p>
+     * <p>
+     * The values are read in chunks, which are decoded in bulk through a view in the byte order of the channel.
+     * </p>
+     *
+     * @param count          the number of values which should be read.
+     * @param representation the number of bytes which represents a value.
+     * @return the values which were read, fewer than the count if the channel reached its end.
+     * @throws IOException if the channel reached its end in the middle of a value or an I/O error occurred.
+     */
+    public long[] readLongs(int count, Representation representation) throws IOException {
+        int size = representation.getNumberOfBytes();
+        long[] values = new long[Math.min(count, ARRAY_BUFFER_SIZE / size)];
+        int numberOfValues = 0;
+        ByteBuffer buffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+        try {
+            while (numberOfValues < count) {
+                int chunk = Math.min(count - numberOfValues, ARRAY_BUFFER_SIZE / size);
+                ByteBuffer content = readChunk(buffer, chunk * size, size);
+                int length = content.remaining() / size;
+                if (values.length < numberOfValues + length) {
+                    values = Arrays.copyOf(values, getGrownLength(values.length, numberOfValues + length, count));
+                }
+                if (Representation.BIT_64.equals(representation)) {
+                    content.asLongBuffer().get(values, numberOfValues, length);
+                } else if (Representation.BIT_32.equals(representation)) {
+                    IntBuffer ints = content.asIntBuffer();
+                    for (int i = 0; i < length; i++) {
+                        values[numberOfValues + i] = ints.get(i);
+                    }
+                } else {
+                    ShortBuffer shorts = content.asShortBuffer();
+                    for (int i = 0; i < length; i++) {
+                        values[numberOfValues + i] = shorts.get(i);
+                    }
+                }
+                numberOfValues += length;
+                if (length < chunk) {
+                    break;
+                }
+            }
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+        return numberOfValues == values.length ? values : Arrays.copyOf(values, numberOfValues);
+    }
+
+    /**
+     * Reads an array of floating point values which are represented through the given fixed number of bytes.
+     *
+     * @param count          the number of values which should be read.
+     * @param representation the number of bytes which represents a value.
+     * @return the values which were read, fewer than the count if the channel reached its end.
+     * @throws IOException if the channel reached its end in the middle of a value or an I/O error occurred.
+     */
+    public double[] readDoubles(int count, Representation representation) throws IOException {
+        int size = representation.getNumberOfBytes();
+        double[] values = new double[Math.min(count, ARRAY_BUFFER_SIZE / size)];
+        int numberOfValues = 0;
+        ByteBuffer buffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+        try {
+            while (numberOfValues < count) {
+                int chunk = Math.min(count - numberOfValues, ARRAY_BUFFER_SIZE / size);
+                ByteBuffer content = readChunk(buffer, chunk * size, size);
+                int length = content.remaining() / size;
+                if (values.length < numberOfValues + length) {
+                    values = Arrays.copyOf(values, getGrownLength(values.length, numberOfValues + length, count));
+                }
+                if (Representation.BIT_64.equals(representation)) {
+                    content.asDoubleBuffer().get(values, numberOfValues, length);
+                } else {
+                    FloatBuffer floats = content.asFloatBuffer();
+                    for (int i = 0; i < length; i++) {
+                        values[numberOfValues + i] = floats.get(i);
+                    }
+                }
+                numberOfValues += length;
+                if (length < chunk) {
+                    break;
+                }
+            }
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+        return numberOfValues == values.length ? values : Arrays.copyOf(values, numberOfValues);
+    }
+
+    /**
+     * Reads a chunk of values into the given buffer.
+     *
+     * @param buffer        the buffer the bytes are read into.
+     * @param numberOfBytes the number of bytes of the values in the chunk.
+     * @param size          the number of bytes of a value.
+     * @return a view of the bytes which were read in the byte order of the channel.
+     * @throws IOException if the channel reached its end in the middle of a value or an I/O error occurred.
+     */
+    private ByteBuffer readChunk(ByteBuffer buffer, int numberOfBytes, int size) throws IOException {
+        buffer.clear();
+        buffer.limit(numberOfBytes);
+        do {
+            read(buffer);
+        } while (buffer.hasRemaining() && !channel.hasReachedEnd());
+        buffer.flip();
+        if (buffer.remaining() % size != 0) {
+            throw new EOFException("The channel reached its end in the middle of a value");
+        }
+        return buffer.duplicate().order(order);
+    }
+
+    /**
+     * The arrays are grown as the values are read, hence a large count does not allocate memory for values which
+     * are not in the channel.
+     */
+    private static int getGrownLength(int currentLength, int requiredLength, int count) {
+        return (int) Math.min(count, Math.max(2L * currentLength, requiredLength));
+    }
+
+    /**
+     * Writes an array of integers, each represented through the given fixed number of bytes.
+     *
+     * @param values         provides the value at a given index.
+     * @param count          the number of values which should be written.
+     * @param representation the number of bytes which represents a value.
+     * @throws IOException during I/O error.
+     */
+    public void writeLongs(IntToLongFunction values, int count, Representation representation) throws IOException {
+        int size = representation.getNumberOfBytes();
+        ByteBuffer buffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+        try {
+            for (int index = 0; index < count; ) {
+                int chunk = Math.min(count - index, ARRAY_BUFFER_SIZE / size);
+                ByteBuffer content = buffer.duplicate().order(order);
+                content.clear();
+                for (int i = 0; i < chunk; i++, index++) {
+                    long value = values.applyAsLong(index);
+                    if (Representation.BIT_64.equals(representation)) {
+                        content.putLong(value);
+                    } else if (Representation.BIT_32.equals(representation)) {
+                        content.putInt((int) value);
+                    } else {
+                        content.putShort((short) value);
+                    }
+                }
+                writeChunk(content);
+            }
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+    }
+
+    /**
+     * Writes an array of floating point values, each represented through the given fixed number of bytes.
+     *
+     * @param values         provides the value at a given index.
+     * @param count          the number of values which should be written.
+     * @param representation the number of bytes which represents a value.
+     * @throws IOException during I/O error.
+     */
+    public void writeDoubles(IntToDoubleFunction values, int count, Representation representation)
+            throws IOException {
+        int size = representation.getNumberOfBytes();
+        ByteBuffer buffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+        try {
+            for (int index = 0; index < count; ) {
+                int chunk = Math.min(count - index, ARRAY_BUFFER_SIZE / size);
+                ByteBuffer content = buffer.duplicate().order(order);
+                content.clear();
+                for (int i = 0; i < chunk; i++, index++) {
+                    double value = values.applyAsDouble(index);
+                    if (Representation.BIT_64.equals(representation)) {
+                        content.putDouble(value);
+                    } else {
+                        content.putFloat((float) value);
+                    }
+                }
+                writeChunk(content);
+            }
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+    }
+
+    /**
+     * Writes the given content, a small content is copied into the write buffer and a large content is written to
+     * the channel after the buffered bytes.
+     */
+    private void writeChunk(ByteBuffer content) throws IOException {
+        content.flip();
+        if (content.remaining() <= ARRAY_BUFFER_SIZE / 2) {
+            writeBuffer(content.remaining()).put(content);
+            return;
+        }
+        flush();
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+    /**
+     * <p>
+     * Reads a variable length integer, each byte holds 7 bits of the value and the most significant bit of a byte
+     * specifies whether a byte follows.
+     * </p>
+     * <p>
+     * The bytes are decoded from the read buffer, which is filled from the channel in large chunks. The groups of
+     * bits are in the byte order of the channel, a little endian channel reads the encoding of protocol buffers.
+     * </p>
+     *
+     * @param zigZag true if the value is ZigZag encoded, false if the value is sign extended from its last bit.
+     * @return the value which was read.
+     * @throws IOException if the channel reached its end in the middle of a value or an I/O error occurred.
+     */
+    public long readVarLong(boolean zigZag) throws IOException {
+        boolean bigEndian = ByteOrder.BIG_ENDIAN.equals(order);
+        long value = 0;
+        int numberOfBytes = 0;
+        int b;
+        do {
+            if (!readBuffer().hasRemaining() && !fillReadBuffer()) {
+                throw new EOFException("The channel reached its end in the middle of a variable length integer");
+            }
+            if (numberOfBytes == MAX_VAR_LONG_BYTES) {
+                throw new IOException("The variable length integer is longer than " + MAX_VAR_LONG_BYTES + " bytes");
+            }
+            b = readBuffer.get();
+            if (bigEndian) {
+                value = (value << VAR_LONG_BITS) | (b & 0x7F);
+            } else {
+                value |= (long) (b & 0x7F) << (VAR_LONG_BITS * numberOfBytes);
+            }
+            numberOfBytes++;
+        } while (b < 0);
+        if (zigZag) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+        int unusedBits = Long.SIZE - VAR_LONG_BITS * numberOfBytes;
+        return unusedBits > 0 ? (value << unusedBits) >> unusedBits : value;
+    }
+
+    /**
+     * Reads an array of variable length integers.
+     *
+     * @param count  the number of values which should be read.
+     * @param zigZag true if the values are ZigZag encoded, false if the values are sign extended.
+     * @return the values which were read, fewer than the count if the channel reached its end.
+     * @throws IOException if the channel reached its end in the middle of a value or an I/O error occurred.
+     */
+    public long[] readVarLongs(int count, boolean zigZag) throws IOException {
+        long[] values = new long[Math.min(count, ARRAY_BUFFER_SIZE / Long.BYTES)];
+        int numberOfValues = 0;
+        while (numberOfValues < count && (readBuffer().hasRemaining() || fillReadBuffer())) {
+            if (values.length == numberOfValues) {
+                values = Arrays.copyOf(values, getGrownLength(values.length, numberOfValues + 1, count));
+            }
+            values[numberOfValues++] = readVarLong(zigZag);
+        }
+        return numberOfValues == values.length ? values : Arrays.copyOf(values, numberOfValues);
+    }
+
+    /**
+     * Writes a variable length integer through the minimum number of bytes which represents the value.
+     *
+     * @param value  the value which should be written.
+     * @param zigZag true if the value should be ZigZag encoded, false if the value should be sign extended.
+     * @throws IOException during i/o error.
+     */
+    public void writeVarLong(long value, boolean zigZag) throws IOException {
+        encodeVarLong(value, zigZag, writeBuffer(MAX_VAR_LONG_BYTES));
+    }
+
+    /**
+     * Writes an array of variable length integers.
+     *
+     * @param values provides the value at a given index.
+     * @param count  the number of values which should be written.
+     * @param zigZag true if the values should be ZigZag encoded, false if the values should be sign extended.
+     * @throws IOException during i/o error.
+     */
+    public void writeVarLongs(IntToLongFunction values, int count, boolean zigZag) throws IOException {
+        ByteBuffer buffer = BufferPool.heap().acquire(ARRAY_BUFFER_SIZE);
+        try {
+            buffer.clear();
+            for (int index = 0; index < count; index++) {
+                if (buffer.remaining() < MAX_VAR_LONG_BYTES) {
+                    writeChunk(buffer);
+                    buffer.clear();
+                }
+                encodeVarLong(values.applyAsLong(index), zigZag, buffer);
+            }
+            writeChunk(buffer);
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+    }
+
+    private void encodeVarLong(long value, boolean zigZag, ByteBuffer buffer) {
+        long bits = zigZag ? (value << 1) ^ (value >> (Long.SIZE - 1)) : value;
+        int numberOfBytes = getVarLongLength(value, zigZag);
+        boolean bigEndian = ByteOrder.BIG_ENDIAN.equals(order);
+        for (int i = 0; i < numberOfBytes; i++) {
+            int group = bigEndian ? numberOfBytes - 1 - i : i;
+            int b = (int) (bits >> (VAR_LONG_BITS * group)) & 0x7F;
+            if (i < numberOfBytes - 1) {
+                b |= 0x80;
+            }
+            buffer.put((byte) b);
+        }
+    }
+
+    /**
+     * Provides the minimum number of bytes of a variable length integer which represents the given value.
+     */
+    private static int getVarLongLength(long value, boolean zigZag) {
+        int numberOfBits;
+        if (zigZag) {
+            long bits = (value << 1) ^ (value >> (Long.SIZE - 1));
+            numberOfBits = Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(bits));
+        } else {
+            //The sign bit is included in the value
+            numberOfBits = Long.SIZE + 1 - Long.numberOfLeadingZeros(value < 0 ? ~value : value);
+        }
+        return (numberOfBits + VAR_LONG_BITS - 1) / VAR_LONG_BITS;
+    }
+
     /**
      * Writes boolean.
      *
@@ -346,11 +654,7 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     public void writeBoolean(boolean value) throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocate(1);
-        byte booleanValue = (byte) (value ? 1 : 0);
-        buffer.put(booleanValue);
-        buffer.flip();
-        write(buffer, Representation.NONE);
+        writeBuffer(1).put((byte) (value ? 1 : 0));
     }
 
     /**
@@ -360,10 +664,7 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     public boolean readBoolean() throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocate(1);
-        readFull(buffer, Representation.NONE);
-        buffer.flip();
-        return buffer.get() == 1;
+        return readValue(1).get() == 1;
     }
 
     /**
@@ -374,8 +675,14 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     public void writeString(String content, String encoding) throws IOException {
-        CharacterChannel ch = new CharacterChannel(this.channel, encoding);
-        ch.write(content, 0);
+        ByteBuffer buffer;
+        try {
+            buffer = Charset.forName(encoding).newEncoder().encode(CharBuffer.wrap(content));
+        } catch (CharacterCodingException e) {
+            throw new IOException("error occurred while writing bytes to the channel: " + e.getMessage(), e);
+        }
+        buffer.position(buffer.limit());
+        writeChunk(buffer);
     }
 
     /**
@@ -387,8 +694,64 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     public String readString(int nBytes, String encoding) throws IOException {
-        CharacterChannel ch = new CharacterChannel(this.channel, encoding);
-        return ch.readAllChars(nBytes);
+        ByteBuffer buffer = ByteBuffer.allocate(nBytes);
+        do {
+            read(buffer);
+        } while (buffer.hasRemaining() && !channel.hasReachedEnd());
+        return new String(buffer.array(), 0, buffer.position(), Charset.forName(encoding));
+    }
+
+    /**
+     * Writes a string in UTF-8, which is preceded by the number of its bytes as a variable length integer.
+     *
+     * @param content the string which should be written.
+     * @throws IOException during i/o error.
+     */
+    public void writeLengthPrefixedString(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length, false);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(bytes.length);
+        writeChunk(buffer);
+    }
+
+    /**
+     * Reads a string which is written through {@link #writeLengthPrefixedString(String)}. A string which is in the
+     * read buffer is decoded without copying its bytes.
+     *
+     * @return the string which was read.
+     * @throws IOException if the channel reached its end in the middle of the string or an I/O error occurred.
+     */
+    public String readLengthPrefixedString() throws IOException {
+        long length = readVarLong(false);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length of a string: " + length);
+        }
+        int nBytes = (int) length;
+        if (readBuffer.remaining() >= nBytes) {
+            String content = new String(readBuffer.array(), readBuffer.arrayOffset() + readBuffer.position(), nBytes,
+                    StandardCharsets.UTF_8);
+            readBuffer.position(readBuffer.position() + nBytes);
+            return content;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(nBytes);
+        do {
+            read(buffer);
+        } while (buffer.hasRemaining() && !channel.hasReachedEnd());
+        if (buffer.hasRemaining()) {
+            throw new EOFException("The channel reached its end in the middle of a string");
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether the channel has bytes which are not read yet, the bytes are read ahead if required.
+     *
+     * @return true if there are bytes to be read, false if the channel reached its end.
+     * @throws IOException during i/o error.
+     */
+    public boolean hasRemainingContent() throws IOException {
+        return readBuffer().hasRemaining() || fillReadBuffer();
     }
 
     /**
@@ -401,12 +764,27 @@ public class DataChannel implements IOChannel {
     }
 
     /**
-     * Close the channel.
+     * Writes the buffered bytes and closes the channel.
      *
      * @throws IOException during i/o error.
      */
     public void close() throws IOException {
-        this.channel.close();
+        try {
+            flush();
+        } finally {
+            try {
+                this.channel.close();
+            } finally {
+                if (null != readBuffer) {
+                    BufferPool.heap().release(readBuffer);
+                    readBuffer = null;
+                }
+                if (null != writeBuffer) {
+                    BufferPool.heap().release(writeBuffer);
+                    writeBuffer = null;
+                }
+            }
+        }
     }
 
     @Override
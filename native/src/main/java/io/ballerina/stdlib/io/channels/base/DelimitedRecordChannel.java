@@ -18,6 +18,7 @@
 package io.ballerina.stdlib.io.channels.base;
 
 import io.ballerina.stdlib.io.csv.Format;
+import io.ballerina.stdlib.io.csv.RecordParser;
 import io.ballerina.stdlib.io.utils.BallerinaIOException;
 
 import java.io.IOException;
@@ -89,12 +90,25 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
+    /**
+     * Parses records read through the channel without using regular expressions. This will be null if the
+     * separators could only be interpreted as regular expressions.
+     */
+    private RecordParser recordParser;
+
+    /**
+     * Parses the fields of records which are already separated, see {@link #getFields(String)}.
+     */
+    private RecordParser fieldParser;
+
     private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
 
     public DelimitedRecordChannel(CharacterChannel channel, Format format) {
         this.channel = channel;
         this.format = format;
         this.persistentCharSequence = new StringBuilder();
+        this.recordParser = RecordParser.forFormat(format);
+        this.fieldParser = RecordParser.forFormat(format);
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
@@ -102,6 +116,8 @@ public class DelimitedRecordChannel implements IOChannel {
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
         this.persistentCharSequence = new StringBuilder();
+        this.recordParser = RecordParser.forSeparators(recordSeparator, fieldSeparator);
+        this.fieldParser = RecordParser.forSeparators(recordSeparator, fieldSeparator);
     }
 
     @Override
@@ -233,10 +249,42 @@ public class DelimitedRecordChannel implements IOChannel {
     private String readRecordFromChannel() throws BallerinaIOException {
         String readCharacters;
         readCharacters = channel.read(recordCharacterCount);
-        persistentCharSequence.append(readCharacters);
+        if (null != recordParser) {
+            recordParser.feed(readCharacters);
+        } else {
+            persistentCharSequence.append(readCharacters);
+        }
         return readCharacters;
     }
 
+    /**
+     * <p>
+     * Reads the fields of the next record through the record parser.
+     * </p>
+     * <p>
+     * Characters are fed to the parser chunk by chunk, the parser retains the state of a partially read record
+     * hence the characters read are scanned only once.
+     * </p>
+     *
+     * @return the fields of the record or null if there are no records left.
+     * @throws BallerinaIOException during I/O error.
+     */
+    private String[] parseRecord() throws BallerinaIOException {
+        String[] fields = recordParser.next();
+        while (null == fields && remaining) {
+            readRecordFromChannel();
+            fields = recordParser.next();
+            if (null == fields && channel.hasReachedEnd()) {
+                fields = recordParser.finish();
+                this.remaining = false;
+            }
+        }
+        if (recordParser.getRecordLength() > recordCharacterCount) {
+            recordCharacterCount = recordParser.getRecordLength();
+        }
+        return fields;
+    }
+
     /**
      * <p>
      * Identifies the record from the provided collection.
@@ -295,6 +343,9 @@ public class DelimitedRecordChannel implements IOChannel {
      * @return fields which are separated as records.
      */
     public String[] getFields(String record) {
+        if (null != fieldParser) {
+            return fieldParser.parseFields(record);
+        }
         String fieldSeparatorForReading = getFieldSeparatorForReading();
         if (null != format && format.shouldIgnoreBlanks()) {
             return splitIgnoreBlanks(record, fieldSeparatorForReading);
@@ -303,6 +354,24 @@ public class DelimitedRecordChannel implements IOChannel {
         }
     }
 
+    /**
+     * <p>
+     * Restricts the fields which are materialized when reading records, see {@link RecordParser#setProjection}.
+     * </p>
+     * <p>
+     * Fields which are not selected will be null. The projection is ignored if the separators could only be
+     * interpreted as regular expressions, hence all fields will be materialized.
+     * </p>
+     *
+     * @param columns specifies whether the field at each index should be materialized or null for all fields.
+     */
+    public void setProjection(boolean[] columns) {
+        if (null != recordParser) {
+            recordParser.setProjection(columns);
+            fieldParser.setProjection(columns);
+        }
+    }
+
     /**
      * <p>
      * Read the next readRecord.
@@ -318,13 +387,19 @@ public class DelimitedRecordChannel implements IOChannel {
     public String[] read() throws BallerinaIOException {
         final int emptyArrayIndex = 0;
         String[] fields = new String[emptyArrayIndex];
-        if (remaining) {
+        if (remaining && null != recordParser) {
+            String[] parsedFields = parseRecord();
+            if (null != parsedFields) {
+                fields = parsedFields;
+                numberOfRecordsReadThroughChannel++;
+            }
+        } else if (remaining) {
             String record = readRecord();
             if (!record.isEmpty() || remaining) {
                 fields = getFields(record);
                 numberOfRecordsReadThroughChannel++;
             }
-        } 
+        }
         return fields;
     }
 
@@ -401,7 +476,7 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return persistentCharSequence.length() > 0 || (null != recordParser && recordParser.hasRemaining());
     }
 
     /**
@@ -411,6 +486,15 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
+        if (null != recordParser) {
+            while (remaining && !recordParser.hasRemaining()) {
+                String readChars = readRecordFromChannel();
+                if (readChars.isEmpty()) {
+                    remaining = false;
+                }
+            }
+            return remaining;
+        }
         if (remaining && persistentCharSequence.length() == 0) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels.base;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Decodes the bytes of the UTF-8, US-ASCII and ISO-8859-1 character sets directly into a character buffer.
+ * </p>
+ * <p>
+ * The bytes are scanned eight at a time for the high bit, hence runs of ASCII characters are copied without being
+ * decoded. A UTF-8 sequence which is split at the end of the bytes is left in the input, so that it is decoded with
+ * the bytes which follow. Malformed input is handed to the decoder of the character set, hence it is replaced the
+ * same way as by the generic decoding.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class FastPathDecoder {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private enum Kind {
+        ASCII, LATIN1, UTF8
+    }
+
+    private final Kind kind;
+    private final CharsetDecoder decoder;
+
+    private FastPathDecoder(Kind kind, CharsetDecoder decoder) {
+        this.kind = kind;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Provides the fast path for the character set of the given decoder.
+     *
+     * @param decoder the decoder which replaces malformed input.
+     * @return the fast path decoder or null if the character set does not have a fast path.
+     */
+    static FastPathDecoder of(CharsetDecoder decoder) {
+        Charset charset = decoder.charset();
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return new FastPathDecoder(Kind.UTF8, decoder);
+        } else if (StandardCharsets.US_ASCII.equals(charset)) {
+            return new FastPathDecoder(Kind.ASCII, decoder);
+        } else if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return new FastPathDecoder(Kind.LATIN1, decoder);
+        }
+        return null;
+    }
+
+    /**
+     * Decodes the bytes into the given buffer, which should have room for a character per byte.
+     *
+     * @param in         the bytes which are decoded, the position is moved past the decoded bytes.
+     * @param out        the buffer the characters are written to.
+     * @param endOfInput whether there are no bytes which follow, if so a split sequence is replaced.
+     */
+    void decode(ByteBuffer in, CharBuffer out, boolean endOfInput) {
+        if (!in.hasArray() || !out.hasArray() || out.remaining() < in.remaining()) {
+            decodeMalformed(in, out, endOfInput);
+            return;
+        }
+        byte[] src = in.array();
+        int sp = in.arrayOffset() + in.position();
+        int sl = in.arrayOffset() + in.limit();
+        char[] dst = out.array();
+        int dp = out.arrayOffset() + out.position();
+        while (sp < sl) {
+            while (sp + Long.BYTES <= sl && ((long) LONG_VIEW.get(src, sp) & HIGH_BITS) == 0) {
+                for (int i = 0; i < Long.BYTES; i++) {
+                    dst[dp + i] = (char) src[sp + i];
+                }
+                sp += Long.BYTES;
+                dp += Long.BYTES;
+            }
+            if (sp == sl) {
+                break;
+            }
+            int b = src[sp];
+            if (b >= 0) {
+                dst[dp++] = (char) b;
+                sp++;
+            } else if (kind == Kind.LATIN1) {
+                dst[dp++] = (char) (b & 0xff);
+                sp++;
+            } else if (kind == Kind.ASCII) {
+                dst[dp++] = REPLACEMENT_CHARACTER;
+                sp++;
+            } else {
+                int length = getSequenceLength(b);
+                if (sl - sp < length && !endOfInput) {
+                    //The sequence is completed by the bytes which follow
+                    break;
+                }
+                int decoded = sl - sp < length ? 0 : decodeSequence(src, sp, length, dst, dp);
+                if (decoded > 0) {
+                    sp += length;
+                    dp += decoded;
+                    continue;
+                }
+                in.position(sp - in.arrayOffset());
+                out.position(dp - out.arrayOffset());
+                ByteBuffer malformed = in.duplicate();
+                malformed.limit(Math.min(in.limit(), in.position() + length));
+                //The bytes which follow the slice are still to be decoded, hence the slice is not the end of the input
+                decodeMalformed(malformed, out, endOfInput && malformed.limit() == in.limit());
+                if (malformed.position() == in.position()) {
+                    out.put(REPLACEMENT_CHARACTER);
+                    malformed.position(malformed.position() + 1);
+                }
+                sp = in.arrayOffset() + malformed.position();
+                dp = out.arrayOffset() + out.position();
+            }
+        }
+        in.position(sp - in.arrayOffset());
+        out.position(dp - out.arrayOffset());
+    }
+
+    private void decodeMalformed(ByteBuffer in, CharBuffer out, boolean endOfInput) {
+        decoder.reset();
+        decoder.decode(in, out, endOfInput);
+        if (endOfInput) {
+            decoder.flush(out);
+        }
+    }
+
+    /**
+     * Provides the number of bytes of a UTF-8 sequence based on its first byte.
+     */
+    private static int getSequenceLength(int b) {
+        if ((b & 0xe0) == 0xc0) {
+            return 2;
+        } else if ((b & 0xf0) == 0xe0) {
+            return 3;
+        } else if ((b & 0xf8) == 0xf0) {
+            return 4;
+        }
+        return 1;
+    }
+
+    /**
+     * Decodes a UTF-8 sequence of two, three or four bytes.
+     *
+     * @return the number of characters which were decoded, or 0 if the sequence is malformed.
+     */
+    private static int decodeSequence(byte[] src, int sp, int length, char[] dst, int dp) {
+        int b0 = src[sp] & 0xff;
+        if (length == 2) {
+            int b1 = src[sp + 1];
+            if (b0 < 0xc2 || !isContinuation(b1)) {
+                return 0;
+            }
+            dst[dp] = (char) (((b0 & 0x1f) << 6) | (b1 & 0x3f));
+            return 1;
+        } else if (length == 3) {
+            int b1 = src[sp + 1] & 0xff;
+            int b2 = src[sp + 2];
+            if (!isContinuation(b1) || !isContinuation(b2) || (b0 == 0xe0 && b1 < 0xa0) ||
+                    (b0 == 0xed && b1 > 0x9f)) {
+                return 0;
+            }
+            dst[dp] = (char) (((b0 & 0x0f) << 12) | ((b1 & 0x3f) << 6) | (b2 & 0x3f));
+            return 1;
+        } else if (length == 4) {
+            int b1 = src[sp + 1] & 0xff;
+            int b2 = src[sp + 2];
+            int b3 = src[sp + 3];
+            if (b0 > 0xf4 || !isContinuation(b1) || !isContinuation(b2) || !isContinuation(b3) ||
+                    (b0 == 0xf0 && b1 < 0x90) || (b0 == 0xf4 && b1 > 0x8f)) {
+                return 0;
+            }
+            int codePoint = ((b0 & 0x07) << 18) | ((b1 & 0x3f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f);
+            dst[dp] = Character.highSurrogate(codePoint);
+            dst[dp + 1] = Character.lowSurrogate(codePoint);
+            return 2;
+        }
+        return 0;
+    }
+
+    private static boolean isContinuation(int b) {
+        return (b & 0xc0) == 0x80;
+    }
+}
@@ -25,15 +25,15 @@ public enum Format {
     /**
      * The format would default, however empty lines will be allowed.
      */
-    DEFAULT(",", "\\r?\\n", ",", "\n", false),
+    DEFAULT(",", "\\r?\\n", ",", "\n", false, ','),
     /**
      * CSV should conform with RFC4180 specification.
      */
-    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", true),
+    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", true, ','),
     /**
      * Tab delimited records.
      */
-    TDF("\\t", "\\r?\\n", "\t", "\n", false);
+    TDF("\\t", "\\r?\\n", "\t", "\n", false, '\t');
 
     /**
      * Defines the record separator for the format.
@@ -55,13 +55,18 @@ public enum Format {
      * Specifies whether to ignore blanks.
      */
     private boolean ignoreBlanks;
+    /**
+     * Defines the character which separates fields when records are parsed without regular expressions.
+     */
+    private char fieldDelimiter;
 
-    Format(String rfs, String rrs, String wfs, String wrs, boolean ignoreBlank) {
+    Format(String rfs, String rrs, String wfs, String wrs, boolean ignoreBlank, char fieldDelimiter) {
         this.readFieldSeparator = rfs;
         this.readRecSeparator = rrs;
         this.writeFieldSeparator = wfs;
         this.writeRecSeparator = wrs;
         this.ignoreBlanks = ignoreBlank;
+        this.fieldDelimiter = fieldDelimiter;
     }
 
     public String getReadRecSeparator() {
@@ -83,4 +88,8 @@ public enum Format {
     public boolean shouldIgnoreBlanks() {
         return ignoreBlanks;
     }
+
+    public char getFieldDelimiter() {
+        return fieldDelimiter;
+    }
 }
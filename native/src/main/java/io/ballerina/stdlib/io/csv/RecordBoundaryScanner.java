@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Identifies record boundaries of a RFC4180 CSV file at byte level.
+ * </p>
+ * <p>
+ * A record ends at a line feed, a carriage return or a carriage return followed by a line feed, which is not enclosed
+ * within double quotes. The scanner follows the states of {@link RecordParser}, a double quote opens a quoted field
+ * only at the start of a field and a double quote within an unquoted field is a literal. A boundary is found at the
+ * byte which follows the terminator of a record, hence a line feed which follows a carriage return remains a part of
+ * the preceding record. Field separators, quotes and line terminators are ASCII characters, which never occur within
+ * a multi-byte UTF-8 sequence, therefore the file does not need to be decoded in order to find the boundaries.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public final class RecordBoundaryScanner {
+
+    /**
+     * The state at the start of a record.
+     */
+    static final int FIELD_START = 0;
+
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+    private static final int RECORD_END = 4;
+    private static final int CARRIAGE_RETURN_END = 5;
+    private static final int NUMBER_OF_STATES = 6;
+
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte FIELD_SEPARATOR = (byte) Format.CSV.getFieldDelimiter();
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private RecordBoundaryScanner() {
+    }
+
+    /**
+     * Finds the position after the given number of records.
+     *
+     * @param channel  the file channel.
+     * @param position the position of the first record.
+     * @param count    the number of records to skip.
+     * @return the position of the record which follows or the size of the file if there are not enough records.
+     * @throws IOException during I/O error.
+     */
+    public static long skipRecords(FileChannel channel, long position, long count) throws IOException {
+        return skipRecords(channel, position, count, true);
+    }
+
+    /**
+     * Finds the position after the given number of records.
+     *
+     * @param channel  the file channel.
+     * @param position the position of the first record.
+     * @param count    the number of records to skip.
+     * @param quoting  whether line terminators within double quotes are a part of the record, if not every line
+     *                 terminator ends a record.
+     * @return the position of the record which follows or the size of the file if there are not enough records.
+     * @throws IOException during I/O error.
+     */
+    public static long skipRecords(FileChannel channel, long position, long count, boolean quoting)
+            throws IOException {
+        long end = channel.size();
+        long current = position;
+        for (long i = 0; i < count && current < end; i++) {
+            current = nextBoundary(channel, current, end, FIELD_START, quoting);
+        }
+        return current;
+    }
+
+    /**
+     * <p>
+     * Splits the content between the given positions to ranges which contain complete records.
+     * </p>
+     * <p>
+     * The content is divided to approximately equal parts, the state which each part ends in is resolved
+     * concurrently for every state it could start in. The states at the split points are then chained from the
+     * start, which is at a record boundary, and each split point is moved forward to the end of the record it falls
+     * within.
+     * </p>
+     *
+     * @param channel  the file channel.
+     * @param start    the position of the first record.
+     * @param end      the position after the last record.
+     * @param parts    the number of parts.
+     * @param executor the executor which scans the parts.
+     * @return the positions of the boundaries of the ranges, including the start and the end.
+     * @throws IOException during I/O error.
+     */
+    public static long[] split(FileChannel channel, long start, long end, int parts, ExecutorService executor)
+            throws IOException {
+        return split(channel, start, end, parts, executor, true);
+    }
+
+    /**
+     * Splits the content between the given positions to ranges which contain complete records.
+     *
+     * @param channel  the file channel.
+     * @param start    the position of the first record.
+     * @param end      the position after the last record.
+     * @param parts    the number of parts.
+     * @param executor the executor which scans the parts.
+     * @param quoting  whether line terminators within double quotes are a part of the record, if not every line
+     *                 terminator ends a record.
+     * @return the positions of the boundaries of the ranges, including the start and the end.
+     * @throws IOException during I/O error.
+     */
+    public static long[] split(FileChannel channel, long start, long end, int parts, ExecutorService executor,
+                               boolean quoting) throws IOException {
+        long[] approximate = new long[parts + 1];
+        for (int i = 0; i <= parts; i++) {
+            approximate[i] = start + (end - start) * i / parts;
+        }
+        List<Future<int[]>> transitions = new ArrayList<>();
+        for (int i = 0; quoting && i < parts - 1; i++) {
+            final long from = approximate[i];
+            final long to = approximate[i + 1];
+            transitions.add(executor.submit(() -> resolveEndStates(channel, from, to)));
+        }
+        List<Future<Long>> splitPoints = new ArrayList<>();
+        int state = FIELD_START;
+        for (int i = 1; i < parts; i++) {
+            if (quoting) {
+                state = await(transitions.get(i - 1))[state];
+            }
+            final long from = approximate[i];
+            final int initialState = state;
+            splitPoints.add(executor.submit(() -> nextBoundary(channel, from, end, initialState, quoting)));
+        }
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(start);
+        for (Future<Long> splitPoint : splitPoints) {
+            long boundary = await(splitPoint);
+            if (boundary > boundaries.get(boundaries.size() - 1) && boundary < end) {
+                boundaries.add(boundary);
+            }
+        }
+        boundaries.add(end);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Resolves the state, which the parser would be in at the end of the given range, for each state it could be in
+     * at the start of the range. The states converge at the first field separator or line terminator outside of quotes,
+     * the rest of the range is scanned for a single state.
+     *
+     * @return the end state indexed by the start state.
+     */
+    private static int[] resolveEndStates(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        int[] states = new int[NUMBER_OF_STATES];
+        for (int i = 0; i < NUMBER_OF_STATES; i++) {
+            states[i] = i;
+        }
+        boolean converged = false;
+        int state = FIELD_START;
+        long position = from;
+        while (position < to) {
+            buffer.clear();
+            buffer.limit((int) Math.min(SCAN_BUFFER_SIZE, to - position));
+            int numberOfBytesRead = channel.read(buffer, position);
+            if (numberOfBytesRead < 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < numberOfBytesRead; i++) {
+                if (converged) {
+                    state = transition(state, bytes[i], true);
+                    continue;
+                }
+                converged = true;
+                for (int j = 0; j < NUMBER_OF_STATES; j++) {
+                    states[j] = transition(states[j], bytes[i], true);
+                    converged &= states[j] == states[0];
+                }
+                state = states[0];
+            }
+            position += numberOfBytesRead;
+        }
+        if (converged) {
+            for (int i = 0; i < NUMBER_OF_STATES; i++) {
+                states[i] = state;
+            }
+        }
+        return states;
+    }
+
+    private static long nextBoundary(FileChannel channel, long from, long end, int initialState, boolean quoting)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        int state = initialState;
+        long position = from;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(SCAN_BUFFER_SIZE, end - position));
+            int numberOfBytesRead = channel.read(buffer, position);
+            if (numberOfBytesRead < 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < numberOfBytesRead; i++) {
+                if (startsRecord(state, bytes[i])) {
+                    return position + i;
+                }
+                state = transition(state, bytes[i], quoting);
+            }
+            position += numberOfBytesRead;
+        }
+        return end;
+    }
+
+    /**
+     * Specifies whether a record starts at the given byte, when the parser is in the given state before the byte.
+     *
+     * @param state the state before the byte.
+     * @param b     the byte.
+     * @return true if the preceding bytes end with the terminator of a record, a line feed which follows a carriage
+     * return is a part of the terminator.
+     */
+    static boolean startsRecord(int state, byte b) {
+        return state == RECORD_END || (state == CARRIAGE_RETURN_END && b != LF);
+    }
+
+    /**
+     * Specifies whether the parser is at the end of a record in the given state, i.e. the content which is scanned so
+     * far ends with the terminator of a record.
+     *
+     * @param state the state after the last byte.
+     * @return true if the state follows the terminator of a record.
+     */
+    static boolean endsRecord(int state) {
+        return state == RECORD_END || state == CARRIAGE_RETURN_END;
+    }
+
+    /**
+     * Provides the state of the parser after the given byte, a line feed or a carriage return outside of quotes ends
+     * a record, hence the next field starts after it.
+     *
+     * @param state   the state before the byte.
+     * @param b       the byte.
+     * @param quoting whether a double quote at the start of a field opens a quoted field.
+     * @return the state after the byte.
+     */
+    static int transition(int state, byte b, boolean quoting) {
+        switch (state) {
+            case QUOTED:
+                return b == QUOTE ? QUOTE_IN_QUOTED : QUOTED;
+            case QUOTE_IN_QUOTED:
+                return b == QUOTE ? QUOTED : afterUnquoted(b);
+            case UNQUOTED:
+                return afterUnquoted(b);
+            default:
+                //A field starts, either after a field separator or after the terminator of a record
+                return b == QUOTE && quoting ? QUOTED : afterUnquoted(b);
+        }
+    }
+
+    private static int afterUnquoted(byte b) {
+        switch (b) {
+            case LF:
+                return RECORD_END;
+            case CR:
+                return CARRIAGE_RETURN_END;
+            default:
+                return b == FIELD_SEPARATOR ? FIELD_START : UNQUOTED;
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while scanning record boundaries", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.csv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Index of the byte offsets of the records of a file, which allows to read a record without scanning the preceding
+ * content.
+ * </p>
+ * <p>
+ * The offset of every Kth record is kept, a record in between is found by scanning forward from the closest indexed
+ * record. A record ends at a line feed, a carriage return or both, when quoting is enabled line terminators within
+ * double quotes are a part of the record, see {@link RecordBoundaryScanner}.
+ * </p>
+ * <p>
+ * The index is stored next to the file as a sidecar, where the record numbers and the offsets are delta encoded as
+ * variable length integers. The size and the last modified time of the file are stored along with it, a sidecar of
+ * a file which is modified is rebuilt, unless the file only grew, in which case only the appended content is indexed.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public final class RecordIndex {
+
+    /**
+     * The default number of records between two indexed records.
+     */
+    public static final int DEFAULT_STRIDE = 1024;
+
+    private static final int MAGIC = 0x42494458;
+    private static final byte VERSION = 1;
+    private static final byte LF = '\n';
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+    private static final long MIN_RANGE_SIZE = 1024 * 1024;
+    private static final String RECORDS_INDEX_SUFFIX = ".records.idx";
+    private static final String LINES_INDEX_SUFFIX = ".lines.idx";
+
+    private final boolean quoting;
+    private final int stride;
+    private final long size;
+    private final long modifiedTime;
+    private final long terminatedRecords;
+    private final long tailPosition;
+    private final long[] numbers;
+    private final long[] offsets;
+
+    private RecordIndex(boolean quoting, int stride, long size, long modifiedTime, long terminatedRecords,
+                        long tailPosition, long[] numbers, long[] offsets) {
+        this.quoting = quoting;
+        this.stride = stride;
+        this.size = size;
+        this.modifiedTime = modifiedTime;
+        this.terminatedRecords = terminatedRecords;
+        this.tailPosition = tailPosition;
+        this.numbers = numbers;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Provides the index of a file, the sidecar is used if it is up to date, otherwise it is built or updated and
+     * stored.
+     *
+     * @param file        the path of the file.
+     * @param channel     the channel of the file.
+     * @param quoting     whether line feeds within double quotes are a part of the record.
+     * @param parallelism the maximum number of ranges of the file which are indexed concurrently.
+     * @return the index of the file.
+     * @throws IOException during I/O error.
+     */
+    public static RecordIndex open(Path file, FileChannel channel, boolean quoting, int parallelism)
+            throws IOException {
+        Path indexPath = getIndexPath(file, quoting);
+        RecordIndex index = load(indexPath);
+        long currentSize = channel.size();
+        if (null != index && index.quoting == quoting) {
+            if (index.size == currentSize && index.modifiedTime == getModifiedTime(file)) {
+                return index;
+            }
+            if (index.size < currentSize && index.endsAtBoundary(channel)) {
+                index = build(file, channel, quoting, index.stride, parallelism, index);
+                index.storeQuietly(indexPath);
+                return index;
+            }
+        }
+        index = build(file, channel, quoting, DEFAULT_STRIDE, parallelism, null);
+        index.storeQuietly(indexPath);
+        return index;
+    }
+
+    /**
+     * Builds the index of a file and stores it as a sidecar.
+     *
+     * @param file        the path of the file.
+     * @param channel     the channel of the file.
+     * @param quoting     whether line feeds within double quotes are a part of the record.
+     * @param stride      the number of records between two indexed records.
+     * @param parallelism the maximum number of ranges of the file which are indexed concurrently.
+     * @return the index of the file.
+     * @throws IOException during I/O error.
+     */
+    public static RecordIndex create(Path file, FileChannel channel, boolean quoting, int stride, int parallelism)
+            throws IOException {
+        RecordIndex index = build(file, channel, quoting, stride, parallelism, null);
+        index.store(getIndexPath(file, quoting));
+        return index;
+    }
+
+    /**
+     * Provides the path of the sidecar of a file.
+     *
+     * @param file    the path of the file.
+     * @param quoting whether line feeds within double quotes are a part of the record.
+     * @return the path of the sidecar.
+     */
+    public static Path getIndexPath(Path file, boolean quoting) {
+        String suffix = quoting ? RECORDS_INDEX_SUFFIX : LINES_INDEX_SUFFIX;
+        return file.resolveSibling(file.getFileName().toString() + suffix);
+    }
+
+    /**
+     * Provides the number of records of the indexed file, the content after the last line terminator is counted as
+     * a record if it is not empty.
+     *
+     * @return the number of records.
+     */
+    public long getRecordCount() {
+        return terminatedRecords + (tailPosition < size ? 1 : 0);
+    }
+
+    /**
+     * Finds the position of a record.
+     *
+     * @param channel the channel of the indexed file.
+     * @param record  the number of the record, starting from zero.
+     * @return the position of the first byte of the record or the size of the file if there are not enough records.
+     * @throws IOException during I/O error.
+     */
+    public long getPosition(FileChannel channel, long record) throws IOException {
+        if (numbers.length == 0) {
+            return size;
+        }
+        int entry = Arrays.binarySearch(numbers, record);
+        if (entry < 0) {
+            entry = -entry - 2;
+        }
+        return RecordBoundaryScanner.skipRecords(channel, offsets[entry], record - numbers[entry], quoting);
+    }
+
+    private boolean endsAtBoundary(FileChannel channel) throws IOException {
+        if (tailPosition == 0) {
+            return true;
+        }
+        //A carriage return could be followed by an appended line feed, hence only a line feed ends the indexed content
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        return channel.read(lastByte, tailPosition - 1) == 1 && lastByte.get(0) == LF;
+    }
+
+    private static long getModifiedTime(Path file) throws IOException {
+        return Files.getLastModifiedTime(file).toMillis();
+    }
+
+    private static RecordIndex build(Path file, FileChannel channel, boolean quoting, int stride, int parallelism,
+                                     RecordIndex previous) throws IOException {
+        long modifiedTime = getModifiedTime(file);
+        long end = channel.size();
+        long start = 0;
+        long terminated = 0;
+        List<Long> numbers = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        if (null != previous) {
+            //Only the content after the last complete record is scanned again
+            start = previous.tailPosition;
+            terminated = previous.terminatedRecords;
+            for (int i = 0; i < previous.numbers.length && previous.numbers[i] < terminated; i++) {
+                numbers.add(previous.numbers[i]);
+                offsets.add(previous.offsets[i]);
+            }
+        }
+        List<RangeScan> scans = scan(channel, start, end, quoting, stride, parallelism);
+        long tail = start;
+        for (RangeScan rangeScan : scans) {
+            for (int j = 0; j < rangeScan.offsets.size(); j++) {
+                numbers.add(terminated + (long) j * stride);
+                offsets.add(rangeScan.offsets.get(j));
+            }
+            terminated += rangeScan.terminatedRecords;
+            tail = rangeScan.tailPosition;
+        }
+        return new RecordIndex(quoting, stride, end, modifiedTime, terminated, tail,
+                numbers.stream().mapToLong(Long::longValue).toArray(),
+                offsets.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private static List<RangeScan> scan(FileChannel channel, long start, long end, boolean quoting, int stride,
+                                        int parallelism) throws IOException {
+        int parts = (int) Math.max(1, Math.min(parallelism, (end - start) / MIN_RANGE_SIZE));
+        List<RangeScan> scans = new ArrayList<>();
+        if (parts < 2) {
+            scans.add(scanRange(channel, start, end, quoting, stride));
+            return scans;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parts);
+        try {
+            long[] boundaries = RecordBoundaryScanner.split(channel, start, end, parts, pool, quoting);
+            List<Future<RangeScan>> futures = new ArrayList<>();
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                final long from = boundaries[i];
+                final long to = boundaries[i + 1];
+                futures.add(pool.submit(() -> scanRange(channel, from, to, quoting, stride)));
+            }
+            for (Future<RangeScan> future : futures) {
+                scans.add(future.get());
+            }
+            return scans;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while indexing records", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static RangeScan scanRange(FileChannel channel, long from, long to, boolean quoting, int stride)
+            throws IOException {
+        RangeScan rangeScan = new RangeScan(from);
+        if (from < to) {
+            rangeScan.offsets.add(from);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        int state = RecordBoundaryScanner.FIELD_START;
+        long position = from;
+        while (position < to) {
+            buffer.clear();
+            buffer.limit((int) Math.min(SCAN_BUFFER_SIZE, to - position));
+            int numberOfBytesRead = channel.read(buffer, position);
+            if (numberOfBytesRead < 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < numberOfBytesRead; i++) {
+                if (RecordBoundaryScanner.startsRecord(state, bytes[i])) {
+                    rangeScan.terminatedRecords++;
+                    rangeScan.tailPosition = position + i;
+                    if (rangeScan.terminatedRecords % stride == 0) {
+                        rangeScan.offsets.add(rangeScan.tailPosition);
+                    }
+                }
+                state = RecordBoundaryScanner.transition(state, bytes[i], quoting);
+            }
+            position += numberOfBytesRead;
+        }
+        if (RecordBoundaryScanner.endsRecord(state)) {
+            rangeScan.terminatedRecords++;
+            rangeScan.tailPosition = to;
+        }
+        return rangeScan;
+    }
+
+    private static RecordIndex load(Path indexPath) {
+        if (!Files.isRegularFile(indexPath)) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                return null;
+            }
+            boolean quoting = input.readBoolean();
+            int stride = (int) readVarLong(input);
+            long size = input.readLong();
+            long modifiedTime = input.readLong();
+            long terminatedRecords = readVarLong(input);
+            long tailPosition = readVarLong(input);
+            int entries = (int) readVarLong(input);
+            long[] numbers = new long[entries];
+            long[] offsets = new long[entries];
+            long number = 0;
+            long offset = 0;
+            for (int i = 0; i < entries; i++) {
+                number += readVarLong(input);
+                offset += readVarLong(input);
+                numbers[i] = number;
+                offsets[i] = offset;
+            }
+            return new RecordIndex(quoting, stride, size, modifiedTime, terminatedRecords, tailPosition, numbers,
+                    offsets);
+        } catch (IOException | RuntimeException e) {
+            //A sidecar which could not be read is built again
+            return null;
+        }
+    }
+
+    private void store(Path indexPath) throws IOException {
+        Path parent = indexPath.toAbsolutePath().getParent();
+        Path temporaryPath = Files.createTempFile(parent, indexPath.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporaryPath)))) {
+                output.writeInt(MAGIC);
+                output.writeByte(VERSION);
+                output.writeBoolean(quoting);
+                writeVarLong(output, stride);
+                output.writeLong(size);
+                output.writeLong(modifiedTime);
+                writeVarLong(output, terminatedRecords);
+                writeVarLong(output, tailPosition);
+                writeVarLong(output, numbers.length);
+                for (int i = 0; i < numbers.length; i++) {
+                    writeVarLong(output, i == 0 ? numbers[i] : numbers[i] - numbers[i - 1]);
+                    writeVarLong(output, i == 0 ? offsets[i] : offsets[i] - offsets[i - 1]);
+                }
+            }
+            Files.move(temporaryPath, indexPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private void storeQuietly(Path indexPath) {
+        try {
+            store(indexPath);
+        } catch (IOException e) {
+            //The sidecar is a cache, the index is built again on the next read if it could not be stored
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte current = input.readByte();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed variable length integer");
+    }
+
+    /**
+     * The records found within a range of the file.
+     */
+    private static final class RangeScan {
+
+        private final List<Long> offsets = new ArrayList<>();
+        private long terminatedRecords = 0;
+        private long tailPosition;
+
+        private RangeScan(long from) {
+            this.tailPosition = from;
+        }
+    }
+}
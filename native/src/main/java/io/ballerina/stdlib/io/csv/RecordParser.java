@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Single pass, character level parser which identifies records and fields of delimited text.
+ * </p>
+ * <p>
+ * Content is fed to the parser in chunks, a record which spans across several chunks is kept as parser state, hence
+ * the already consumed content is never scanned again. When quoting is enabled fields are parsed according to
+ * RFC 4180, i.e. a field which starts with a double quote may contain field separators, record separators and
+ * escaped ("") double quotes.
+ * </p>
+ * <p>
+ * The fields produced are compatible with {@link String#split(String)}, trailing empty fields are omitted unless
+ * the record does not contain a field separator at all.
+ * </p>
+ * <p>
+ * <b>Note : </b> this parser is not thread safe.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class RecordParser {
+
+    /**
+     * Record separator value which denotes that a record is terminated by either LF, CRLF or CR.
+     */
+    public static final char LINE_SEPARATOR = '\0';
+
+    private static final char QUOTE = '"';
+    private static final char LF = '\n';
+    private static final char CR = '\r';
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+    private static final String LINE_SEPARATOR_REGEX = "\\r?\\n";
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final char fieldSeparator;
+    private final char recordSeparator;
+    private final boolean quoted;
+
+    private String chunk = "";
+    private int position = 0;
+    private int state = FIELD_START;
+    private boolean recordStarted = false;
+    private boolean skipLineFeed = false;
+    private int recordLength = 0;
+    private int pendingLength = 0;
+    private int lastNonEmptyField = -1;
+    private boolean[] projection = null;
+    private boolean skipField = false;
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+
+    public RecordParser(char fieldSeparator, char recordSeparator, boolean quoted) {
+        this.fieldSeparator = fieldSeparator;
+        this.recordSeparator = recordSeparator;
+        this.quoted = quoted;
+    }
+
+    /**
+     * Creates a parser for the given format.
+     *
+     * @param format the format of the records.
+     * @return a parser which reads records of the given format.
+     */
+    public static RecordParser forFormat(Format format) {
+        return new RecordParser(format.getFieldDelimiter(), LINE_SEPARATOR, format.shouldIgnoreBlanks());
+    }
+
+    /**
+     * <p>
+     * Creates a parser for custom separators.
+     * </p>
+     * <p>
+     * The separators are regular expressions, a parser will only be created if both of them denote a single
+     * character (or line endings in the case of the record separator).
+     * </p>
+     *
+     * @param recordSeparator the record separator.
+     * @param fieldSeparator  the field separator.
+     * @return the parser or null if the separators could only be interpreted as regular expressions.
+     */
+    public static RecordParser forSeparators(String recordSeparator, String fieldSeparator) {
+        if (null == recordSeparator || null == fieldSeparator) {
+            return null;
+        }
+        int fieldChar = toLiteral(fieldSeparator);
+        int recordChar = LINE_SEPARATOR_REGEX.equals(recordSeparator) ? LINE_SEPARATOR : toLiteral(recordSeparator);
+        if (fieldChar <= LINE_SEPARATOR || recordChar < 0 || fieldChar == recordChar) {
+            return null;
+        }
+        if (recordChar == LINE_SEPARATOR && !LINE_SEPARATOR_REGEX.equals(recordSeparator)) {
+            return null;
+        }
+        return new RecordParser((char) fieldChar, (char) recordChar, false);
+    }
+
+    /**
+     * Resolves the literal character represented through a regular expression.
+     *
+     * @param regex the regular expression.
+     * @return the character or -1 if the expression does not match a single literal character.
+     */
+    private static int toLiteral(String regex) {
+        if (regex.length() == 1 && REGEX_META_CHARACTERS.indexOf(regex.charAt(0)) < 0) {
+            return regex.charAt(0);
+        }
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            char escaped = regex.charAt(1);
+            switch (escaped) {
+                case 't':
+                    return '\t';
+                case 'n':
+                    return LF;
+                case 'r':
+                    return CR;
+                default:
+                    return REGEX_META_CHARACTERS.indexOf(escaped) < 0 ? -1 : escaped;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>
+     * Restricts the fields which are materialized.
+     * </p>
+     * <p>
+     * Fields which are not selected are still scanned in order to find the boundaries of the fields and the record,
+     * but their content is not copied, such fields are returned as null.
+     * </p>
+     *
+     * @param columns specifies whether the field at each index should be materialized, fields beyond the length of
+     *                the array are not materialized. Null materializes all fields.
+     */
+    public void setProjection(boolean[] columns) {
+        projection = null == columns ? null : columns.clone();
+        skipField = isSkipped(fields.size());
+    }
+
+    /**
+     * Provides the next chunk of content. Should only be called once the previous chunk is consumed.
+     *
+     * @param content the content which follows the previously fed content.
+     */
+    public void feed(String content) {
+        chunk = content;
+        position = 0;
+        if (skipLineFeed && !content.isEmpty()) {
+            skipLineFeed = false;
+            if (content.charAt(0) == LF) {
+                position = 1;
+            }
+        }
+    }
+
+    /**
+     * Specifies whether there are characters fed to the parser which are not yet consumed.
+     *
+     * @return true if there are unconsumed characters.
+     */
+    public boolean hasRemaining() {
+        return position < chunk.length();
+    }
+
+    /**
+     * Provides the number of characters consumed by the most recent record.
+     *
+     * @return the character count of the record including the quotes.
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Parses the next record from the content fed so far.
+     *
+     * @return fields of the record or null if more content is required to complete the record.
+     */
+    public String[] next() {
+        final String content = chunk;
+        final int length = content.length();
+        final int recordStart = position;
+        int i = position;
+        int runStart = i;
+        while (i < length) {
+            char c = content.charAt(i);
+            switch (state) {
+                case FIELD_START:
+                    recordStarted = true;
+                    if (quoted && c == QUOTE) {
+                        state = QUOTED;
+                        runStart = i + 1;
+                    } else if (c == fieldSeparator) {
+                        endField(true);
+                        runStart = i + 1;
+                    } else if (isRecordSeparator(c)) {
+                        completeRecord(recordStart, i + 1);
+                        return endRecord(c, true);
+                    } else {
+                        state = UNQUOTED;
+                    }
+                    break;
+                case UNQUOTED:
+                    if (c == fieldSeparator) {
+                        append(content, runStart, i);
+                        endField(false);
+                        runStart = i + 1;
+                    } else if (isRecordSeparator(c)) {
+                        append(content, runStart, i);
+                        completeRecord(recordStart, i + 1);
+                        return endRecord(c, false);
+                    }
+                    break;
+                case QUOTED:
+                    if (c == QUOTE) {
+                        append(content, runStart, i);
+                        state = QUOTE_IN_QUOTED;
+                        runStart = i + 1;
+                    }
+                    break;
+                default:
+                    if (c == QUOTE) {
+                        //Escaped quote, the second quote is retained as a part of the next run
+                        state = QUOTED;
+                        runStart = i;
+                    } else if (c == fieldSeparator) {
+                        endField(false);
+                        runStart = i + 1;
+                    } else if (isRecordSeparator(c)) {
+                        completeRecord(recordStart, i + 1);
+                        return endRecord(c, false);
+                    } else {
+                        //Content after the closing quote is taken as it is
+                        state = UNQUOTED;
+                        runStart = i;
+                    }
+                    break;
+            }
+            i++;
+        }
+        if (state == UNQUOTED || state == QUOTED) {
+            append(content, runStart, length);
+        }
+        pendingLength += length - recordStart;
+        position = length;
+        return null;
+    }
+
+    /**
+     * Completes the record which is partially parsed. Should be called once the end of the content is reached.
+     *
+     * @return fields of the final record or null if there is no pending record.
+     */
+    public String[] finish() {
+        skipLineFeed = false;
+        if (!recordStarted) {
+            return null;
+        }
+        recordLength = pendingLength;
+        pendingLength = 0;
+        return endRecord(LF, state == FIELD_START);
+    }
+
+    /**
+     * Parses the fields of a single record which is already separated.
+     *
+     * @param record the record content.
+     * @return fields of the record.
+     */
+    public String[] parseFields(String record) {
+        reset();
+        feed(record);
+        String[] result = next();
+        if (null == result) {
+            result = finish();
+        }
+        if (null == result) {
+            result = new String[]{""};
+        }
+        reset();
+        return result;
+    }
+
+    /**
+     * Discards the parser state.
+     */
+    public void reset() {
+        chunk = "";
+        position = 0;
+        state = FIELD_START;
+        recordStarted = false;
+        skipLineFeed = false;
+        recordLength = 0;
+        pendingLength = 0;
+        lastNonEmptyField = -1;
+        field.setLength(0);
+        fields.clear();
+        skipField = isSkipped(0);
+    }
+
+    private void completeRecord(int recordStart, int recordEnd) {
+        position = recordEnd;
+        recordLength = pendingLength + recordEnd - recordStart;
+        pendingLength = 0;
+    }
+
+    private boolean isRecordSeparator(char c) {
+        if (recordSeparator == LINE_SEPARATOR) {
+            return c == LF || c == CR;
+        }
+        return c == recordSeparator;
+    }
+
+    private boolean isSkipped(int index) {
+        return projection != null && (index >= projection.length || !projection[index]);
+    }
+
+    private void append(String content, int from, int to) {
+        if (!skipField) {
+            field.append(content, from, to);
+        }
+    }
+
+    private void endField(boolean empty) {
+        if (!empty) {
+            lastNonEmptyField = fields.size();
+        }
+        fields.add(skipField ? null : field.toString());
+        field.setLength(0);
+        state = FIELD_START;
+        skipField = isSkipped(fields.size());
+    }
+
+    private String[] endRecord(char separator, boolean emptyField) {
+        endField(emptyField);
+        String[] record;
+        if (fields.size() == 1) {
+            record = new String[]{fields.get(0)};
+        } else {
+            record = fields.subList(0, lastNonEmptyField + 1).toArray(new String[0]);
+        }
+        fields.clear();
+        lastNonEmptyField = -1;
+        recordStarted = false;
+        skipField = isSkipped(0);
+        if (recordSeparator == LINE_SEPARATOR && separator == CR) {
+            if (position < chunk.length()) {
+                if (chunk.charAt(position) == LF) {
+                    position++;
+                }
+            } else {
+                skipLineFeed = true;
+            }
+        }
+        return record;
+    }
+}
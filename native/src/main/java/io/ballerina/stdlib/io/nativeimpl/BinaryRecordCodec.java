@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.io.channels.base.DataChannel;
+import io.ballerina.stdlib.io.channels.base.Representation;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Writes and reads Ballerina records in a compact binary format through a {@link DataChannel}.
+ * </p>
+ * <p>
+ * The file starts with a header, which describes the name, the type and the nillability of each field. Each record
+ * follows as a bitmap of the nil fields, which is written as variable length integers of 64 fields each, and the
+ * values of the fields, which are not nil. Integers are ZigZag encoded variable length integers, floats are 64 bit
+ * floats, booleans are a single byte, and strings and decimals are length prefixed UTF-8 strings.
+ * </p>
+ * <p>
+ * The record type and the header are inspected once when the codec is compiled, each field is assigned with an
+ * encoder or a decoder for its type, hence the records are converted without inspecting the type again. Fields of
+ * the file, which are not in the record type, are read and skipped.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class BinaryRecordCodec {
+
+    static final int MAGIC = 0x42524543;
+    static final int VERSION = 1;
+    private static final int MAX_FIELDS = 65536;
+    private static final int INT = 1;
+    private static final int FLOAT = 2;
+    private static final int DECIMAL = 3;
+    private static final int STRING = 4;
+    private static final int BOOLEAN = 5;
+    //How a nil value of the file is mapped to a record field
+    private static final int NIL_REJECTED = 0;
+    private static final int NIL_OMITTED = 1;
+    private static final int NIL_ASSIGNED = 2;
+    private static final String[] TYPE_NAMES = {null, "int", "float", "decimal", "string", "boolean"};
+    private static final FieldEncoder[] ENCODERS = {
+            null,
+            (channel, value) -> channel.writeVarLong((Long) value, true),
+            (channel, value) -> channel.writeDouble((Double) value, Representation.BIT_64),
+            (channel, value) -> channel.writeLengthPrefixedString(((BDecimal) value).decimalValue().toString()),
+            (channel, value) -> channel.writeLengthPrefixedString(((BString) value).getValue()),
+            (channel, value) -> channel.writeBoolean((Boolean) value)
+    };
+    private static final FieldDecoder[] DECODERS = {
+            null,
+            channel -> channel.readVarLong(true),
+            channel -> channel.readDouble(Representation.BIT_64),
+            channel -> ValueCreator.createDecimalValue(channel.readLengthPrefixedString()),
+            channel -> StringUtils.fromString(channel.readLengthPrefixedString()),
+            DataChannel::readBoolean
+    };
+
+    private final Module module;
+    private final String typeName;
+    private final String[] names;
+    private final int[] types;
+    private final BString[] keys;
+    private final int[] nilIndexes;
+    private final long[] nilBitmap;
+    private final int[] nilHandling;
+
+    private BinaryRecordCodec(Type recordType, String[] names, int[] types, BString[] keys, int[] nilIndexes,
+                              int[] nilHandling) {
+        this.module = recordType.getPackage();
+        this.typeName = recordType.getName();
+        this.names = names;
+        this.types = types;
+        this.keys = keys;
+        this.nilIndexes = nilIndexes;
+        this.nilHandling = nilHandling;
+        int nillableFields = (int) Arrays.stream(nilIndexes).filter(index -> index >= 0).count();
+        this.nilBitmap = new long[(nillableFields + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * Compiles the codec which writes the fields of the given record type.
+     *
+     * @param structType the record type.
+     * @return the codec or an error if the type of a field is not supported.
+     */
+    static Object forWriting(StructureType structType) {
+        Map<String, Field> structFields = structType.getFields();
+        int fields = structFields.size();
+        String[] names = new String[fields];
+        int[] types = new int[fields];
+        BString[] keys = new BString[fields];
+        int[] nilIndexes = new int[fields];
+        int nillableFields = 0;
+        int i = 0;
+        for (Field field : structFields.values()) {
+            names[i] = field.getFieldName();
+            keys[i] = StringUtils.fromString(names[i]);
+            types[i] = getTypeCode(field);
+            if (types[i] < 0) {
+                return unsupportedField(field);
+            }
+            nilIndexes[i] = isNillable(field) ? nillableFields++ : -1;
+            i++;
+        }
+        return new BinaryRecordCodec(structType, names, types, keys, nilIndexes, null);
+    }
+
+    /**
+     * Reads the header of a file and compiles the codec which reads its fields into the given record type.
+     *
+     * @param channel    the channel of the file.
+     * @param structType the record type.
+     * @return the codec or an error if the file does not match the record type.
+     * @throws IOException if the header could not be read.
+     */
+    static Object forReading(DataChannel channel, StructureType structType) throws IOException {
+        if (channel.readLong(Representation.BIT_32).getValue() != MAGIC) {
+            return IOUtils.createError("The file does not contain binary records");
+        }
+        long version = channel.readVarLong(false);
+        if (version != VERSION) {
+            return IOUtils.createError("Unsupported version of the binary records: " + version);
+        }
+        long fieldCount = channel.readVarLong(false);
+        if (fieldCount < 0 || fieldCount > MAX_FIELDS) {
+            return IOUtils.createError("Invalid number of fields in the binary records: " + fieldCount);
+        }
+        int fields = (int) fieldCount;
+        String[] names = new String[fields];
+        int[] types = new int[fields];
+        BString[] keys = new BString[fields];
+        int[] nilIndexes = new int[fields];
+        int[] nilHandling = new int[fields];
+        Map<String, Field> structFields = structType.getFields();
+        int nillableFields = 0;
+        int mappedFields = 0;
+        for (int i = 0; i < fields; i++) {
+            names[i] = channel.readLengthPrefixedString();
+            long type = channel.readVarLong(false);
+            if (type < INT || type > BOOLEAN) {
+                return IOUtils.createError("Unsupported type of the field '" + names[i] + "' in the binary records");
+            }
+            types[i] = (int) type;
+            nilIndexes[i] = channel.readBoolean() ? nillableFields++ : -1;
+            Field field = structFields.get(names[i]);
+            if (null == field) {
+                continue;
+            }
+            if (getTypeCode(field) != types[i]) {
+                return IOUtils.createError("The field '" + names[i] + "' is written as '" + TYPE_NAMES[types[i]] +
+                        "', which does not match the type of the record field");
+            }
+            keys[i] = StringUtils.fromString(names[i]);
+            nilHandling[i] = getNilHandling(field);
+            mappedFields++;
+        }
+        if (mappedFields < structFields.size()) {
+            List<String> fileFields = Arrays.asList(names);
+            for (Field field : structFields.values()) {
+                if (!fileFields.contains(field.getFieldName()) &&
+                        !SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL)) {
+                    return IOUtils.createError("The field '" + field.getFieldName() +
+                            "' of the record type is not in the binary records");
+                }
+            }
+        }
+        return new BinaryRecordCodec(structType, names, types, keys, nilIndexes, nilHandling);
+    }
+
+    private static int getTypeCode(Field field) {
+        Type fieldType = TypeUtils.getReferredType(field.getFieldType());
+        if (fieldType.getTag() == TypeTags.UNION_TAG) {
+            List<Type> members = ((UnionType) fieldType).getMemberTypes();
+            if (members.size() != 2) {
+                return -1;
+            }
+            if (TypeUtils.getReferredType(members.get(0)).getTag() == TypeTags.NULL_TAG) {
+                fieldType = TypeUtils.getReferredType(members.get(1));
+            } else if (TypeUtils.getReferredType(members.get(1)).getTag() == TypeTags.NULL_TAG) {
+                fieldType = TypeUtils.getReferredType(members.get(0));
+            } else {
+                return -1;
+            }
+        }
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+                return INT;
+            case TypeTags.FLOAT_TAG:
+                return FLOAT;
+            case TypeTags.DECIMAL_TAG:
+                return DECIMAL;
+            case TypeTags.STRING_TAG:
+                return STRING;
+            case TypeTags.BOOLEAN_TAG:
+                return BOOLEAN;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isNillable(Field field) {
+        return SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL) ||
+                TypeUtils.getReferredType(field.getFieldType()).getTag() == TypeTags.UNION_TAG;
+    }
+
+    private static int getNilHandling(Field field) {
+        if (TypeUtils.getReferredType(field.getFieldType()).getTag() == TypeTags.UNION_TAG) {
+            return NIL_ASSIGNED;
+        }
+        return SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL) ? NIL_OMITTED : NIL_REJECTED;
+    }
+
+    private static BError unsupportedField(Field field) {
+        return IOUtils.createError("Binary records support only int, float, decimal, string and boolean fields " +
+                "and their nillable types. Unsupported type of the field: " + field.getFieldName());
+    }
+
+    /**
+     * Writes the header, which describes the fields of the records.
+     *
+     * @param channel the channel the header is written to.
+     * @throws IOException during i/o error.
+     */
+    void writeHeader(DataChannel channel) throws IOException {
+        channel.writeLong(MAGIC, Representation.BIT_32);
+        channel.writeVarLong(VERSION, false);
+        channel.writeVarLong(names.length, false);
+        for (int i = 0; i < names.length; i++) {
+            channel.writeLengthPrefixedString(names[i]);
+            channel.writeVarLong(types[i], false);
+            channel.writeBoolean(nilIndexes[i] >= 0);
+        }
+    }
+
+    /**
+     * Writes the fields of a record.
+     *
+     * @param channel the channel the record is written to.
+     * @param record  the record.
+     * @return null or an error if the record does not match the fields of the header.
+     * @throws IOException during i/o error.
+     */
+    BError write(DataChannel channel, BMap<BString, Object> record) throws IOException {
+        Arrays.fill(nilBitmap, 0);
+        int presentFields = 0;
+        for (int i = 0; i < keys.length; i++) {
+            Object value = record.get(keys[i]);
+            if (null != value) {
+                presentFields++;
+                continue;
+            }
+            if (nilIndexes[i] < 0) {
+                return IOUtils.createError("Field '" + names[i] + "' does not support nil value.");
+            }
+            nilBitmap[nilIndexes[i] / Long.SIZE] |= 1L << nilIndexes[i];
+            if (record.containsKey(keys[i])) {
+                presentFields++;
+            }
+        }
+        if (presentFields != record.size()) {
+            return IOUtils.createError("Binary records support only the fields of the record type, " +
+                    "but found a record with additional fields");
+        }
+        for (long bits : nilBitmap) {
+            channel.writeVarLong(bits, false);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            Object value = record.get(keys[i]);
+            if (null != value) {
+                ENCODERS[types[i]].encode(channel, value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @param channel the channel the record is read from.
+     * @return the record, an error if a field could not be mapped or null if the channel reached its end.
+     * @throws IOException if the channel reached its end in the middle of a record or an I/O error occurred.
+     */
+    Object read(DataChannel channel) throws IOException {
+        if (!channel.hasRemainingContent()) {
+            return null;
+        }
+        for (int i = 0; i < nilBitmap.length; i++) {
+            nilBitmap[i] = channel.readVarLong(false);
+        }
+        BMap<BString, Object> record = ValueCreator.createRecordValue(module, typeName);
+        for (int i = 0; i < keys.length; i++) {
+            int nilIndex = nilIndexes[i];
+            if (nilIndex < 0 || (nilBitmap[nilIndex / Long.SIZE] & 1L << nilIndex) == 0) {
+                Object value = DECODERS[types[i]].decode(channel);
+                if (null != keys[i]) {
+                    record.put(keys[i], value);
+                }
+            } else if (null != keys[i] && nilHandling[i] != NIL_OMITTED) {
+                if (nilHandling[i] == NIL_REJECTED) {
+                    return IOUtils.createError("Field '" + names[i] + "' does not support nil value.");
+                }
+                record.put(keys[i], null);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Writes the value of a field.
+     */
+    @FunctionalInterface
+    private interface FieldEncoder {
+
+        /**
+         * Writes the given value.
+         *
+         * @param channel the channel the value is written to.
+         * @param value   the value of the field.
+         * @throws IOException during i/o error.
+         */
+        void encode(DataChannel channel, Object value) throws IOException;
+    }
+
+    /**
+     * Reads the value of a field.
+     */
+    @FunctionalInterface
+    private interface FieldDecoder {
+
+        /**
+         * Reads a value.
+         *
+         * @param channel the channel the value is read from.
+         * @return the value of the field.
+         * @throws IOException during i/o error.
+         */
+        Object decode(DataChannel channel) throws IOException;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.io.channels.FileIOChannel;
+import io.ballerina.stdlib.io.channels.base.Channel;
+import io.ballerina.stdlib.io.channels.base.DataChannel;
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import io.ballerina.stdlib.io.utils.IOConstants;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+
+import static io.ballerina.stdlib.io.utils.IOConstants.BINARY_RECORD_CODEC;
+import static io.ballerina.stdlib.io.utils.IOConstants.BINARY_RECORD_ITERATOR;
+import static io.ballerina.stdlib.io.utils.IOConstants.DATA_CHANNEL_NAME;
+import static io.ballerina.stdlib.io.utils.IOUtils.getIOPackage;
+
+/**
+ * This class hold Java external functions for writing and reading records in the binary record format.
+ *
+ * @see BinaryRecordCodec
+ * @since 1.8.1
+ */
+public final class BinaryRecordUtils {
+
+    private BinaryRecordUtils() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object fileWriteRecords(Environment env, BString path, BArray records) {
+        return IOExecutor.execute(env, () -> {
+            Type recordType = getRecordType(records);
+            if (recordType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+                return IOUtils.createError(String.format("Only 'record{}' types are supported, but found '%s' ",
+                        recordType.getName()));
+            }
+            Object codec = BinaryRecordCodec.forWriting((StructureType) recordType);
+            if (codec instanceof BError) {
+                return codec;
+            }
+            try (FileChannel fileChannel = IOUtils.openFileChannelExtended(Paths.get(path.getValue()),
+                    IOConstants.FileOpenOption.OVERWRITE)) {
+                DataChannel channel = new DataChannel(new FileIOChannel(fileChannel), ByteOrder.BIG_ENDIAN);
+                try {
+                    BinaryRecordCodec recordCodec = (BinaryRecordCodec) codec;
+                    recordCodec.writeHeader(channel);
+                    int size = records.size();
+                    for (int i = 0; i < size; i++) {
+                        BError error = recordCodec.write(channel, (BMap<BString, Object>) records.get(i));
+                        if (null != error) {
+                            return error;
+                        }
+                    }
+                } finally {
+                    channel.close();
+                }
+                return null;
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    /**
+     * Provides the type of the records, the type of the first record is used if the element type of the array does
+     * not define any field, e.g. `record {}[]`.
+     */
+    private static Type getRecordType(BArray records) {
+        Type elementType = TypeUtils.getReferredType(((ArrayType) TypeUtils.getType(records)).getElementType());
+        if (elementType.getTag() == TypeTags.RECORD_TYPE_TAG && ((StructureType) elementType).getFields().isEmpty()
+                && records.size() > 0) {
+            return TypeUtils.getReferredType(TypeUtils.getType(records.get(0)));
+        }
+        return elementType;
+    }
+
+    public static Object createRecordsAsStream(Environment env, BString path, BTypedesc typeDesc) {
+        return IOExecutor.execute(env, () -> {
+            Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
+            if (describingType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+                return IOUtils.createError(String.format("Only 'record{}' types are supported, but found '%s' ",
+                        describingType.getName()));
+            }
+            DataChannel channel = null;
+            try {
+                Channel fileChannel = new FileIOChannel(IOUtils.openFileChannelExtended(Paths.get(path.getValue()),
+                        IOConstants.FileOpenOption.READ));
+                fileChannel.setReadable(true);
+                channel = new DataChannel(fileChannel, ByteOrder.BIG_ENDIAN);
+                Object codec = BinaryRecordCodec.forReading(channel, (StructureType) describingType);
+                if (codec instanceof BError) {
+                    closeQuietly(channel);
+                    return codec;
+                }
+                BObject recordIterator = ValueCreator.createObjectValue(getIOPackage(), BINARY_RECORD_ITERATOR);
+                recordIterator.addNativeData(DATA_CHANNEL_NAME, channel);
+                recordIterator.addNativeData(BINARY_RECORD_CODEC, codec);
+                return ValueCreator.createStreamValue(TypeCreator.createStreamType(describingType), recordIterator);
+            } catch (BallerinaIOException | IOException e) {
+                closeQuietly(channel);
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                closeQuietly(channel);
+                return e;
+            }
+        });
+    }
+
+    public static Object streamNext(Environment env, BObject iterator) {
+        return IOExecutor.execute(env, () -> {
+            DataChannel channel = (DataChannel) iterator.getNativeData(DATA_CHANNEL_NAME);
+            if (null == channel) {
+                return IOUtils.createError("Binary record stream is already closed.");
+            }
+            BinaryRecordCodec codec = (BinaryRecordCodec) iterator.getNativeData(BINARY_RECORD_CODEC);
+            try {
+                Object record = codec.read(channel);
+                return null == record ? IOUtils.createEoFError() : record;
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    public static Object closeStream(Environment env, BObject iterator) {
+        return IOExecutor.execute(env, () -> {
+            DataChannel channel = (DataChannel) iterator.getNativeData(DATA_CHANNEL_NAME);
+            if (null == channel) {
+                return null;
+            }
+            iterator.addNativeData(DATA_CHANNEL_NAME, null);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    private static void closeQuietly(DataChannel channel) {
+        if (null == channel) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            //The error which occurred while opening the stream is reported instead
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <p>
+ * Reads the blocks of a block stream one block ahead.
+ * </p>
+ * <p>
+ * Once a block is handed over, the next block is read on a virtual thread while the consumer processes the current
+ * one. Reading stops ahead of the consumer once the reader gives anything other than a block, i.e. the end of the
+ * stream or an error. A block which is read ahead for a different block size or mode than the one requested next is
+ * not discarded, its bytes are handed over before the bytes which follow it in the stream.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class BlockPrefetcher {
+
+    /**
+     * Reads a block from the stream.
+     */
+    interface BlockReader {
+
+        /**
+         * Reads a block.
+         *
+         * @param blockSize the size of the block.
+         * @param fill      whether the block is filled unless the stream reaches its end.
+         * @return the block, which is shorter than the block size for a partial block, or null at the end of the
+         * stream.
+         * @throws IOException errors which occur while reading the stream.
+         */
+        byte[] read(int blockSize, boolean fill) throws IOException;
+    }
+
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final BlockReader reader;
+    private CompletableFuture<byte[]> nextBlock;
+    private int blockSize;
+    private boolean fill;
+    private byte[] pending = NO_BYTES;
+    private int pendingOffset;
+    private boolean endOfStream;
+
+    BlockPrefetcher(BlockReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Provides the next block and starts reading the block after it if requested.
+     *
+     * @param blockSize the size of the block.
+     * @param fill      whether the block is filled unless the stream reaches its end.
+     * @param readAhead whether the block which follows is read ahead.
+     * @return the block or null at the end of the stream.
+     * @throws IOException errors which occur while reading the stream.
+     */
+    synchronized byte[] next(int blockSize, boolean fill, boolean readAhead) throws IOException {
+        byte[] block;
+        if (null != nextBlock && blockSize == this.blockSize && fill == this.fill) {
+            block = await(takeNextBlock());
+        } else {
+            if (null != nextBlock) {
+                //The block was read ahead for another size or mode, hence its bytes precede the requested block
+                byte[] prefetched = await(takeNextBlock());
+                if (null == prefetched) {
+                    return null;
+                }
+                pending = prefetched;
+                pendingOffset = 0;
+            }
+            block = pendingOffset < pending.length ? drain(blockSize, fill) : read(blockSize, fill);
+        }
+        if (readAhead && null != block && pendingOffset == pending.length) {
+            this.blockSize = blockSize;
+            this.fill = fill;
+            nextBlock = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return read(blockSize, fill);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, Thread::startVirtualThread);
+        }
+        return block;
+    }
+
+    /**
+     * Stops reading ahead and provides the bytes which were read ahead but not handed over yet. The bytes precede the
+     * bytes which remain in the stream, which is no longer read by the prefetcher once this returns.
+     *
+     * @return the bytes, which are empty if nothing was read ahead, or null if the stream has reached its end.
+     * @throws IOException errors which occur while reading the block ahead.
+     */
+    synchronized byte[] takeRemaining() throws IOException {
+        byte[] remaining = Arrays.copyOfRange(pending, pendingOffset, pending.length);
+        pending = NO_BYTES;
+        pendingOffset = 0;
+        if (null != nextBlock) {
+            //A block is only read ahead once the pending bytes are handed over, hence it follows them
+            byte[] prefetched = await(takeNextBlock());
+            if (null != prefetched) {
+                remaining = prefetched;
+            }
+        }
+        return remaining.length == 0 && endOfStream ? null : remaining;
+    }
+
+    /**
+     * Waits for the block which is being read ahead, hence the stream could be closed safely.
+     */
+    synchronized void close() {
+        if (null != nextBlock) {
+            try {
+                await(takeNextBlock());
+            } catch (IOException | RuntimeException e) {
+                //The block is discarded, hence the failure of reading it is not relevant
+            }
+        }
+        pending = NO_BYTES;
+        pendingOffset = 0;
+    }
+
+    /**
+     * Hands over the bytes which were read ahead, a block which is filled is completed from the stream.
+     */
+    private byte[] drain(int blockSize, boolean fill) throws IOException {
+        int count = Math.min(blockSize, pending.length - pendingOffset);
+        byte[] block = Arrays.copyOfRange(pending, pendingOffset, pendingOffset + count);
+        pendingOffset += count;
+        if (pendingOffset == pending.length) {
+            pending = NO_BYTES;
+            pendingOffset = 0;
+        }
+        if (!fill || count == blockSize) {
+            return block;
+        }
+        byte[] rest = read(blockSize - count, true);
+        if (null == rest) {
+            return block;
+        }
+        byte[] filled = Arrays.copyOf(block, count + rest.length);
+        System.arraycopy(rest, 0, filled, count, rest.length);
+        return filled;
+    }
+
+    private byte[] read(int blockSize, boolean fill) throws IOException {
+        if (endOfStream) {
+            return null;
+        }
+        byte[] block = reader.read(blockSize, fill);
+        endOfStream = null == block;
+        return block;
+    }
+
+    private CompletableFuture<byte[]> takeNextBlock() {
+        CompletableFuture<byte[]> block = nextBlock;
+        nextBlock = null;
+        return block;
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> block) throws IOException {
+        try {
+            return block.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Buffers the bytes read from a byte channel.
+ * </p>
+ * <p>
+ * The bytes which have been read ahead could be handed over to another channel, hence the rest of the channel could
+ * be transferred without going through the buffer.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+class BufferedChannelInputStream extends BufferedInputStream {
+
+    BufferedChannelInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Provides the number of bytes which have been read ahead.
+     *
+     * @return the number of bytes in the buffer.
+     */
+    synchronized int getBufferedCount() {
+        return null == buf ? 0 : Math.max(0, count - pos);
+    }
+
+    /**
+     * Moves the bytes which have been read ahead to the given array.
+     *
+     * @param destination the array which should hold the bytes, it should be large enough for all the bytes.
+     * @param offset      the position of the array the bytes are moved to.
+     * @return the number of bytes moved.
+     */
+    synchronized int readBuffered(byte[] destination, int offset) {
+        int buffered = getBufferedCount();
+        if (buffered > 0) {
+            System.arraycopy(buf, pos, destination, offset, buffered);
+            pos = count;
+            markpos = -1;
+        }
+        return buffered;
+    }
+
+    /**
+     * Writes the bytes which have been read ahead to the given channel.
+     *
+     * @param destination the channel the bytes should be written.
+     * @return the number of bytes written.
+     * @throws IOException errors which occur while writing to the channel.
+     */
+    synchronized long transferBufferedTo(WritableByteChannel destination) throws IOException {
+        byte[] buffer = buf;
+        if (null == buffer || pos >= count) {
+            return 0;
+        }
+        ByteBuffer buffered = ByteBuffer.wrap(buffer, pos, count - pos);
+        while (buffered.hasRemaining()) {
+            destination.write(buffered);
+        }
+        int transferred = count - pos;
+        pos = count;
+        markpos = -1;
+        return transferred;
+    }
+}
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -26,25 +27,36 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.io.channels.AbstractNativeChannel;
 import io.ballerina.stdlib.io.channels.BlobChannel;
 import io.ballerina.stdlib.io.channels.BlobIOChannel;
+import io.ballerina.stdlib.io.channels.CoalescingByteChannel;
+import io.ballerina.stdlib.io.channels.CoalescingIOChannel;
+import io.ballerina.stdlib.io.channels.DeflatingIOChannel;
+import io.ballerina.stdlib.io.channels.DigestingIOChannel;
 import io.ballerina.stdlib.io.channels.FileIOChannel;
+import io.ballerina.stdlib.io.channels.InflatingIOChannel;
+import io.ballerina.stdlib.io.channels.MappedFileIOChannel;
+import io.ballerina.stdlib.io.channels.base.BufferPool;
 import io.ballerina.stdlib.io.channels.base.Channel;
 import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import io.ballerina.stdlib.io.utils.ContentDigest;
 import io.ballerina.stdlib.io.utils.IOConstants;
 import io.ballerina.stdlib.io.utils.IOUtils;
 import io.ballerina.stdlib.io.utils.Utils;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import static io.ballerina.stdlib.io.utils.IOConstants.BYTE_CHANNEL_NAME;
 
@@ -57,114 +69,394 @@ public class ByteChannelUtils extends AbstractNativeChannel {
 
     private static final String STREAM_BLOCK_ENTRY = "value";
     private static final String IS_CLOSED = "isClosed";
+    private static final String BLOCK_PREFETCHER = "blockPrefetcher";
+    private static final String FILL = "FILL";
+    private static final String PARALLEL_BLOCK_READER = "parallelBlockReader";
+    private static final String FILE_BLOCK = "FileBlock";
+    private static final String FILE_BLOCK_OFFSET = "offset";
+    private static final String FILE_BLOCK_CONTENT = "block";
+    private static final String DIGESTING_CHANNEL = "digestingChannel";
+    private static final int CHECKSUM_BUFFER_SIZE = BufferPool.MAX_POOLED_SIZE;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final byte[] NO_BYTES = new byte[0];
 
     private ByteChannelUtils() {
 
     }
 
-    public static Object read(BObject channel, long nBytes) {
+    public static Object read(Environment env, BObject channel, long nBytes) {
+        return IOExecutor.execute(env, () -> {
+            int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
+            BlockPrefetcher prefetcher = (BlockPrefetcher) channel.getNativeData(BLOCK_PREFETCHER);
+            if (null != prefetcher) {
+                //The bytes read ahead for a block stream precede the bytes remaining in the channel
+                try {
+                    byte[] content = prefetcher.next(arraySize, false, false);
+                    return null == content ? IOUtils.createEoFError() : ValueCreator.createArrayValue(content);
+                } catch (IOException e) {
+                    return IOUtils.createError(e);
+                }
+            }
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            if (byteChannel.hasReachedEnd()) {
+                return IOUtils.createEoFError();
+            } else {
+                ByteBuffer content = BufferPool.heap().acquire(arraySize);
+                try {
+                    byteChannel.read(content);
+                    byte[] contentData = getContentData(content);
+                    if (contentData != content.array()) {
+                        //The content is copied, hence the buffer could be reused
+                        BufferPool.heap().release(content);
+                    }
+                    return ValueCreator.createArrayValue(contentData);
+                } catch (ClosedChannelException e) {
+                    return IOUtils.createError("Byte channel is already closed.");
+                } catch (Exception e) {
+                    String msg = "error occurred while reading bytes from the channel. " + e.getMessage();
+                    return IOUtils.createError(msg);
+                }
+            }
+        });
+    }
 
-        int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
-        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
-        if (byteChannel.hasReachedEnd()) {
-            return IOUtils.createEoFError();
-        } else {
+    public static Object readAt(Environment env, BObject channel, long offset, long nBytes) {
+        return IOExecutor.execute(env, () -> {
+            if (offset < 0) {
+                return IOUtils.createError("The offset should not be negative, but found " + offset);
+            }
+            if (nBytes < 1) {
+                return IOUtils.createError("The number of bytes should be a positive integer, but found " + nBytes);
+            }
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Byte channel is already closed.");
+            }
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
             try {
-                byteChannel.read(content);
-                return ValueCreator.createArrayValue(getContentData(content));
+                long remaining = byteChannel.size() - offset;
+                if (remaining <= 0) {
+                    return IOUtils.createEoFError();
+                }
+                byte[] content = new byte[(int) Math.min(Math.min(nBytes, remaining), MAX_ARRAY_SIZE)];
+                int numberOfBytesRead = byteChannel.readAt(offset, ByteBuffer.wrap(content));
+                if (numberOfBytesRead < 0) {
+                    return IOUtils.createEoFError();
+                }
+                return ValueCreator.createArrayValue(numberOfBytesRead == content.length ? content :
+                        Arrays.copyOf(content, numberOfBytesRead));
+            } catch (UnsupportedOperationException e) {
+                return createRandomAccessError();
             } catch (ClosedChannelException e) {
                 return IOUtils.createError("Byte channel is already closed.");
-            } catch (Exception e) {
-                String msg = "error occurred while reading bytes from the channel. " + e.getMessage();
-                return IOUtils.createError(msg);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
             }
-        }
+        });
     }
 
-    public static Object readAll(BObject channel) {
+    public static Object writeAt(Environment env, BObject channel, long offset, BArray content) {
+        return IOExecutor.execute(env, () -> {
+            if (offset < 0) {
+                return IOUtils.createError("The offset should not be negative, but found " + offset);
+            }
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Byte channel is already closed.");
+            }
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            try {
+                return (long) byteChannel.writeAt(offset, ByteBuffer.wrap(content.getBytes(), 0, content.size()));
+            } catch (UnsupportedOperationException e) {
+                return createRandomAccessError();
+            } catch (ClosedChannelException e) {
+                return IOUtils.createError("Byte channel is already closed.");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
 
-        try {
+    public static Object size(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
             if (isChannelClosed(channel)) {
                 return IOUtils.createError("Byte channel is already closed.");
             }
-            BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
-            if (bufferedInputStream != null) {
-                return ValueCreator.createArrayValue(bufferedInputStream.readAllBytes());
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            try {
+                return byteChannel.size();
+            } catch (UnsupportedOperationException e) {
+                return createRandomAccessError();
+            } catch (ClosedChannelException e) {
+                return IOUtils.createError("Byte channel is already closed.");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
             }
-            return IOUtils.createError("BufferedInputStream is not initialized");
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+        });
     }
 
-    public static Object readBlock(BObject channel, long blockSize) {
+    private static BError createRandomAccessError() {
+        return IOUtils.createError("The channel does not support random access, only file channels support it.");
+    }
 
-        int blockSizeInt = (int) blockSize;
-        try {
-            BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
-            if (bufferedInputStream != null) {
-                try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-                    byte[] buffer = new byte[blockSizeInt];
-                    int n = bufferedInputStream.read(buffer, 0, blockSizeInt);
-                    if (n == -1) {
-                        bufferedInputStream.close();
-                        return IOUtils.createEoFError();
+    public static Object readAll(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            try {
+                if (isChannelClosed(channel)) {
+                    return IOUtils.createError("Byte channel is already closed.");
+                }
+                byte[] prefetched = takePrefetched(channel);
+                if (null == prefetched) {
+                    return createReadOnlyArray(NO_BYTES);
+                }
+                Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+                Object inputStream = channel.getNativeData(IOConstants.BUFFERED_INPUT_STREAM_ENTRY);
+                if (byteChannel instanceof MappedFileIOChannel && inputStream == null) {
+                    //Nothing has been buffered ahead, hence the content is copied from the mapping at once
+                    return createReadOnlyArray(((MappedFileIOChannel) byteChannel).readRemaining());
+                }
+                if (byteChannel instanceof FileIOChannel &&
+                        (inputStream == null || inputStream instanceof BufferedChannelInputStream)) {
+                    return readRemaining((FileIOChannel) byteChannel, (BufferedChannelInputStream) inputStream,
+                            prefetched);
+                }
+                BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
+                if (bufferedInputStream != null) {
+                    byte[] remaining = bufferedInputStream.readAllBytes();
+                    if (prefetched.length == 0) {
+                        return createReadOnlyArray(remaining);
                     }
-                    output.write(buffer, 0, n);
-                    return ValueCreator.createArrayValue(output.toByteArray());
+                    byte[] content = Arrays.copyOf(prefetched, prefetched.length + remaining.length);
+                    System.arraycopy(remaining, 0, content, prefetched.length, remaining.length);
+                    return createReadOnlyArray(content);
                 }
+                return IOUtils.createError("BufferedInputStream is not initialized");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
             }
-            return IOUtils.createError("BufferedInputStream is not initialized");
-        } catch (IOException e) {
-            return IOUtils.createError(e);
+        });
+    }
+
+    /**
+     * Reads the remaining content of a file into an array which is allocated once, since the size of the file is
+     * known ahead. The bytes which were read ahead for a block stream precede the buffered bytes.
+     */
+    private static Object readRemaining(FileIOChannel fileChannel, BufferedChannelInputStream inputStream,
+                                        byte[] prefetched) throws IOException {
+        int buffered = inputStream == null ? 0 : inputStream.getBufferedCount();
+        long length = (long) prefetched.length + buffered + fileChannel.getRemainingSize();
+        if (length > MAX_ARRAY_SIZE) {
+            return IOUtils.createError("The content is too large to be read at once, " + length + " bytes remain. " +
+                    "Read the content as a stream of blocks instead.");
+        }
+        byte[] content = Arrays.copyOf(prefetched, (int) length);
+        int numberOfBytesRead = prefetched.length;
+        numberOfBytesRead += inputStream == null ? 0 : inputStream.readBuffered(content, numberOfBytesRead);
+        numberOfBytesRead += fileChannel.readFully(content, numberOfBytesRead);
+        if (numberOfBytesRead < content.length) {
+            //The file has been truncated while it was read
+            content = Arrays.copyOf(content, numberOfBytesRead);
         }
+        return createReadOnlyArray(content);
+    }
+
+    /**
+     * Wraps the content without a copy. The array is frozen, hence it is not copied again when it is converted to a
+     * read-only value.
+     */
+    private static BArray createReadOnlyArray(byte[] content) {
+        BArray array = ValueCreator.createArrayValue(content);
+        array.freezeDirect();
+        return array;
+    }
+
+    public static Object readBlock(Environment env, BObject channel, long blockSize, BString mode,
+                                   boolean readAhead) {
+        return IOExecutor.execute(env, () -> {
+            if (blockSize < 1 || blockSize > MAX_ARRAY_SIZE) {
+                return IOUtils.createError("The block size should be a positive integer, but found " + blockSize);
+            }
+            boolean fill = FILL.equals(mode.getValue());
+            BlockPrefetcher prefetcher = (BlockPrefetcher) channel.getNativeData(BLOCK_PREFETCHER);
+            if (null == prefetcher && readAhead) {
+                prefetcher = new BlockPrefetcher((size, fillBlock) -> readBlock(channel, size, fillBlock));
+                channel.addNativeData(BLOCK_PREFETCHER, prefetcher);
+            }
+            try {
+                //A prefetcher which is already in place hands over the bytes it read ahead even if reading ahead stops
+                byte[] block = null == prefetcher ? readBlock(channel, (int) blockSize, fill) :
+                        prefetcher.next((int) blockSize, fill, readAhead);
+                return null == block ? IOUtils.createEoFError() : createReadOnlyArray(block);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    /**
+     * Reads a block straight into an array of the block size, the array is only shrunk for a partial block.
+     *
+     * @return the block or null at the end of the stream.
+     */
+    private static byte[] readBlock(BObject channel, int blockSize, boolean fill) throws IOException {
+        BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
+        if (bufferedInputStream == null) {
+            throw new IOException("BufferedInputStream is not initialized");
+        }
+        byte[] block = new byte[blockSize];
+        int n = fill ? bufferedInputStream.readNBytes(block, 0, blockSize) :
+                bufferedInputStream.read(block, 0, blockSize);
+        if (n <= 0) {
+            bufferedInputStream.close();
+            return null;
+        }
+        return n == blockSize ? block : Arrays.copyOf(block, n);
     }
 
     private static byte[] getContentData(final ByteBuffer contentBuffer) {
 
-        int bufferSize = contentBuffer.limit();
         int readPosition = contentBuffer.position();
         byte[] content = contentBuffer.array();
         final int startPosition = 0;
-        if (readPosition == bufferSize) {
+        if (readPosition == content.length) {
             return content;
         }
         return Arrays.copyOfRange(content, startPosition, readPosition);
     }
 
-    public static Object base64Encode(BObject channel) {
+    public static Object transferTo(Environment env, BObject channel, BObject destination) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel) || isChannelClosed(destination)) {
+                return IOUtils.createError("Byte channel is already closed.");
+            }
+            Channel sourceChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            WritableByteChannel destinationChannel =
+                    ((Channel) destination.getNativeData(BYTE_CHANNEL_NAME)).getByteChannel();
+            try {
+                byte[] prefetched = takePrefetched(channel);
+                if (null == prefetched) {
+                    return 0L;
+                }
+                ByteBuffer prefetchedBytes = ByteBuffer.wrap(prefetched);
+                while (prefetchedBytes.hasRemaining()) {
+                    destinationChannel.write(prefetchedBytes);
+                }
+                long transferred = prefetched.length;
+                Object inputStream = channel.getNativeData(IOConstants.BUFFERED_INPUT_STREAM_ENTRY);
+                if (inputStream instanceof BufferedChannelInputStream) {
+                    //The bytes which have been read ahead precede the bytes remaining in the channel
+                    transferred += ((BufferedChannelInputStream) inputStream).transferBufferedTo(destinationChannel);
+                }
+                return transferred + sourceChannel.transferTo(destinationChannel);
+            } catch (ClosedChannelException e) {
+                return IOUtils.createError("Byte channel is already closed.");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
 
-        return Utils.encodeByteChannel(channel, false);
+    public static Object fileCopy(Environment env, BString sourcePath, BString destinationPath, BString option) {
+        return IOExecutor.execute(env, () -> {
+            Path source = Paths.get(sourcePath.getValue());
+            Path destination = Paths.get(destinationPath.getValue());
+            IOConstants.FileOpenOption openOption = IOConstants.FileOpenOption.APPEND.name().equals(
+                    option.getValue()) ? IOConstants.FileOpenOption.APPEND : IOConstants.FileOpenOption.OVERWRITE;
+            try (FileChannel sourceChannel = IOUtils.openFileChannelExtended(source,
+                    IOConstants.FileOpenOption.READ)) {
+                if (Files.exists(destination) && Files.isSameFile(source, destination)) {
+                    return IOUtils.createError("The source and the destination should be different files, but " +
+                            "found " + destination);
+                }
+                try (FileChannel destinationChannel = IOUtils.openFileChannelExtended(destination, openOption)) {
+                    return IOUtils.transferFull(sourceChannel, 0, sourceChannel.size(), destinationChannel);
+                }
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
     }
 
-    public static Object base64Decode(BObject channel) {
+    public static Object fileChecksum(Environment env, BString path, BString algorithm) {
+        return IOExecutor.execute(env, () -> {
+            try (FileChannel fileChannel = IOUtils.openFileChannelExtended(Paths.get(path.getValue()),
+                    IOConstants.FileOpenOption.READ)) {
+                ContentDigest digest = ContentDigest.of(algorithm.getValue());
+                //The content is read into a direct buffer, hence it is not copied into the heap to be digested
+                ByteBuffer buffer = BufferPool.direct().acquire(CHECKSUM_BUFFER_SIZE);
+                try {
+                    while (fileChannel.read(buffer) >= 0) {
+                        buffer.flip();
+                        digest.update(buffer);
+                        buffer.clear();
+                    }
+                } finally {
+                    BufferPool.direct().release(buffer);
+                }
+                return createReadOnlyArray(digest.value());
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
 
-        return Utils.decodeByteChannel(channel, false);
+    public static Object digest(BObject channel) {
+        Object digestingChannel = channel.getNativeData(DIGESTING_CHANNEL);
+        if (!(digestingChannel instanceof DigestingIOChannel)) {
+            return IOUtils.createError("The channel is not opened with a checksum algorithm");
+        }
+        return createReadOnlyArray(((DigestingIOChannel) digestingChannel).digest());
     }
 
-    public static Object closeByteChannel(BObject channel) {
+    public static Object base64Encode(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            try {
+                byte[] prefetched = takePrefetched(channel);
+                return Utils.encodeByteChannel(channel, null == prefetched ? NO_BYTES : prefetched, false);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
 
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Byte channel is already closed.");
-        }
-        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        try {
-            BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
-            if (bufferedInputStream != null) {
-                bufferedInputStream.close();
+    public static Object base64Decode(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            try {
+                byte[] prefetched = takePrefetched(channel);
+                return Utils.decodeByteChannel(channel, null == prefetched ? NO_BYTES : prefetched, false);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
             }
-            byteChannel.close();
-            channel.addNativeData(IS_CLOSED, true);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+        });
+    }
+
+    public static Object closeByteChannel(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Byte channel is already closed.");
+            }
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            try {
+                closePrefetcher(channel);
+                BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
+                if (bufferedInputStream != null) {
+                    bufferedInputStream.close();
+                }
+                byteChannel.close();
+                channel.addNativeData(IS_CLOSED, true);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
     public static Object closeInputStream(BObject channel) {
 
         try {
+            closePrefetcher(channel);
             BufferedInputStream bufferedInputStream = getBufferedInputStream(channel);
             if (bufferedInputStream != null) {
                 bufferedInputStream.close();
@@ -175,61 +467,194 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object write(BObject channel, BArray content, long offset) {
+    public static Object write(Environment env, BObject channel, BArray content, long offset) {
+        return IOExecutor.execute(env, () -> {
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            ByteBuffer writeBuffer = ByteBuffer.wrap(content.getBytes());
+            writeBuffer.position((int) offset);
+            try {
+                if (byteChannel != null) {
+                    return byteChannel.write(writeBuffer);
+                }
+                return IOUtils.createError(IOConstants.ErrorCode.GenericError,
+                        "WritableByteChannel is not initialized");
+            }  catch (ClosedChannelException e) {
+                return IOUtils.createError(IOConstants.ErrorCode.GenericError,
+                "Byte channel is already closed.");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
 
-        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer writeBuffer = ByteBuffer.wrap(content.getBytes());
-        writeBuffer.position((int) offset);
-        try {
-            if (byteChannel != null) {
-                return byteChannel.write(writeBuffer);
-            }
-            return IOUtils.createError(IOConstants.ErrorCode.GenericError,
-                    "WritableByteChannel is not initialized");
-        }  catch (ClosedChannelException e) {
-            return IOUtils.createError(IOConstants.ErrorCode.GenericError,
-            "Byte channel is already closed.");
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object openReadableFile(Environment env, BString pathUrl, BString mode, BString compression,
+                                          Object checksum) {
+        return IOExecutor.execute(env, () -> {
+            BObject readableByteChannel;
+            try {
+                ContentDigest digest = null == checksum ? null : ContentDigest.of(((BString) checksum).getValue());
+                if (IOConstants.FileReadMode.MEMORY_MAPPED.name().equals(mode.getValue())) {
+                    //The buffered stream is created lazily, since the mapping is read without it
+                    readableByteChannel = createFileChannel(inMappedFlow(pathUrl.getValue()), digest,
+                            compression);
+                } else {
+                    readableByteChannel = createFileChannel(inFlow(pathUrl.getValue(),
+                            IOConstants.FileOpenOption.READ), digest, compression);
+                    Channel channel = (Channel) readableByteChannel.getNativeData(BYTE_CHANNEL_NAME);
+                    BufferedInputStream bufferedInputStream = new BufferedChannelInputStream(channel.getInputStream());
+                    readableByteChannel.addNativeData(
+                            IOConstants.BUFFERED_INPUT_STREAM_ENTRY,
+                            bufferedInputStream
+                    );
+                }
+                readableByteChannel.addNativeData(IS_CLOSED, false);
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(IOConstants.ErrorCode.GenericError, e.getMessage());
+            } catch (BError e) {
+                return e;
+            }
+            return readableByteChannel;
+        });
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object openWritableFile(Environment env, BString pathUrl, BString option, long flushThreshold,
+                                          BString compression, Object checksum) {
+        return IOExecutor.execute(env, () -> {
+            BObject writableByteChannel;
+            try {
+                Channel channel;
+                ContentDigest digest = null == checksum ? null : ContentDigest.of(((BString) checksum).getValue());
+                boolean append = !IOConstants.FileOpenOption.OVERWRITE.name().equals(option.getValue());
+                IOConstants.Compression format = IOConstants.Compression.valueOf(compression.getValue());
+                if (format == IOConstants.Compression.AUTO) {
+                    return IOUtils.createError("The compression format should be specified in order to write a file");
+                }
+                if (append && format == IOConstants.Compression.DEFLATE) {
+                    //A GZIP file could consist of several members, but a ZLIB stream could not be continued
+                    return IOUtils.createError("The content could not be appended to a file in the DEFLATE format");
+                }
+                if (append) {
+                    channel = inFlow(pathUrl.getValue(), IOConstants.FileOpenOption.APPEND);
+                } else {
+                    channel = inFlow(pathUrl.getValue(), IOConstants.FileOpenOption.OVERWRITE);
+                }
+                DigestingIOChannel digestingChannel = null;
+                if (null != digest) {
+                    //The digest covers the bytes of the file, hence it is computed after the compression
+                    digestingChannel = new DigestingIOChannel(channel, digest);
+                    channel = digestingChannel;
+                }
+                if (format != IOConstants.Compression.NONE) {
+                    //The compressed content is always staged, hence the writes are not coalesced
+                    channel = new DeflatingIOChannel(channel, format == IOConstants.Compression.GZIP);
+                } else if (flushThreshold > 0) {
+                    //Writes are staged and written in batches through gathering writes, the staged bytes are bounded
+                    channel = new CoalescingIOChannel(channel, (int) Math.min(flushThreshold,
+                            CoalescingByteChannel.MAX_FLUSH_THRESHOLD));
+                }
+                writableByteChannel = createChannel(channel);
+                writableByteChannel.addNativeData(DIGESTING_CHANNEL, digestingChannel);
+                writableByteChannel.addNativeData(IS_CLOSED, false);
+            } catch (BallerinaIOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+            return writableByteChannel;
+        });
+    }
 
-        BObject readableByteChannel;
-        try {
-            readableByteChannel = createChannel(inFlow(pathUrl.getValue(), IOConstants.FileOpenOption.READ));
-            Channel channel = (Channel) readableByteChannel.getNativeData(BYTE_CHANNEL_NAME);
-            BufferedInputStream bufferedInputStream = new BufferedInputStream(channel.getInputStream());
-            readableByteChannel.addNativeData(
-                    IOConstants.BUFFERED_INPUT_STREAM_ENTRY,
-                    bufferedInputStream
-            );
-            readableByteChannel.addNativeData(IS_CLOSED, false);
-        } catch (BallerinaIOException | IOException e) {
-            return IOUtils.createError(IOConstants.ErrorCode.GenericError, e.getMessage());
-        } catch (BError e) {
-            return e;
-        }
-        return readableByteChannel;
+    public static Object flush(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Byte channel is already closed.");
+            }
+            Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+            try {
+                if (byteChannel instanceof CoalescingIOChannel) {
+                    ((CoalescingIOChannel) byteChannel).flush();
+                } else if (byteChannel instanceof DeflatingIOChannel) {
+                    ((DeflatingIOChannel) byteChannel).flush();
+                }
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object openWritableFile(BString pathUrl, BString option) {
+    public static Object openParallelBlockStream(Environment env, BObject blockStream, BString path, long blockSize,
+                                                 long parallelism, long maxBytesInFlight, boolean ordered) {
+        return IOExecutor.execute(env, () -> {
+            if (blockSize < 1 || blockSize > MAX_ARRAY_SIZE) {
+                return IOUtils.createError("The block size should be a positive integer, but found " + blockSize);
+            }
+            if (parallelism < 1) {
+                return IOUtils.createError("The parallelism should be a positive integer, but found " + parallelism);
+            }
+            //The window bounds the memory of the blocks which are read but not consumed
+            int windowSize = (int) Math.max(1, Math.min(maxBytesInFlight / blockSize, Integer.MAX_VALUE));
+            try {
+                FileChannel fileChannel = IOUtils.openFileChannelExtended(Paths.get(path.getValue()),
+                        IOConstants.FileOpenOption.READ);
+                try {
+                    blockStream.addNativeData(PARALLEL_BLOCK_READER, new ParallelBlockReader(fileChannel,
+                            (int) blockSize, (int) Math.min(parallelism, windowSize), windowSize, ordered));
+                } catch (IOException e) {
+                    fileChannel.close();
+                    throw e;
+                }
+                return null;
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
 
-        BObject writableByteChannel;
-        try {
-            if (IOConstants.FileOpenOption.OVERWRITE.name().equals(option.getValue())) {
-                writableByteChannel = createChannel(inFlow(pathUrl.getValue(), IOConstants.FileOpenOption.OVERWRITE));
-            } else {
-                writableByteChannel = createChannel(inFlow(pathUrl.getValue(), IOConstants.FileOpenOption.APPEND));
+    public static Object nextParallelBlock(Environment env, BObject blockStream) {
+        return IOExecutor.execute(env, () -> {
+            ParallelBlockReader reader = (ParallelBlockReader) blockStream.getNativeData(PARALLEL_BLOCK_READER);
+            if (null == reader) {
+                return null;
             }
-            writableByteChannel.addNativeData(IS_CLOSED, false);
-        } catch (BallerinaIOException e) {
-            return IOUtils.createError(e);
-        } catch (BError e) {
-            return e;
-        }
-        return writableByteChannel;
+            try {
+                ParallelBlockReader.Block block = reader.next();
+                if (null == block) {
+                    return null;
+                }
+                BArray content = createReadOnlyArray(block.getContent());
+                if (reader.isOrdered()) {
+                    return content;
+                }
+                Map<String, Object> fileBlock = new HashMap<>();
+                fileBlock.put(FILE_BLOCK_OFFSET, block.getOffset());
+                fileBlock.put(FILE_BLOCK_CONTENT, content);
+                return ValueCreator.createRecordValue(ModuleUtils.getModule(), FILE_BLOCK, fileBlock);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return IOUtils.createError(e);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    public static Object closeParallelBlockStream(Environment env, BObject blockStream) {
+        return IOExecutor.execute(env, () -> {
+            ParallelBlockReader reader = (ParallelBlockReader) blockStream.getNativeData(PARALLEL_BLOCK_READER);
+            if (null == reader) {
+                return null;
+            }
+            blockStream.addNativeData(PARALLEL_BLOCK_READER, null);
+            try {
+                reader.close();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
     public static Object createReadableChannel(BArray content) {
@@ -258,6 +683,55 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    private static Channel inMappedFlow(String pathUrl) throws BallerinaIOException {
+
+        FileChannel fileChannel = IOUtils.openFileChannelExtended(Paths.get(pathUrl),
+                IOConstants.FileOpenOption.READ);
+        try {
+            Channel channel = new MappedFileIOChannel(fileChannel);
+            channel.setReadable(true);
+            return channel;
+        } catch (IOException e) {
+            try {
+                fileChannel.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw new BallerinaIOException("unable to map the file " + pathUrl + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a readable channel for a file, which computes the digest of the file and decompresses its content.
+     */
+    private static BObject createFileChannel(Channel channel, ContentDigest digest, BString compression)
+            throws IOException {
+        DigestingIOChannel digestingChannel = null == digest ? null : new DigestingIOChannel(channel, digest);
+        BObject byteChannel = createChannel(decompress(null == digestingChannel ? channel : digestingChannel,
+                compression));
+        byteChannel.addNativeData(DIGESTING_CHANNEL, digestingChannel);
+        return byteChannel;
+    }
+
+    /**
+     * Wraps the channel of a file, which should be read, with a channel which decompresses its content.
+     */
+    private static Channel decompress(Channel channel, BString compression) throws IOException {
+        try {
+            IOConstants.Compression format = IOConstants.Compression.valueOf(compression.getValue());
+            if (format == IOConstants.Compression.AUTO) {
+                format = InflatingIOChannel.detect(channel);
+            }
+            if (format == IOConstants.Compression.NONE) {
+                return channel;
+            }
+            return new InflatingIOChannel(channel, format == IOConstants.Compression.GZIP);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
     private static Channel inFlow(BArray contentArr) {
 
         byte[] content = shrink(contentArr);
@@ -274,6 +748,29 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return content;
     }
 
+    /**
+     * Stops reading the blocks of the channel ahead, hence the channel could be read through other means. The bytes
+     * which were read ahead are provided, since they precede the bytes which remain in the channel.
+     *
+     * @return the bytes which were read ahead, or null if the stream has reached its end.
+     */
+    private static byte[] takePrefetched(BObject channel) throws IOException {
+        BlockPrefetcher prefetcher = (BlockPrefetcher) channel.getNativeData(BLOCK_PREFETCHER);
+        if (null == prefetcher) {
+            return NO_BYTES;
+        }
+        channel.addNativeData(BLOCK_PREFETCHER, null);
+        return prefetcher.takeRemaining();
+    }
+
+    private static void closePrefetcher(BObject channel) {
+        BlockPrefetcher prefetcher = (BlockPrefetcher) channel.getNativeData(BLOCK_PREFETCHER);
+        if (null != prefetcher) {
+            prefetcher.close();
+            channel.addNativeData(BLOCK_PREFETCHER, null);
+        }
+    }
+
     private static boolean isChannelClosed(BObject channel) {
         if (channel.getNativeData(IS_CLOSED) != null) {
             return (boolean) channel.getNativeData(IS_CLOSED);
@@ -287,7 +784,7 @@ public class ByteChannelUtils extends AbstractNativeChannel {
             return (BufferedInputStream) channel.getNativeData(IOConstants.BUFFERED_INPUT_STREAM_ENTRY);
         } else {
             Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-            BufferedInputStream bufferedInputStream = new BufferedInputStream(byteChannel.getInputStream());
+            BufferedInputStream bufferedInputStream = new BufferedChannelInputStream(byteChannel.getInputStream());
             channel.addNativeData(
                     IOConstants.BUFFERED_INPUT_STREAM_ENTRY,
                     bufferedInputStream
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.XmlUtils;
@@ -53,6 +54,7 @@ public class CharacterChannelUtils {
     private static final String BUFFERED_READER_ENTRY = "bufferedReader";
     private static final String NEW_LINE = "\n";
     private static final String IS_CLOSED = "isClosed";
+    private static final int LINE_SCAN_LIMIT = 8192;
 
     private CharacterChannelUtils() {
 
@@ -76,156 +78,165 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object read(BObject channel, long numberOfCharacters) {
-
-        CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        if (characterChannel.hasReachedEnd()) {
-            return IOUtils.createEoFError();
-        } else {
-            try {
-                return StringUtils.fromString(characterChannel.read((int) numberOfCharacters));
-            } catch (BallerinaIOException e) {
-                return IOUtils.createError(e);
+    public static Object read(Environment env, BObject channel, long numberOfCharacters) {
+        return IOExecutor.execute(env, isReadBuffered(channel, numberOfCharacters), () -> {
+            CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
             }
-        }
-    }
-
-    public static Object readLine(BObject channel) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        BufferedReader bufferedReader = (BufferedReader)
-                channel.getNativeData(BUFFERED_READER_ENTRY);
-        try {
-            String line = bufferedReader.readLine();
-            if (line == null) {
-                bufferedReader.close();
+            if (characterChannel.hasReachedEnd()) {
                 return IOUtils.createEoFError();
+            } else {
+                try {
+                    return StringUtils.fromString(characterChannel.read((int) numberOfCharacters));
+                } catch (BallerinaIOException e) {
+                    return IOUtils.createError(e);
+                }
             }
-            return StringUtils.fromString(line);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+        });
     }
 
-    public static Object readAllLines(BObject channel) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        try {
-            BufferedReader bufferedReader = (BufferedReader)
-                    channel.getNativeData(BUFFERED_READER_ENTRY);
-            String[] lines = bufferedReader.lines().toArray(String[]::new);
-            return StringUtils.fromStringArray(lines);
-        } catch (UncheckedIOException | BError e) {
-            return IOUtils.createError(e);
-        }
-
-    }
-
-    public static Object readString(BObject channel) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        try {
+    public static Object readLine(Environment env, BObject channel) {
+        return IOExecutor.execute(env, isLineBuffered(channel), () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
             BufferedReader bufferedReader = (BufferedReader)
                     channel.getNativeData(BUFFERED_READER_ENTRY);
-            String[] lines = bufferedReader.lines().toArray(String[]::new);
-            StringJoiner joiner = new StringJoiner(System.lineSeparator());
-            for (int i = 0; i < lines.length; i++) {
-                joiner.add(lines[i]);
+            try {
+                String line = bufferedReader.readLine();
+                if (line == null) {
+                    bufferedReader.close();
+                    return IOUtils.createEoFError();
+                }
+                return StringUtils.fromString(line);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
             }
-            return StringUtils.fromString(joiner.toString()
-                    .replaceAll(System.lineSeparator(), "\n"));
-        } catch (UncheckedIOException | BError e) {
-            return IOUtils.createError(e);
-        }
+        });
     }
 
-    public static Object readJson(BObject channel) {
+    public static Object readAllLines(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            try {
+                BufferedReader bufferedReader = (BufferedReader)
+                        channel.getNativeData(BUFFERED_READER_ENTRY);
+                String[] lines = bufferedReader.lines().toArray(String[]::new);
+                return StringUtils.fromStringArray(lines);
+            } catch (UncheckedIOException | BError e) {
+                return IOUtils.createError(e);
+            }
 
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
-        try {
-            Object returnValue = JsonUtils.parse(reader,
-                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
-            if (returnValue instanceof String) {
+        });
+    }
 
-                return StringUtils.fromString((String) returnValue);
+    public static Object readString(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
             }
-            return returnValue;
-        } catch (BError e) {
-            return IOUtils.createError(e);
-        }
+            try {
+                BufferedReader bufferedReader = (BufferedReader)
+                        channel.getNativeData(BUFFERED_READER_ENTRY);
+                String[] lines = bufferedReader.lines().toArray(String[]::new);
+                StringJoiner joiner = new StringJoiner(System.lineSeparator());
+                for (int i = 0; i < lines.length; i++) {
+                    joiner.add(lines[i]);
+                }
+                return StringUtils.fromString(joiner.toString()
+                        .replaceAll(System.lineSeparator(), "\n"));
+            } catch (UncheckedIOException | BError e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readXml(BObject channel) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
-        try {
-            return XmlUtils.parse(reader);
-        } catch (BError e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readJson(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+            try {
+                Object returnValue = JsonUtils.parse(reader,
+                        JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+                if (returnValue instanceof String) {
+
+                    return StringUtils.fromString((String) returnValue);
+                }
+                return returnValue;
+            } catch (BError e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readProperty(BObject channel, BString key, BString defaultValue) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
-        try {
-            return PropertyUtils.readProperty(reader, key, defaultValue, Integer.toString(charChannel.id()));
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readXml(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+            try {
+                return XmlUtils.parse(reader);
+            } catch (BError e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readAllProperties(BObject channel) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
-        try {
-            return PropertyUtils.readAllProperties(reader, Integer.toString(charChannel.id()));
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readProperty(Environment env, BObject channel, BString key, BString defaultValue) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+            try {
+                return PropertyUtils.readProperty(reader, key, defaultValue, Integer.toString(charChannel.id()));
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object close(BObject channel) {
+    public static Object readAllProperties(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+            try {
+                return PropertyUtils.readAllProperties(reader, Integer.toString(charChannel.id()));
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
 
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        try {
-            BufferedReader bufferedReader = (BufferedReader)
-                    channel.getNativeData(BUFFERED_READER_ENTRY);
-            bufferedReader.close();
-            charChannel.close();
-            channel.addNativeData(IS_CLOSED, true);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object close(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            try {
+                BufferedReader bufferedReader = (BufferedReader)
+                        channel.getNativeData(BUFFERED_READER_ENTRY);
+                bufferedReader.close();
+                charChannel.close();
+                channel.addNativeData(IS_CLOSED, true);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
     public static Object closeBufferedReader(BObject channel) {
@@ -242,72 +253,144 @@ public class CharacterChannelUtils {
         return null;
     }
 
-    public static Object write(BObject channel, BString content, long startOffset) {
-
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
-        try {
-            return characterChannel.write(content.getValue(), (int) startOffset);
-        } catch (ClosedChannelException e) {
-            return IOUtils.createError(IOConstants.ErrorCode.GenericError,
-                    "WritableCharacterChannel is already closed");
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object write(Environment env, BObject channel, BString content, long startOffset) {
+        return IOExecutor.execute(env, isWriteBuffered(channel, content.getValue().length() - startOffset), () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            try {
+                return characterChannel.write(content.getValue(), (int) startOffset);
+            } catch (ClosedChannelException e) {
+                return IOUtils.createError(IOConstants.ErrorCode.GenericError,
+                        "WritableCharacterChannel is already closed");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object writeJson(BObject characterChannelObj, Object content) {
-
-        if (isChannelClosed(characterChannelObj)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
-            IOUtils.writeFull(characterChannel, StringUtils.getJsonString(content));
-        } catch (BallerinaIOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object flush(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+            try {
+                characterChannel.flush();
+            } catch (ClosedChannelException e) {
+                return IOUtils.createError(IOConstants.ErrorCode.GenericError,
+                        "WritableCharacterChannel is already closed");
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeXml(BObject characterChannelObj, BXml content, BString doctype) {
+    public static Object writeJson(Environment env, BObject characterChannelObj, Object content) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(characterChannelObj)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            try {
+                CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                        .getNativeData(CHARACTER_CHANNEL_NAME);
+                IOUtils.writeFull(characterChannel, StringUtils.getJsonString(content));
+            } catch (BallerinaIOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
 
-        if (isChannelClosed(characterChannelObj)) {
-            return IOUtils.createError("Character channel is already closed.");
-        }
-        try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
-            String writeContent = "";
-            if (doctype.getValue().isBlank()) {
-                writeContent = content.toString();
-            } else {
-                writeContent = doctype.getValue() + NEW_LINE + content.toString();
+    public static Object writeXml(Environment env, BObject characterChannelObj, BXml content, BString doctype) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(characterChannelObj)) {
+                return IOUtils.createError("Character channel is already closed.");
             }
-            IOUtils.writeFull(characterChannel, writeContent);
-        } catch (BallerinaIOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+            try {
+                CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                        .getNativeData(CHARACTER_CHANNEL_NAME);
+                String writeContent = "";
+                if (doctype.getValue().isBlank()) {
+                    writeContent = content.toString();
+                } else {
+                    writeContent = doctype.getValue() + NEW_LINE + content.toString();
+                }
+                IOUtils.writeFull(characterChannel, writeContent);
+            } catch (BallerinaIOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeProperties(BObject characterChannelObj,
+    public static Object writeProperties(Environment env, BObject characterChannelObj,
                                          BMap<BString, BString> propertyMap, BString comment) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(characterChannelObj)) {
+                return IOUtils.createError("Character channel is already closed.");
+            }
+            try {
+                CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                        .getNativeData(CHARACTER_CHANNEL_NAME);
+                PropertyUtils.writePropertyContent(characterChannel, propertyMap, comment);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
 
-        if (isChannelClosed(characterChannelObj)) {
-            return IOUtils.createError("Character channel is already closed.");
+    /**
+     * Specifies whether the given number of characters is read from the buffer of a character channel.
+     */
+    private static boolean isReadBuffered(BObject channel, long numberOfCharacters) {
+        CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return null != characterChannel && !isChannelClosed(channel) && numberOfCharacters <= Integer.MAX_VALUE &&
+                characterChannel.isReadBuffered((int) numberOfCharacters);
+    }
+
+    /**
+     * Specifies whether the encoding of the given number of characters is written to the buffer of a character
+     * channel.
+     */
+    private static boolean isWriteBuffered(BObject channel, long numberOfCharacters) {
+        CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return null != characterChannel && !isChannelClosed(channel) && numberOfCharacters >= 0 &&
+                numberOfCharacters <= Integer.MAX_VALUE && characterChannel.isWriteBuffered((int) numberOfCharacters);
+    }
+
+    /**
+     * Specifies whether the reader of a character channel holds a complete line, hence the line is read without
+     * accessing the channel. The buffered characters are scanned for a line terminator and the reader is reset to
+     * the mark, the reader is not filled during the scan since the characters are read only while it is ready.
+     */
+    private static boolean isLineBuffered(BObject channel) {
+        BufferedReader bufferedReader = (BufferedReader) channel.getNativeData(BUFFERED_READER_ENTRY);
+        if (null == bufferedReader || isChannelClosed(channel)) {
+            return false;
         }
         try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
-            PropertyUtils.writePropertyContent(characterChannel, propertyMap, comment);
+            if (!bufferedReader.ready()) {
+                return false;
+            }
+            bufferedReader.mark(LINE_SCAN_LIMIT);
+            try {
+                for (int i = 0; i < LINE_SCAN_LIMIT && bufferedReader.ready(); i++) {
+                    int character = bufferedReader.read();
+                    if (character == '\n' || character == '\r') {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                bufferedReader.reset();
+            }
         } catch (IOException e) {
-            return IOUtils.createError(e);
+            return false;
         }
-        return null;
     }
 
     private static boolean isChannelClosed(BObject channel) {
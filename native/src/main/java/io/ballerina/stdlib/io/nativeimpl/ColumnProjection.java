@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Resolves the columns requested from a CSV file against its header.
+ * </p>
+ * <p>
+ * The projection provides the mask of the columns which should be materialized by the parser, see
+ * {@link io.ballerina.stdlib.io.csv.RecordParser#setProjection(boolean[])}, and arranges the fields of a record in
+ * the order of the requested columns.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class ColumnProjection {
+
+    private final List<String> columnNames;
+    private final int[] indices;
+    private final boolean[] mask;
+
+    private ColumnProjection(List<String> columnNames, int[] indices, boolean[] mask) {
+        this.columnNames = columnNames;
+        this.indices = indices;
+        this.mask = mask;
+    }
+
+    /**
+     * Resolves the given columns against the header.
+     *
+     * @param headerNames the header names in the order of the columns.
+     * @param columns     the names of the requested columns.
+     * @return the projection.
+     */
+    static ColumnProjection of(List<String> headerNames, BArray columns) {
+        String[] names = columns.getStringArray();
+        List<String> columnNames = new ArrayList<>(names.length);
+        int[] indices = new int[names.length];
+        boolean[] mask = new boolean[headerNames.size()];
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim();
+            int index = headerNames.indexOf(name);
+            if (index < 0) {
+                throw IOUtils.createError(String.format("The csv file does not contain the column - %s.", name));
+            }
+            columnNames.add(name);
+            indices[i] = index;
+            mask[index] = true;
+        }
+        return new ColumnProjection(columnNames, indices, mask);
+    }
+
+    /**
+     * Provides the names of the requested columns.
+     *
+     * @return the column names in the requested order.
+     */
+    List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Provides the columns which should be materialized.
+     *
+     * @return whether the column at each index of the header is requested.
+     */
+    boolean[] getMask() {
+        return mask;
+    }
+
+    /**
+     * Provides the header names where the columns which are not requested are replaced with null.
+     *
+     * @param headerNames the header names in the order of the columns.
+     * @return the header names of the requested columns in the order of the columns.
+     */
+    List<String> select(List<String> headerNames) {
+        List<String> selected = new ArrayList<>(headerNames.size());
+        for (int i = 0; i < headerNames.size(); i++) {
+            selected.add(mask[i] ? headerNames.get(i) : null);
+        }
+        return selected;
+    }
+
+    /**
+     * Arranges the fields of a record in the order of the requested columns.
+     *
+     * @param fields the fields of the record.
+     * @return the fields of the requested columns, a column which is absent in the record is given as empty.
+     */
+    String[] project(String[] fields) {
+        String[] projected = new String[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+            projected[i] = index < fields.length && fields[index] != null ? fields[index] : "";
+        }
+        return projected;
+    }
+}
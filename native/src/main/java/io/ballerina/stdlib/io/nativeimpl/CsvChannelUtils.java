@@ -18,28 +18,24 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Field;
-import io.ballerina.runtime.api.types.StructureType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import io.ballerina.stdlib.io.utils.IOUtils;
+import io.ballerina.stdlib.io.utils.IOConstants;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 import static io.ballerina.stdlib.io.nativeimpl.RecordChannelUtils.getAllRecords;
 import static io.ballerina.stdlib.io.nativeimpl.RecordChannelUtils.hasNext;
+import static io.ballerina.stdlib.io.utils.IOConstants.CSV_COLUMNS;
+import static io.ballerina.stdlib.io.utils.IOConstants.CSV_FILTERS;
 import static io.ballerina.stdlib.io.utils.IOConstants.CSV_ITERATOR;
 import static io.ballerina.stdlib.io.utils.IOConstants.CSV_RETURN_TYPE;
 import static io.ballerina.stdlib.io.utils.IOConstants.ITERATOR_NAME;
@@ -60,105 +56,60 @@ public final class CsvChannelUtils {
     private static final BString ROW_SEPERATOR = StringUtils.fromString("");
     private static final BString FORMAT = StringUtils.fromString("CSV");
     private static final BString ENCODING = StringUtils.fromString("UTF-8");
+    private static final BString STANDARD_READ_MODE = StringUtils.fromString(
+            IOConstants.FileReadMode.STANDARD.name());
+    private static final BString NO_COMPRESSION = StringUtils.fromString(IOConstants.Compression.NONE.name());
 
-    public static Object fileReadCsv(BString path, int skipHeaders, BTypedesc typeDesc) {
-        Object byteChannelObject = ByteChannelUtils.openReadableFile(path);
-        if (byteChannelObject instanceof BError) {
-            return byteChannelObject;
-        }
-        BObject byteChannel = (BObject) byteChannelObject;
-        BObject characterChannel = ValueCreator.createObjectValue(getIOPackage(),
-            READABLE_CHARACTER_CHANNEL, byteChannel, ENCODING);
-        BObject textRecordChannel = ValueCreator.createObjectValue(getIOPackage(),
-            READABLE_TEXT_RECORD_CHANNEL, characterChannel, FIELD_SEPERATOR, ROW_SEPERATOR, FORMAT);
-        textRecordChannel.addNativeData(CSV_RETURN_TYPE, typeDesc);
-        while (hasNext(textRecordChannel)) {
-            return getAllRecords(textRecordChannel, skipHeaders, typeDesc);
-        }
-        return null;
-    }
-
-    public static Object createCsvAsStream(BString path, BTypedesc typeDesc) {
-        Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
-        Object byteChannelObject = ByteChannelUtils.openReadableFile(path);
-        if (byteChannelObject instanceof BError) {
-            return byteChannelObject;
-        }
-        BObject byteChannel = (BObject) byteChannelObject;
-        BObject characterChannel = ValueCreator.createObjectValue(getIOPackage(),
-            READABLE_CHARACTER_CHANNEL, byteChannel, ENCODING);
-        BObject textRecordChannel = ValueCreator.createObjectValue(getIOPackage(),
-            READABLE_TEXT_RECORD_CHANNEL, characterChannel, FIELD_SEPERATOR, ROW_SEPERATOR, FORMAT);
-        BObject recordIterator = ValueCreator.createObjectValue(getIOPackage(), CSV_ITERATOR);
-        recordIterator.addNativeData(CSV_RETURN_TYPE, typeDesc);
-        recordIterator.addNativeData(ITERATOR_NAME, textRecordChannel);
-        return ValueCreator.createStreamValue(
-                TypeCreator.createStreamType(describingType), recordIterator);
+    public static Object fileReadCsv(Environment env, BString path, int skipHeaders, BTypedesc typeDesc,
+                                     long parallelism, Object columns, BString mode) {
+        return IOExecutor.execute(env, () -> {
+            BArray columnNames = (BArray) columns;
+            if (parallelism > 1) {
+                Object records = ParallelCsvReader.read(path.getValue(), skipHeaders, typeDesc,
+                        (int) Math.min(parallelism, Integer.MAX_VALUE), columnNames,
+                        IOConstants.FileReadMode.MEMORY_MAPPED.name().equals(mode.getValue()));
+                if (records != null) {
+                    return records;
+                }
+            }
+            Object byteChannelObject = ByteChannelUtils.openReadableFile(env, path, mode, NO_COMPRESSION, null);
+            if (byteChannelObject instanceof BError) {
+                return byteChannelObject;
+            }
+            BObject byteChannel = (BObject) byteChannelObject;
+            BObject characterChannel = ValueCreator.createObjectValue(getIOPackage(),
+                READABLE_CHARACTER_CHANNEL, byteChannel, ENCODING);
+            BObject textRecordChannel = ValueCreator.createObjectValue(getIOPackage(),
+                READABLE_TEXT_RECORD_CHANNEL, characterChannel, FIELD_SEPERATOR, ROW_SEPERATOR, FORMAT);
+            textRecordChannel.addNativeData(CSV_RETURN_TYPE, typeDesc);
+            while (hasNext(env, textRecordChannel)) {
+                return getAllRecords(env, textRecordChannel, skipHeaders, typeDesc, columnNames);
+            }
+            return null;
+        });
     }
 
-    public static Object getStruct(String[] fields, final StructureType structType, ArrayList<String> headerNames) {
-        Map<String, Field> internalStructFields = structType.getFields();
-        int fieldLength = headerNames.size();
-        Map<String, Object> struct = null;
-        if (fields.length > 0) {
-            struct = new HashMap<>();
-            for (int i = 0; i < fieldLength; i++) {
-                final Field internalStructField = internalStructFields.get(headerNames.get(i));
-                int type = TypeUtils.getReferredType(internalStructField.getFieldType()).getTag();
-                String fieldName = internalStructField.getFieldName();
-                if (fields.length > i) {
-                    String value = fields[i];
-                    if (value == null || value.isEmpty()) {
-                        if (type == TypeTags.UNION_TAG) {
-                            List<Type> members = ((UnionType) internalStructField.getFieldType()).getMemberTypes();
-                            if (TypeUtils.getReferredType(members.get(1)).getTag() == TypeTags.NULL_TAG) {
-                                struct.put(fieldName, null);
-                                continue;
-                            } 
-                            return IOUtils.createError("Unsupported nillable field : " + fieldName);
-                        }
-                        return IOUtils.createError("Field '" + fieldName + "' does not support nil value.");
-                    } 
-                    if (type == TypeTags.UNION_TAG) {
-                        List<Type> members = ((UnionType) internalStructField.getFieldType()).getMemberTypes();
-                        if (TypeUtils.getReferredType(members.get(1)).getTag() == TypeTags.NULL_TAG) {
-                            type = TypeUtils.getReferredType(members.get(0)).getTag();
-                        } else {
-                            return IOUtils.createError("Unsupported nillable field : " 
-                                + fieldName + " for value: " + value);
-                        }
-                    }
-                    String trimmedValue = value.trim();
-                    try {
-                        switch (type) {
-                            case TypeTags.INT_TAG:
-                                struct.put(fieldName, Long.parseLong(trimmedValue));
-                                break;
-                            case TypeTags.FLOAT_TAG:
-                                struct.put(fieldName, Double.parseDouble(trimmedValue));
-                                break;
-                            case TypeTags.STRING_TAG:
-                                struct.put(fieldName, trimmedValue);
-                                break;
-                            case TypeTags.DECIMAL_TAG:
-                                struct.put(fieldName, ValueCreator.createDecimalValue(trimmedValue));
-                                break;
-                            case TypeTags.BOOLEAN_TAG:
-                                struct.put(fieldName, Boolean.parseBoolean(trimmedValue));
-                                break;
-                            default:
-                                return IOUtils.createError(
-                                    "Data mapping support only for int, float, Decimal, boolean and string. "
-                                            + "Unsupported value for the struct field: " + fieldName);
-                        }
-                    } catch (NumberFormatException e) {
-                        return IOUtils.createError(
-                                    "Invalid value: " + trimmedValue + " for the field: '" + fieldName + "'");
-                    }
-                }
+    public static Object createCsvAsStream(Environment env, BString path, BTypedesc typeDesc, Object columns,
+                                           Object filters, BString compression) {
+        return IOExecutor.execute(env, () -> {
+            Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
+            Object byteChannelObject = ByteChannelUtils.openReadableFile(env, path, STANDARD_READ_MODE,
+                    compression, null);
+            if (byteChannelObject instanceof BError) {
+                return byteChannelObject;
             }
-            return struct;
-        }
-        return IOUtils.createError("Empty line detected");
+            BObject byteChannel = (BObject) byteChannelObject;
+            BObject characterChannel = ValueCreator.createObjectValue(getIOPackage(),
+                READABLE_CHARACTER_CHANNEL, byteChannel, ENCODING);
+            BObject textRecordChannel = ValueCreator.createObjectValue(getIOPackage(),
+                READABLE_TEXT_RECORD_CHANNEL, characterChannel, FIELD_SEPERATOR, ROW_SEPERATOR, FORMAT);
+            BObject recordIterator = ValueCreator.createObjectValue(getIOPackage(), CSV_ITERATOR);
+            recordIterator.addNativeData(CSV_RETURN_TYPE, typeDesc);
+            recordIterator.addNativeData(ITERATOR_NAME, textRecordChannel);
+            recordIterator.addNativeData(CSV_COLUMNS, columns);
+            recordIterator.addNativeData(CSV_FILTERS, filters);
+            return ValueCreator.createStreamValue(
+                    TypeCreator.createStreamType(describingType), recordIterator);
+        });
     }
 }
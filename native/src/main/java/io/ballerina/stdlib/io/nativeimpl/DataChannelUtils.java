@@ -18,7 +18,10 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.io.channels.base.Channel;
@@ -27,6 +30,7 @@ import io.ballerina.stdlib.io.channels.base.Representation;
 import io.ballerina.stdlib.io.utils.IOConstants;
 import io.ballerina.stdlib.io.utils.IOUtils;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteOrder;
 
@@ -74,119 +78,239 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readInt16(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readLong(Representation.BIT_16).getValue();
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readInt16(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, isReadBuffered(dataChannelObj, 2), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                return channel.readLong(Representation.BIT_16).getValue();
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readInt32(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readLong(Representation.BIT_32).getValue();
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readInt32(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, isReadBuffered(dataChannelObj, 4), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                return channel.readLong(Representation.BIT_32).getValue();
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readInt64(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readLong(Representation.BIT_64).getValue();
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readInt64(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, isReadBuffered(dataChannelObj, 8), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                return channel.readLong(Representation.BIT_64).getValue();
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readFloat32(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readDouble(Representation.BIT_32);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readFloat32(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, isReadBuffered(dataChannelObj, 4), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                return channel.readDouble(Representation.BIT_32);
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readFloat64(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readDouble(Representation.BIT_64);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readFloat64(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, isReadBuffered(dataChannelObj, 8), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                return channel.readDouble(Representation.BIT_64);
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readBool(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readBoolean();
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readBool(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, isReadBuffered(dataChannelObj, 1), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                return channel.readBoolean();
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object readString(BObject dataChannelObj, long nBytes, BString encoding) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        if (channel.hasReachedEnd()) {
-            return IOUtils.createEoFError();
-        } else {
+    public static Object readString(Environment env, BObject dataChannelObj, long nBytes, BString encoding) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            if (channel.hasReachedEnd()) {
+                return IOUtils.createEoFError();
+            } else {
+                try {
+                    return StringUtils.fromString(channel.readString((int) nBytes, encoding.getValue()));
+                } catch (IOException e) {
+                    String msg = "Error occurred while reading string: " + e.getMessage();
+                    return IOUtils.createError(msg);
+                }
+            }
+        });
+    }
+
+    public static Object readVarInt(Environment env, BObject dataChannelObj) {
+        return readVarLong(env, dataChannelObj, false);
+    }
+
+    public static Object readZigZagVarInt(Environment env, BObject dataChannelObj) {
+        return readVarLong(env, dataChannelObj, true);
+    }
+
+    private static Object readVarLong(Environment env, BObject dataChannelObj, boolean zigZag) {
+        return IOExecutor.execute(env, isVarLongReadBuffered(dataChannelObj), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
             try {
-                return StringUtils.fromString(channel.readString((int) nBytes, encoding.getValue()));
+                return channel.readVarLong(zigZag);
+            } catch (EOFException e) {
+                return IOUtils.createEoFError();
             } catch (IOException e) {
-                String msg = "Error occurred while reading string: " + e.getMessage();
-                return IOUtils.createError(msg);
+                return IOUtils.createError(e);
             }
-        }
+        });
     }
 
-    public static Object readVarInt(BObject dataChannelObj) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            return channel.readLong(Representation.VARIABLE).getValue();
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+    public static Object readVarIntArray(Environment env, BObject dataChannelObj, long count) {
+        return readVarLongArray(env, dataChannelObj, count, false);
     }
 
-    public static Object closeDataChannel(BObject dataChannel) {
-        if (isChannelClosed(dataChannel)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannel.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.close();
-            dataChannel.addNativeData(IS_CLOSED, true);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object readZigZagVarIntArray(Environment env, BObject dataChannelObj, long count) {
+        return readVarLongArray(env, dataChannelObj, count, true);
+    }
+
+    private static Object readVarLongArray(Environment env, BObject dataChannelObj, long count, boolean zigZag) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                return IOUtils.createError("Invalid number of values to read: " + count);
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                long[] values = channel.readVarLongs((int) count, zigZag);
+                if (values.length == 0 && count > 0) {
+                    return IOUtils.createEoFError();
+                }
+                return ValueCreator.createArrayValue(values);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    public static Object readInt32Array(Environment env, BObject dataChannelObj, long count) {
+        return readLongArray(env, dataChannelObj, count, Representation.BIT_32);
+    }
+
+    public static Object readInt64Array(Environment env, BObject dataChannelObj, long count) {
+        return readLongArray(env, dataChannelObj, count, Representation.BIT_64);
+    }
+
+    private static Object readLongArray(Environment env, BObject dataChannelObj, long count,
+                                        Representation representation) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                return IOUtils.createError("Invalid number of values to read: " + count);
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                long[] values = channel.readLongs((int) count, representation);
+                if (values.length == 0 && count > 0) {
+                    return IOUtils.createEoFError();
+                }
+                return ValueCreator.createArrayValue(values);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    public static Object readFloat64Array(Environment env, BObject dataChannelObj, long count) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                return IOUtils.createError("Invalid number of values to read: " + count);
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                double[] values = channel.readDoubles((int) count, Representation.BIT_64);
+                if (values.length == 0 && count > 0) {
+                    return IOUtils.createEoFError();
+                }
+                return ValueCreator.createArrayValue(values);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    public static Object closeDataChannel(Environment env, BObject dataChannel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannel)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannel.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.close();
+                dataChannel.addNativeData(IS_CLOSED, true);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
     public static void initWritableDataChannel(BObject dataChannelObj, BObject byteChannelObj, BString order) {
@@ -201,108 +325,230 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object writeInt16(BObject dataChannelObj, long value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeLong(value, Representation.BIT_16);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object writeInt16(Environment env, BObject dataChannelObj, long value) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, 2), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeLong(value, Representation.BIT_16);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeInt32(BObject dataChannelObj, long value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeLong(value, Representation.BIT_32);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object writeInt32(Environment env, BObject dataChannelObj, long value) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, 4), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeLong(value, Representation.BIT_32);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeInt64(BObject dataChannelObj, long value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeLong(value, Representation.BIT_64);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object writeInt64(Environment env, BObject dataChannelObj, long value) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, 8), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeLong(value, Representation.BIT_64);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeFloat32(BObject dataChannelObj, double value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeDouble(value, Representation.BIT_32);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object writeFloat32(Environment env, BObject dataChannelObj, double value) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, 4), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeDouble(value, Representation.BIT_32);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeFloat64(BObject dataChannelObj, double value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
-        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeDouble(value, Representation.BIT_64);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object writeFloat64(Environment env, BObject dataChannelObj, double value) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, 8), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeDouble(value, Representation.BIT_64);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object writeBool(BObject dataChannelObj, boolean value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
+    public static Object writeBool(Environment env, BObject dataChannelObj, boolean value) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, 1), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeBoolean(value);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object writeString(Environment env, BObject dataChannelObj, BString value, BString encoding) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeString(value.getValue(), encoding.getValue());
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object writeVarInt(Environment env, BObject dataChannelObj, long value) {
+        return writeVarLong(env, dataChannelObj, value, false);
+    }
+
+    public static Object writeZigZagVarInt(Environment env, BObject dataChannelObj, long value) {
+        return writeVarLong(env, dataChannelObj, value, true);
+    }
+
+    private static Object writeVarLong(Environment env, BObject dataChannelObj, long value, boolean zigZag) {
+        return IOExecutor.execute(env, isWriteBuffered(dataChannelObj, DataChannel.MAX_VAR_LONG_BYTES), () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeVarLong(value, zigZag);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object writeVarIntArray(Environment env, BObject dataChannelObj, BArray values) {
+        return writeVarLongArray(env, dataChannelObj, values, false);
+    }
+
+    public static Object writeZigZagVarIntArray(Environment env, BObject dataChannelObj, BArray values) {
+        return writeVarLongArray(env, dataChannelObj, values, true);
+    }
+
+    private static Object writeVarLongArray(Environment env, BObject dataChannelObj, BArray values, boolean zigZag) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeVarLongs(values::getInt, values.size(), zigZag);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object writeInt32Array(Environment env, BObject dataChannelObj, BArray values) {
+        return writeLongArray(env, dataChannelObj, values, Representation.BIT_32);
+    }
+
+    public static Object writeInt64Array(Environment env, BObject dataChannelObj, BArray values) {
+        return writeLongArray(env, dataChannelObj, values, Representation.BIT_64);
+    }
+
+    private static Object writeLongArray(Environment env, BObject dataChannelObj, BArray values,
+                                         Representation representation) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeLongs(values::getInt, values.size(), representation);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object writeFloat64Array(Environment env, BObject dataChannelObj, BArray values) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.writeDoubles(values::getFloat, values.size(), Representation.BIT_64);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object flush(Environment env, BObject dataChannelObj) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(dataChannelObj)) {
+                return IOUtils.createError("Data channel is already closed.");
+            }
+            DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+            try {
+                channel.flush();
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Specifies whether a value of the given number of bytes is read from the read-ahead buffer of a data channel.
+     */
+    private static boolean isReadBuffered(BObject dataChannelObj, int numberOfBytes) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeBoolean(value);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+        return null != channel && !isChannelClosed(dataChannelObj) && channel.isReadBuffered(numberOfBytes);
     }
 
-    public static Object writeString(BObject dataChannelObj, BString value, BString encoding) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
+    private static boolean isVarLongReadBuffered(BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeString(value.getValue(), encoding.getValue());
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+        return null != channel && !isChannelClosed(dataChannelObj) && channel.isVarLongReadBuffered();
     }
 
-    public static Object writeVarInt(BObject dataChannelObj, long value) {
-        if (isChannelClosed(dataChannelObj)) {
-            return IOUtils.createError("Data channel is already closed.");
-        }
+    /**
+     * Specifies whether a value of the given number of bytes is written to the write buffer of a data channel.
+     */
+    private static boolean isWriteBuffered(BObject dataChannelObj, int numberOfBytes) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
-        try {
-            channel.writeLong(value, Representation.VARIABLE);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+        return null != channel && !isChannelClosed(dataChannelObj) && channel.isWriteBuffered(numberOfBytes);
     }
 
     private static boolean isChannelClosed(BObject channel) {
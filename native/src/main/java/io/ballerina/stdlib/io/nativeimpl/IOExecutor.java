@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs blocking I/O operations without blocking the strand, which invokes them.
+ * </p>
+ * <p>
+ * The strand yields while the operation runs on a virtual thread of its own, hence a slow disk or a network file
+ * system does not stall the other strands. The number of operations which run concurrently is bounded through the
+ * io:maxConcurrentFileOperations configurable, operations run on the invoking strand when it is not positive.
+ * Operations which are invoked from an operation, which is already offloaded, run on the same thread and the reads
+ * and writes of single values, which are served from the buffers of a channel, run on the invoking strand.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class IOExecutor {
+
+    /**
+     * The default number of operations, which run concurrently.
+     */
+    static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 64;
+
+    private static final ThreadLocal<Boolean> OFFLOADED = ThreadLocal.withInitial(() -> false);
+
+    private static volatile Semaphore permits = new Semaphore(DEFAULT_MAX_CONCURRENT_OPERATIONS);
+
+    private IOExecutor() {
+    }
+
+    /**
+     * Sets the number of operations, which run concurrently.
+     *
+     * @param maxConcurrentOperations the number of operations or a value less than 1 to run the operations on the
+     *                                invoking strand.
+     */
+    static void configure(int maxConcurrentOperations) {
+        permits = maxConcurrentOperations > 0 ? new Semaphore(maxConcurrentOperations) : null;
+    }
+
+    /**
+     * Runs a blocking operation while the invoking strand yields.
+     *
+     * @param env       the environment of the invoking strand.
+     * @param operation the blocking operation.
+     * @param <T>       the type of the result.
+     * @return the result of the operation.
+     */
+    static <T> T execute(Environment env, Supplier<T> operation) {
+        Semaphore operationPermits = permits;
+        if (null == operationPermits || null == env || isOffloaded()) {
+            return operation.get();
+        }
+        return env.yieldAndRun(() -> offload(operationPermits, operation));
+    }
+
+    /**
+     * Runs an operation on the invoking strand if it is served from the buffers of a channel, otherwise runs it as a
+     * blocking operation while the strand yields. Offloading an operation which only copies a few bytes from memory
+     * costs more than the operation itself.
+     *
+     * @param env       the environment of the invoking strand.
+     * @param buffered  whether the operation is served without accessing the underlying channel.
+     * @param operation the operation.
+     * @param <T>       the type of the result.
+     * @return the result of the operation.
+     */
+    static <T> T execute(Environment env, boolean buffered, Supplier<T> operation) {
+        return buffered ? operation.get() : execute(env, operation);
+    }
+
+    /**
+     * Specifies whether the current thread runs an offloaded operation.
+     *
+     * @return true if the current thread runs an offloaded operation.
+     */
+    static boolean isOffloaded() {
+        return OFFLOADED.get();
+    }
+
+    /**
+     * Runs an operation on a virtual thread once a permit is available and waits for the result.
+     *
+     * @param operationPermits the permits which bound the concurrent operations.
+     * @param operation        the blocking operation.
+     * @param <T>              the type of the result.
+     * @return the result of the operation.
+     */
+    static <T> T offload(Semaphore operationPermits, Supplier<T> operation) {
+        try {
+            operationPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IOUtils.createError(e);
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            Thread.startVirtualThread(() -> {
+                OFFLOADED.set(true);
+                T result = null;
+                Throwable failure = null;
+                try {
+                    result = operation.get();
+                } catch (Throwable e) {
+                    failure = e;
+                } finally {
+                    // The permit is released before the result is published to keep the bound exact for the caller
+                    operationPermits.release();
+                }
+                if (null == failure) {
+                    future.complete(result);
+                } else {
+                    future.completeExceptionally(failure);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            operationPermits.release();
+            throw e;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IOUtils.createError(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw IOUtils.createError(cause);
+        }
+    }
+}
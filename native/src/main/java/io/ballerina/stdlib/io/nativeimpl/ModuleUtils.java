@@ -43,4 +43,8 @@ public class ModuleUtils {
     public static Module getModule() {
         return ioModule;
     }
+
+    public static void setMaxConcurrentFileOperations(long maxConcurrentOperations) {
+        IOExecutor.configure((int) Math.min(maxConcurrentOperations, Integer.MAX_VALUE));
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Reads the blocks of a file through concurrent positional reads of disjoint ranges on a shared file channel.
+ * </p>
+ * <p>
+ * Each reader claims the next block once a slot of the window is available, a slot is freed when the consumer takes
+ * a block, hence the number of blocks which are read but not consumed is bounded by the window. Blocks are handed
+ * over in the order of the file, or in the order of completion for consumers which do not depend on the order.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class ParallelBlockReader {
+
+    private final FileChannel channel;
+    private final long size;
+    private final int blockSize;
+    private final long numberOfBlocks;
+    private final boolean ordered;
+    private final int parallelism;
+    private final Semaphore window;
+    private final AtomicLong nextBlock = new AtomicLong();
+    private final Map<Long, CompletableFuture<byte[]>> blocks = new ConcurrentHashMap<>();
+    private final BlockingQueue<Long> completedBlocks = new LinkedBlockingQueue<>();
+    private long consumedBlocks;
+    private volatile boolean closed;
+
+    /**
+     * Starts reading the blocks of a file.
+     *
+     * @param channel     the file channel, which is closed along with the reader.
+     * @param blockSize   the size of a block.
+     * @param parallelism the number of blocks which are read concurrently.
+     * @param windowSize  the maximum number of blocks which are read but not consumed.
+     * @param ordered     whether the blocks are handed over in the order of the file.
+     * @throws IOException if the size of the file could not be read.
+     */
+    ParallelBlockReader(FileChannel channel, int blockSize, int parallelism, int windowSize, boolean ordered)
+            throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.blockSize = blockSize;
+        this.numberOfBlocks = (size + blockSize - 1) / blockSize;
+        this.ordered = ordered;
+        this.parallelism = (int) Math.min(parallelism, Math.max(1, numberOfBlocks));
+        this.window = new Semaphore(windowSize);
+        for (int i = 0; i < this.parallelism; i++) {
+            Thread.startVirtualThread(this::readBlocks);
+        }
+    }
+
+    private void readBlocks() {
+        while (true) {
+            try {
+                window.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long index = nextBlock.getAndIncrement();
+            if (closed || index >= numberOfBlocks) {
+                window.release();
+                return;
+            }
+            CompletableFuture<byte[]> block = getBlock(index);
+            try {
+                block.complete(read(index * blockSize));
+            } catch (IOException | RuntimeException e) {
+                block.completeExceptionally(e);
+            }
+            if (!ordered) {
+                completedBlocks.add(index);
+            }
+        }
+    }
+
+    private byte[] read(long position) throws IOException {
+        byte[] content = new byte[(int) Math.min(blockSize, size - position)];
+        int numberOfBytesRead = Math.max(0, IOUtils.readFullAt(channel, position, ByteBuffer.wrap(content)));
+        //The file could have been truncated after the size was read
+        return numberOfBytesRead == content.length ? content : Arrays.copyOf(content, numberOfBytesRead);
+    }
+
+    private CompletableFuture<byte[]> getBlock(long index) {
+        return blocks.computeIfAbsent(index, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * Specifies whether the blocks are handed over in the order of the file.
+     *
+     * @return true if the blocks are ordered.
+     */
+    boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Waits for the next block.
+     *
+     * @return the next block or null once all the blocks are consumed.
+     * @throws IOException          if the block could not be read.
+     * @throws InterruptedException if the consumer is interrupted while waiting.
+     */
+    synchronized Block next() throws IOException, InterruptedException {
+        if (closed || consumedBlocks >= numberOfBlocks) {
+            return null;
+        }
+        long index = ordered ? consumedBlocks : completedBlocks.take();
+        CompletableFuture<byte[]> block = getBlock(index);
+        try {
+            return new Block(index * blockSize, block.get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+        } finally {
+            blocks.remove(index);
+            consumedBlocks++;
+            window.release();
+        }
+    }
+
+    /**
+     * Stops reading ahead and closes the file channel.
+     *
+     * @throws IOException if the file channel could not be closed.
+     */
+    void close() throws IOException {
+        closed = true;
+        //The readers which wait for a slot of the window observe that the reader is closed
+        window.release(parallelism);
+        channel.close();
+    }
+
+    /**
+     * A block of the file along with its position.
+     */
+    static final class Block {
+
+        private final long offset;
+        private final byte[] content;
+
+        private Block(long offset, byte[] content) {
+            this.offset = offset;
+            this.content = content;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        byte[] getContent() {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.io.channels.BlobChannel;
+import io.ballerina.stdlib.io.channels.BlobIOChannel;
+import io.ballerina.stdlib.io.channels.FileRangeChannel;
+import io.ballerina.stdlib.io.channels.MappedByteChannel;
+import io.ballerina.stdlib.io.channels.base.CharacterChannel;
+import io.ballerina.stdlib.io.channels.base.DelimitedRecordChannel;
+import io.ballerina.stdlib.io.csv.Format;
+import io.ballerina.stdlib.io.csv.RecordBoundaryScanner;
+import io.ballerina.stdlib.io.csv.RecordParser;
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import io.ballerina.stdlib.io.utils.IOConstants;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Reads a CSV file concurrently.
+ * </p>
+ * <p>
+ * The file is split to byte ranges at record boundaries, each range is parsed and converted to the requested type
+ * concurrently and the results are combined in the order of the ranges.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class ParallelCsvReader {
+
+    /**
+     * Files are not split to ranges smaller than this, since the cost of scheduling would dominate.
+     */
+    static final long MIN_RANGE_SIZE = 256 * 1024;
+
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+
+    private ParallelCsvReader() {
+    }
+
+    /**
+     * Reads all records of a CSV file concurrently.
+     *
+     * @param path        the path of the CSV file.
+     * @param skipHeaders the number of headers which should be skipped.
+     * @param typeDesc    the type of a record, either string[] or a record type.
+     * @param parallelism the maximum number of ranges which are read concurrently.
+     * @param columns     the names of the columns which should be read or null to read all columns.
+     * @param mapped      whether the ranges are read through a memory mapping of the file.
+     * @return the records, an error or null if the file should be read sequentially.
+     */
+    static Object read(String path, int skipHeaders, BTypedesc typeDesc, int parallelism, BArray columns,
+                       boolean mapped) {
+        Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
+        boolean isRecordType = describingType.getTag() == TypeTags.RECORD_TYPE_TAG;
+        if (skipHeaders < 0 || (!isRecordType && describingType.getTag() != TypeTags.ARRAY_TAG)) {
+            return null;
+        }
+        try (FileChannel fileChannel = IOUtils.openFileChannelExtended(Paths.get(path),
+                IOConstants.FileOpenOption.READ)) {
+            long size = fileChannel.size();
+            int numberOfRanges = (int) Math.min(parallelism, size / MIN_RANGE_SIZE);
+            if (numberOfRanges < 2) {
+                return null;
+            }
+            long start = 0;
+            RecordMappingPlan plan = null;
+            ColumnProjection columnProjection = null;
+            if (isRecordType || null != columns) {
+                long headerEnd = RecordBoundaryScanner.skipRecords(fileChannel, 0, 1);
+                ArrayList<String> headerNames = readHeaders(fileChannel, headerEnd);
+                if (null == headerNames) {
+                    return null;
+                }
+                List<String> mappedHeaders = headerNames;
+                if (null != columns) {
+                    columnProjection = ColumnProjection.of(headerNames, columns);
+                    mappedHeaders = columnProjection.select(headerNames);
+                }
+                if (isRecordType) {
+                    StructureType structType = (StructureType) describingType;
+                    RecordChannelUtils.validateHeaders(null == columnProjection ? headerNames :
+                            columnProjection.getColumnNames(), structType);
+                    plan = RecordMappingPlan.forHeaders(structType, mappedHeaders);
+                    start = RecordBoundaryScanner.skipRecords(fileChannel, headerEnd, Math.max(0, skipHeaders - 1));
+                }
+            }
+            if (!isRecordType) {
+                start = RecordBoundaryScanner.skipRecords(fileChannel, start, skipHeaders);
+            }
+            final RecordMappingPlan mappingPlan = plan;
+            final ColumnProjection projection = columnProjection;
+            ForkJoinPool pool = new ForkJoinPool(numberOfRanges);
+            try {
+                long[] boundaries = RecordBoundaryScanner.split(fileChannel, start, size, numberOfRanges, pool);
+                List<Future<Object>> ranges = new ArrayList<>();
+                for (int i = 0; i < boundaries.length - 1; i++) {
+                    final long from = boundaries[i];
+                    final long to = boundaries[i + 1];
+                    ranges.add(pool.submit(() -> readRange(fileChannel, from, to, mapped, mappingPlan,
+                            projection)));
+                }
+                List<Object> records = new ArrayList<>();
+                for (Future<Object> range : ranges) {
+                    Object result = range.get();
+                    if (result instanceof BError) {
+                        return result;
+                    }
+                    records.addAll((List<?>) result);
+                }
+                return ValueCreator.createArrayValue(records.toArray(),
+                        TypeCreator.createArrayType(describingType));
+            } finally {
+                pool.shutdownNow();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BError) {
+                return e.getCause();
+            }
+            return IOUtils.createError(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return IOUtils.createError(e);
+        } catch (BallerinaIOException | IOException e) {
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    /**
+     * Reads the header names from the first record of a CSV file.
+     *
+     * @param fileChannel the file channel.
+     * @param end         the position after the first record.
+     * @return the trimmed header names or null if the header is too large to be read at once.
+     * @throws IOException during I/O error.
+     */
+    static ArrayList<String> readHeaders(FileChannel fileChannel, long end) throws IOException {
+        if (end > Integer.MAX_VALUE) {
+            return null;
+        }
+        ByteBuffer content = ByteBuffer.allocate((int) end);
+        while (content.hasRemaining()) {
+            if (fileChannel.read(content, content.position()) < 0) {
+                break;
+            }
+        }
+        String record = new String(content.array(), 0, content.position(), StandardCharsets.UTF_8);
+        ArrayList<String> headerNames = new ArrayList<>();
+        for (String header : RecordParser.forFormat(Format.CSV).parseFields(record)) {
+            headerNames.add(header.trim());
+        }
+        return headerNames;
+    }
+
+    private static Object readRange(FileChannel fileChannel, long from, long to, boolean mapped,
+                                    RecordMappingPlan mappingPlan, ColumnProjection projection)
+            throws BallerinaIOException, IOException {
+        ReadableByteChannel rangeChannel = mapped ? new MappedByteChannel(fileChannel, from, to) :
+                new FileRangeChannel(fileChannel, from, to);
+        BlobIOChannel channel = new BlobIOChannel(new BlobChannel(rangeChannel));
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(new CharacterChannel(channel, ENCODING),
+                Format.CSV);
+        if (null != projection) {
+            recordChannel.setProjection(projection.getMask());
+        }
+        List<Object> records = new ArrayList<>();
+        try {
+            while (recordChannel.hasNext()) {
+                String[] record = recordChannel.read();
+                if (null == mappingPlan) {
+                    records.add(StringUtils.fromStringArray(null == projection ? record :
+                            projection.project(record)));
+                    continue;
+                }
+                Object returnStruct = mappingPlan.map(record);
+                if (returnStruct instanceof BError) {
+                    return returnStruct;
+                }
+                records.add(returnStruct);
+            }
+        } finally {
+            //Closing the range does not close the file channel, but returns the buffers to the pool
+            recordChannel.close();
+        }
+        return records;
+    }
+}
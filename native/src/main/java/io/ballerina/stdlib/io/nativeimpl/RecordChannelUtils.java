@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.flags.SymbolFlags;
@@ -44,11 +45,15 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
-import java.util.Map;
+import java.util.List;
 
+import static io.ballerina.stdlib.io.utils.IOConstants.CSV_COLUMNS;
+import static io.ballerina.stdlib.io.utils.IOConstants.CSV_COLUMN_PROJECTION;
+import static io.ballerina.stdlib.io.utils.IOConstants.CSV_FILTERS;
+import static io.ballerina.stdlib.io.utils.IOConstants.CSV_RECORD_FILTER;
 import static io.ballerina.stdlib.io.utils.IOConstants.CSV_RETURN_TYPE;
-import static io.ballerina.stdlib.io.utils.IOConstants.HEADER_NAMES;
 import static io.ballerina.stdlib.io.utils.IOConstants.ITERATOR_NAME;
+import static io.ballerina.stdlib.io.utils.IOConstants.RECORD_MAPPING_PLAN;
 import static io.ballerina.stdlib.io.utils.IOConstants.TXT_RECORD_CHANNEL_NAME;
 
 /**
@@ -90,42 +95,48 @@ public class RecordChannelUtils {
         }
     }
 
-    public static boolean hasNext(BObject channel) {
-        Object textChannel = channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
-        if (textChannel == null) {
-            return false;
-        }
-        DelimitedRecordChannel textRecordChannel = (DelimitedRecordChannel) textChannel;
-        if (!textRecordChannel.hasReachedEnd()) {
-            try {
-                return textRecordChannel.hasNext();
-            } catch (BallerinaIOException e) {
-                String msg = "error occurred while checking hasNext on ReadableTextRecordChannel: " + e.getMessage();
-                throw IOUtils.createError(msg);
+    public static boolean hasNext(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            Object textChannel = channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+            if (textChannel == null) {
+                return false;
             }
-        }
-        return false;
+            DelimitedRecordChannel textRecordChannel = (DelimitedRecordChannel) textChannel;
+            if (!textRecordChannel.hasReachedEnd()) {
+                try {
+                    return textRecordChannel.hasNext();
+                } catch (BallerinaIOException e) {
+                    String msg = "error occurred while checking hasNext on ReadableTextRecordChannel: " +
+                            e.getMessage();
+                    throw IOUtils.createError(msg);
+                }
+            }
+            return false;
+        });
     }
 
-    public static Object getNext(BObject channel) {
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Record channel is already closed.");
-        }
-        DelimitedRecordChannel textRecordChannel =
-                (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
-        if (textRecordChannel.hasReachedEnd()) {
-            return IOUtils.createEoFError();
-        } else {
-            try {
-                String[] records = textRecordChannel.read();
-                return StringUtils.fromStringArray(records);
-            } catch (BallerinaIOException e) {
-                return IOUtils.createError(e);
+    public static Object getNext(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Record channel is already closed.");
             }
-        }
+            DelimitedRecordChannel textRecordChannel =
+                    (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+            if (textRecordChannel.hasReachedEnd()) {
+                return IOUtils.createEoFError();
+            } else {
+                try {
+                    String[] records = textRecordChannel.read();
+                    return StringUtils.fromStringArray(records);
+                } catch (BallerinaIOException e) {
+                    return IOUtils.createError(e);
+                }
+            }
+        });
     }
 
-    public static Object getAllRecords(BObject channel, int skipHeaders, BTypedesc typeDesc) {
+    public static Object getAllRecords(Environment env, BObject channel, int skipHeaders, BTypedesc typeDesc,
+                                       BArray columns) {
         Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
         if (isChannelClosed(channel)) {
             return IOUtils.createError("Record channel is already closed.");
@@ -140,14 +151,12 @@ public class RecordChannelUtils {
                 StructureType structType = (StructureType) describingType;
                 ArrayList<Object> outList = new ArrayList<>();
                 ArrayList<String> headerNames = new ArrayList<>();
+                RecordMappingPlan mappingPlan = null;
                 String[] record;
                 while (textRecordChannel.hasNext()) {
                     if (headerNames.size() == 0) {
-                        record = textRecordChannel.read();
-                        for (String header : record) {
-                            headerNames.add(header.trim());
-                        }
-                        validateHeaders(headerNames, structType);
+                        headerNames = getHeaderNames(textRecordChannel.read());
+                        mappingPlan = createMappingPlan(textRecordChannel, structType, headerNames, columns, null);
                         continue;
                     }
                     record = textRecordChannel.read();
@@ -155,21 +164,26 @@ public class RecordChannelUtils {
                         skipHeaders -= 1;
                         continue;
                     }
-                    Object returnStruct = CsvChannelUtils.getStruct(record, structType, headerNames);
+                    Object returnStruct = mappingPlan.map(record);
                     if (returnStruct instanceof BError) {
                         return returnStruct;
                     }
-                    Map<String, Object> struct = (Map<String, Object>) returnStruct;
-                    outList.add(ValueCreator.createRecordValue(describingType.getPackage(),
-                            describingType.getName(), struct));
-
+                    outList.add(returnStruct);
                 }
                 Object[] out = outList.toArray();
                 return ValueCreator.createArrayValue(out, TypeCreator.createArrayType(describingType));
             } else if (describingType.getTag() == TypeTags.ARRAY_TAG) {
                 ArrayList<BArray> outList = new ArrayList<>();
+                ColumnProjection projection = null;
                 while (textRecordChannel.hasNext()) {
                     String[] record = textRecordChannel.read();
+                    if (null != columns) {
+                        if (null == projection) {
+                            projection = ColumnProjection.of(getHeaderNames(record), columns);
+                            textRecordChannel.setProjection(projection.getMask());
+                        }
+                        record = projection.project(record);
+                    }
                     if (skipHeaders != 0) {
                         skipHeaders -= 1;
                         continue;
@@ -187,98 +201,151 @@ public class RecordChannelUtils {
         } catch (BError e) {
             return e;
         } finally {
-            close(channel);
+            close(env, channel);
         }
     }
 
-    public static Object streamNext(BObject iterator) {
-        BObject channel = (BObject) iterator.getNativeData(ITERATOR_NAME);
-        BufferedReader bufferedReader = (BufferedReader) channel.getNativeData(BUFFERED_READER_ENTRY);
-        BTypedesc typeDesc = (BTypedesc) iterator.getNativeData(CSV_RETURN_TYPE);
-        Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
-        try {
-            String line = bufferedReader.readLine();
-            if (line == null) {
-                bufferedReader.close();
-                return IOUtils.createEoFError();
-            }
-            DelimitedRecordChannel textRecordChannel =
-                    (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
-            if (describingType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                StructureType structType = (StructureType) describingType;
-                String[] record = textRecordChannel.getFields(line);
-                if (!iterator.getNativeData().containsKey(HEADER_NAMES)) {
-                    ArrayList<String> headers = new ArrayList<>();
-                    for (String header : record) {
-                        headers.add(header.trim());
+    public static Object streamNext(Environment env, BObject iterator) {
+        return IOExecutor.execute(env, () -> {
+            BObject channel = (BObject) iterator.getNativeData(ITERATOR_NAME);
+            BufferedReader bufferedReader = (BufferedReader) channel.getNativeData(BUFFERED_READER_ENTRY);
+            BTypedesc typeDesc = (BTypedesc) iterator.getNativeData(CSV_RETURN_TYPE);
+            BArray columns = (BArray) iterator.getNativeData(CSV_COLUMNS);
+            BArray filters = (BArray) iterator.getNativeData(CSV_FILTERS);
+            Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
+            try {
+                String line = bufferedReader.readLine();
+                if (line == null) {
+                    bufferedReader.close();
+                    return IOUtils.createEoFError();
+                }
+                DelimitedRecordChannel textRecordChannel =
+                        (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+                if (describingType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    StructureType structType = (StructureType) describingType;
+                    String[] record = textRecordChannel.getFields(line);
+                    if (!iterator.getNativeData().containsKey(RECORD_MAPPING_PLAN)) {
+                        ArrayList<String> headerNames = getHeaderNames(record);
+                        RecordFilter recordFilter = null;
+                        if (null != filters) {
+                            recordFilter = RecordFilter.of(headerNames, filters);
+                            iterator.addNativeData(CSV_RECORD_FILTER, recordFilter);
+                        }
+                        iterator.addNativeData(RECORD_MAPPING_PLAN, createMappingPlan(textRecordChannel, structType,
+                                headerNames, columns, recordFilter));
+                        line = bufferedReader.readLine();
+                        record = null == line ? null : textRecordChannel.getFields(line);
                     }
-                    validateHeaders(headers, structType);
-                    iterator.addNativeData(HEADER_NAMES, headers);
-                    line = bufferedReader.readLine();
-                    record = textRecordChannel.getFields(line);
+                    record = nextSelectedRecord(bufferedReader, textRecordChannel, record,
+                            (RecordFilter) iterator.getNativeData(CSV_RECORD_FILTER));
+                    if (null == record) {
+                        bufferedReader.close();
+                        return IOUtils.createEoFError();
+                    }
+                    RecordMappingPlan mappingPlan = (RecordMappingPlan) iterator.getNativeData(RECORD_MAPPING_PLAN);
+                    return mappingPlan.map(record);
                 }
-                ArrayList<String> headerNames = (ArrayList<String>) iterator.getNativeData(HEADER_NAMES);
-                Object returnStruct = CsvChannelUtils.getStruct(record, structType, headerNames);
-                if (returnStruct instanceof BError) {
-                    return returnStruct;
+                String[] records = textRecordChannel.getFields(line);
+                if (null == columns && null == filters) {
+                    return StringUtils.fromStringArray(records);
                 }
-                final Map<String, Object> struct = (Map<String, Object>) returnStruct;
-                return ValueCreator.createRecordValue(describingType.getPackage(), describingType.getName(),
-                        struct);
+                ColumnProjection projection = (ColumnProjection) iterator.getNativeData(CSV_COLUMN_PROJECTION);
+                RecordFilter recordFilter = (RecordFilter) iterator.getNativeData(CSV_RECORD_FILTER);
+                if (null == projection && null == recordFilter) {
+                    //The header is only used to resolve the columns, hence it is not filtered
+                    ArrayList<String> headerNames = getHeaderNames(records);
+                    boolean[] mask = null;
+                    if (null != columns) {
+                        projection = ColumnProjection.of(headerNames, columns);
+                        iterator.addNativeData(CSV_COLUMN_PROJECTION, projection);
+                        mask = projection.getMask();
+                    }
+                    if (null != filters) {
+                        recordFilter = RecordFilter.of(headerNames, filters);
+                        iterator.addNativeData(CSV_RECORD_FILTER, recordFilter);
+                        mask = null == mask ? null : recordFilter.require(mask);
+                    }
+                    textRecordChannel.setProjection(mask);
+                } else {
+                    records = nextSelectedRecord(bufferedReader, textRecordChannel, records, recordFilter);
+                    if (null == records) {
+                        bufferedReader.close();
+                        return IOUtils.createEoFError();
+                    }
+                }
+                return StringUtils.fromStringArray(null == projection ? records : projection.project(records));
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
             }
-            String[] records = textRecordChannel.getFields(line);
-            return StringUtils.fromStringArray(records);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
+        });
     }
 
-    public static Object readRecord(BObject channel) {
-        BufferedReader bufferedReader = (BufferedReader) channel.getNativeData(BUFFERED_READER_ENTRY);
-        try {
+    private static String[] nextSelectedRecord(BufferedReader bufferedReader,
+                                               DelimitedRecordChannel textRecordChannel, String[] record,
+                                               RecordFilter recordFilter) throws IOException {
+        String[] current = record;
+        while (null != recordFilter && null != current && !recordFilter.test(current)) {
             String line = bufferedReader.readLine();
-            if (line == null) {
-                bufferedReader.close();
-                return IOUtils.createEoFError();
-            }
-            DelimitedRecordChannel textRecordChannel =
-                    (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
-            String[] record = textRecordChannel.getFields(line);
-            return StringUtils.fromStringArray(record);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
+            current = null == line ? null : textRecordChannel.getFields(line);
         }
+        return current;
     }
 
-    public static Object write(BObject channel, BArray content) {
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Record channel is already closed.");
-        }
-        DelimitedRecordChannel delimitedRecordChannel = (DelimitedRecordChannel) channel
-                .getNativeData(TXT_RECORD_CHANNEL_NAME);
-        try {
-            delimitedRecordChannel.write(content.getStringArray());
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object readRecord(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            BufferedReader bufferedReader = (BufferedReader) channel.getNativeData(BUFFERED_READER_ENTRY);
+            try {
+                String line = bufferedReader.readLine();
+                if (line == null) {
+                    bufferedReader.close();
+                    return IOUtils.createEoFError();
+                }
+                DelimitedRecordChannel textRecordChannel =
+                        (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+                String[] record = textRecordChannel.getFields(line);
+                return StringUtils.fromStringArray(record);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+        });
     }
 
-    public static Object close(BObject channel) {
-        if (isChannelClosed(channel)) {
-            return IOUtils.createError("Record channel is already closed.");
-        }
-        DelimitedRecordChannel recordChannel = (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
-        try {
-            BufferedReader bufferedReader = (BufferedReader)
-                    channel.getNativeData(BUFFERED_READER_ENTRY);
-            bufferedReader.close();
-            recordChannel.close();
-            channel.addNativeData(IS_CLOSED, true);
-        } catch (IOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object write(Environment env, BObject channel, BArray content) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Record channel is already closed.");
+            }
+            DelimitedRecordChannel delimitedRecordChannel = (DelimitedRecordChannel) channel
+                    .getNativeData(TXT_RECORD_CHANNEL_NAME);
+            try {
+                delimitedRecordChannel.write(content.getStringArray());
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
+    }
+
+    public static Object close(Environment env, BObject channel) {
+        return IOExecutor.execute(env, () -> {
+            if (isChannelClosed(channel)) {
+                return IOUtils.createError("Record channel is already closed.");
+            }
+            DelimitedRecordChannel recordChannel =
+                    (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+            try {
+                BufferedReader bufferedReader = (BufferedReader)
+                        channel.getNativeData(BUFFERED_READER_ENTRY);
+                bufferedReader.close();
+                recordChannel.close();
+                channel.addNativeData(IS_CLOSED, true);
+            } catch (IOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 
     private static boolean isChannelClosed(BObject channel) {
@@ -315,7 +382,29 @@ public class RecordChannelUtils {
         return null;
     }
 
-    private static void validateHeaders(ArrayList<String> headers, StructureType structType) {
+    private static ArrayList<String> getHeaderNames(String[] record) {
+        ArrayList<String> headerNames = new ArrayList<>();
+        for (String header : record) {
+            headerNames.add(header.trim());
+        }
+        return headerNames;
+    }
+
+    private static RecordMappingPlan createMappingPlan(DelimitedRecordChannel textRecordChannel,
+                                                       StructureType structType, List<String> headerNames,
+                                                       BArray columns, RecordFilter recordFilter) {
+        if (null == columns) {
+            validateHeaders(headerNames, structType);
+            return RecordMappingPlan.forHeaders(structType, headerNames);
+        }
+        ColumnProjection projection = ColumnProjection.of(headerNames, columns);
+        validateHeaders(projection.getColumnNames(), structType);
+        boolean[] mask = projection.getMask();
+        textRecordChannel.setProjection(null == recordFilter ? mask : recordFilter.require(mask));
+        return RecordMappingPlan.forHeaders(structType, projection.select(headerNames));
+    }
+
+    static void validateHeaders(List<String> headers, StructureType structType) {
 
         structType.getFields().forEach((key, value) -> {
             Field field = (Field) value;
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Selects CSV records through the conditions given as io:CsvFilter values.
+ * </p>
+ * <p>
+ * Conditions are evaluated on the parsed fields of a record, hence a record which is rejected is never converted to
+ * a Ballerina value. A record is selected only if it satisfies all the conditions.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class RecordFilter {
+
+    private static final BString COLUMN = StringUtils.fromString("column");
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString VALUES = StringUtils.fromString("values");
+    private static final BString PREFIX = StringUtils.fromString("prefix");
+    private static final BString MIN = StringUtils.fromString("min");
+    private static final BString MAX = StringUtils.fromString("max");
+
+    private final int[] indices;
+    private final ColumnPredicate[] predicates;
+
+    private RecordFilter(int[] indices, ColumnPredicate[] predicates) {
+        this.indices = indices;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Resolves the columns of the given conditions against the header.
+     *
+     * @param headerNames the header names in the order of the columns.
+     * @param filters     the io:CsvFilter values.
+     * @return the record filter.
+     */
+    static RecordFilter of(List<String> headerNames, BArray filters) {
+        int count = filters.size();
+        int[] indices = new int[count];
+        ColumnPredicate[] predicates = new ColumnPredicate[count];
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> filter = (BMap<BString, Object>) filters.get(i);
+            String column = filter.getStringValue(COLUMN).getValue().trim();
+            indices[i] = headerNames.indexOf(column);
+            if (indices[i] < 0) {
+                throw IOUtils.createError(String.format("The csv file does not contain the column - %s.", column));
+            }
+            predicates[i] = compile(filter);
+        }
+        return new RecordFilter(indices, predicates);
+    }
+
+    private static ColumnPredicate compile(BMap<BString, Object> filter) {
+        if (filter.containsKey(VALUE)) {
+            String expected = filter.getStringValue(VALUE).getValue();
+            return expected::equals;
+        }
+        if (filter.containsKey(VALUES)) {
+            Set<String> expected = new HashSet<>(Arrays.asList(((BArray) filter.get(VALUES)).getStringArray()));
+            return expected::contains;
+        }
+        if (filter.containsKey(PREFIX)) {
+            String prefix = filter.getStringValue(PREFIX).getValue();
+            return value -> value.startsWith(prefix);
+        }
+        Object min = filter.get(MIN);
+        Object max = filter.get(MAX);
+        double lowerBound = min == null ? Double.NEGATIVE_INFINITY : (Double) min;
+        double upperBound = max == null ? Double.POSITIVE_INFINITY : (Double) max;
+        return value -> {
+            try {
+                double number = Double.parseDouble(value);
+                return number >= lowerBound && number <= upperBound;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Provides the columns which should be materialized in order to evaluate the conditions.
+     *
+     * @param mask specifies whether the column at each index is materialized.
+     * @return a copy of the mask, which includes the columns of the conditions.
+     */
+    boolean[] require(boolean[] mask) {
+        int length = mask.length;
+        for (int index : indices) {
+            length = Math.max(length, index + 1);
+        }
+        boolean[] required = Arrays.copyOf(mask, length);
+        for (int index : indices) {
+            required[index] = true;
+        }
+        return required;
+    }
+
+    /**
+     * Evaluates the conditions against the fields of a record.
+     *
+     * @param fields the fields of the CSV record.
+     * @return true if the record satisfies all the conditions.
+     */
+    boolean test(String[] fields) {
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+            String value = index < fields.length && fields[index] != null ? fields[index].trim() : "";
+            if (!predicates[i].test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates a condition against the value of a column.
+     */
+    @FunctionalInterface
+    private interface ColumnPredicate {
+
+        /**
+         * Evaluates the given value.
+         *
+         * @param value the value of the column without the leading and trailing whitespace.
+         * @return true if the value satisfies the condition.
+         */
+        boolean test(String value);
+    }
+}
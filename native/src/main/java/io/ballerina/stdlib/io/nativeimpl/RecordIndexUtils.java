@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.io.channels.BlobChannel;
+import io.ballerina.stdlib.io.channels.BlobIOChannel;
+import io.ballerina.stdlib.io.channels.FileRangeChannel;
+import io.ballerina.stdlib.io.channels.base.CharacterChannel;
+import io.ballerina.stdlib.io.channels.base.DelimitedRecordChannel;
+import io.ballerina.stdlib.io.csv.Format;
+import io.ballerina.stdlib.io.csv.RecordIndex;
+import io.ballerina.stdlib.io.readers.CharacterChannelReader;
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import io.ballerina.stdlib.io.utils.IOConstants;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class hold Java external functions for reading ranges of records through the record index.
+ *
+ * @since 1.8.1
+ */
+public final class RecordIndexUtils {
+
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+    private static final String LINES = "LINES";
+
+    private RecordIndexUtils() {
+    }
+
+    public static Object createIndex(Environment env, BString path, BString indexType, long stride, long parallelism) {
+        return IOExecutor.execute(env, () -> {
+            if (stride < 1 || stride > Integer.MAX_VALUE) {
+                return IOUtils.createError("The stride should be a positive integer, but found " + stride);
+            }
+            Path filePath = Paths.get(path.getValue());
+            try (FileChannel fileChannel = IOUtils.openFileChannelExtended(filePath, IOConstants.FileOpenOption.READ)) {
+                RecordIndex.create(filePath, fileChannel, !LINES.equals(indexType.getValue()), (int) stride,
+                        (int) Math.max(1, Math.min(parallelism, Integer.MAX_VALUE)));
+                return null;
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    public static Object fileReadCsvRange(Environment env, BString path, long fromRow, long count, BTypedesc typeDesc) {
+        return IOExecutor.execute(env, () -> {
+            Type describingType = TypeUtils.getReferredType(typeDesc.getDescribingType());
+            boolean isRecordType = describingType.getTag() == TypeTags.RECORD_TYPE_TAG;
+            if (!isRecordType && describingType.getTag() != TypeTags.ARRAY_TAG) {
+                return IOUtils.createError(String.format("Only 'string[]' and 'record{}' types are supported, " +
+                        "but found '%s' ", describingType.getName()));
+            }
+            if (count < 0) {
+                return IOUtils.createError("The count should not be negative, but found " + count);
+            }
+            Path filePath = Paths.get(path.getValue());
+            try (FileChannel fileChannel = IOUtils.openFileChannelExtended(filePath, IOConstants.FileOpenOption.READ)) {
+                RecordIndex index = RecordIndex.open(filePath, fileChannel, true, getParallelism());
+                //The first record is the header when the records are mapped to a record type
+                long firstRow = isRecordType ? 1 : 0;
+                RecordMappingPlan mappingPlan = null;
+                if (isRecordType && index.getRecordCount() > 0) {
+                    ArrayList<String> headerNames = ParallelCsvReader.readHeaders(fileChannel,
+                            index.getPosition(fileChannel, 1));
+                    if (null == headerNames) {
+                        return IOUtils.createError("The header of the csv file is too large");
+                    }
+                    RecordChannelUtils.validateHeaders(headerNames, (StructureType) describingType);
+                    mappingPlan = RecordMappingPlan.forHeaders((StructureType) describingType, headerNames);
+                }
+                long rows = Math.max(0, index.getRecordCount() - firstRow);
+                long from = getStart(fromRow, rows);
+                long numberOfRows = Math.min(rows - from, count);
+                List<Object> records = new ArrayList<>();
+                if (numberOfRows > 0) {
+                    CharacterChannel characterChannel = openRange(fileChannel, index.getPosition(fileChannel,
+                            firstRow + from));
+                    DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+                    for (long i = 0; i < numberOfRows && recordChannel.hasNext(); i++) {
+                        String[] record = recordChannel.read();
+                        if (null == mappingPlan) {
+                            records.add(StringUtils.fromStringArray(record));
+                            continue;
+                        }
+                        Object returnStruct = mappingPlan.map(record);
+                        if (returnStruct instanceof BError) {
+                            return returnStruct;
+                        }
+                        records.add(returnStruct);
+                    }
+                }
+                return ValueCreator.createArrayValue(records.toArray(), TypeCreator.createArrayType(describingType));
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    public static Object fileReadLinesRange(Environment env, BString path, long fromLine, long count) {
+        return IOExecutor.execute(env, () -> {
+            if (count < 0) {
+                return IOUtils.createError("The count should not be negative, but found " + count);
+            }
+            Path filePath = Paths.get(path.getValue());
+            try (FileChannel fileChannel = IOUtils.openFileChannelExtended(filePath, IOConstants.FileOpenOption.READ)) {
+                RecordIndex index = RecordIndex.open(filePath, fileChannel, false, getParallelism());
+                long from = getStart(fromLine, index.getRecordCount());
+                long numberOfLines = Math.min(index.getRecordCount() - from, count);
+                List<String> lines = new ArrayList<>();
+                if (numberOfLines > 0) {
+                    BufferedReader bufferedReader = new BufferedReader(new CharacterChannelReader(
+                            openRange(fileChannel, index.getPosition(fileChannel, from))));
+                    for (long i = 0; i < numberOfLines; i++) {
+                        String line = bufferedReader.readLine();
+                        if (null == line) {
+                            break;
+                        }
+                        lines.add(line);
+                    }
+                }
+                return StringUtils.fromStringArray(lines.toArray(new String[0]));
+            } catch (BallerinaIOException | IOException e) {
+                return IOUtils.createError(e);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    private static CharacterChannel openRange(FileChannel fileChannel, long position) throws IOException {
+        BlobIOChannel channel = new BlobIOChannel(new BlobChannel(new FileRangeChannel(fileChannel, position,
+                fileChannel.size())));
+        return new CharacterChannel(channel, ENCODING);
+    }
+
+    /**
+     * Resolves the first record of a range, a negative value is counted from the end.
+     */
+    private static long getStart(long from, long total) {
+        if (from < 0) {
+            return Math.max(0, total + from);
+        }
+        return Math.min(from, total);
+    }
+
+    private static int getParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.io.utils.IOUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Maps the fields of CSV records to Ballerina records.
+ * </p>
+ * <p>
+ * The record type is inspected once when the plan is compiled, each column is assigned with the key of the record
+ * field and a converter for the type of the field. Plans are cached per record type and column order, hence the
+ * records of a file are mapped without inspecting the type again.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+final class RecordMappingPlan {
+
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final Map<PlanKey, RecordMappingPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final Module module;
+    private final String typeName;
+    private final BString[] keys;
+    private final ColumnConverter[] converters;
+    private final boolean positional;
+
+    private RecordMappingPlan(Type recordType, BString[] keys, ColumnConverter[] converters, boolean positional) {
+        this.module = recordType.getPackage();
+        this.typeName = recordType.getName();
+        this.keys = keys;
+        this.converters = converters;
+        this.positional = positional;
+    }
+
+    /**
+     * Provides the plan which maps columns to record fields by the header names.
+     *
+     * @param structType  the record type.
+     * @param headerNames the header names in the order of the columns, a column with a null name is not mapped.
+     * @return the mapping plan.
+     */
+    static RecordMappingPlan forHeaders(StructureType structType, List<String> headerNames) {
+        return getPlan(new PlanKey(structType, new ArrayList<>(headerNames)));
+    }
+
+    /**
+     * Provides the plan which maps columns to record fields in the order which the fields are defined.
+     *
+     * @param structType the record type.
+     * @return the mapping plan.
+     */
+    static RecordMappingPlan forFieldOrder(StructureType structType) {
+        return getPlan(new PlanKey(structType, null));
+    }
+
+    private static RecordMappingPlan getPlan(PlanKey key) {
+        RecordMappingPlan plan = PLANS.get(key);
+        if (plan == null) {
+            if (PLANS.size() >= MAX_CACHED_PLANS) {
+                PLANS.clear();
+            }
+            plan = key.headerNames == null ? compile(key.structType) : compile(key.structType, key.headerNames);
+            PLANS.put(key, plan);
+        }
+        return plan;
+    }
+
+    private static RecordMappingPlan compile(StructureType structType, List<String> headerNames) {
+        Map<String, Field> structFields = structType.getFields();
+        int columns = headerNames.size();
+        BString[] keys = new BString[columns];
+        ColumnConverter[] converters = new ColumnConverter[columns];
+        for (int i = 0; i < columns; i++) {
+            if (headerNames.get(i) == null) {
+                continue;
+            }
+            Field field = structFields.get(headerNames.get(i));
+            keys[i] = StringUtils.fromString(field.getFieldName());
+            converters[i] = compileColumn(field);
+        }
+        return new RecordMappingPlan(structType, keys, converters, false);
+    }
+
+    private static RecordMappingPlan compile(StructureType structType) {
+        Map<String, Field> structFields = structType.getFields();
+        BString[] keys = new BString[structFields.size()];
+        ColumnConverter[] converters = new ColumnConverter[structFields.size()];
+        int i = 0;
+        for (Field field : structFields.values()) {
+            keys[i] = StringUtils.fromString(field.getFieldName());
+            converters[i] = compilePositionalColumn(field);
+            i++;
+        }
+        return new RecordMappingPlan(structType, keys, converters, true);
+    }
+
+    private static ColumnConverter compileColumn(Field field) {
+        String fieldName = field.getFieldName();
+        Type fieldType = TypeUtils.getReferredType(field.getFieldType());
+        if (fieldType.getTag() != TypeTags.UNION_TAG) {
+            ColumnConverter converter = compileConverter(fieldType.getTag(), fieldName);
+            return value -> isEmpty(value) ?
+                    IOUtils.createError("Field '" + fieldName + "' does not support nil value.") :
+                    converter.convert(value);
+        }
+        List<Type> members = ((UnionType) fieldType).getMemberTypes();
+        if (TypeUtils.getReferredType(members.get(1)).getTag() == TypeTags.NULL_TAG) {
+            ColumnConverter converter = compileConverter(TypeUtils.getReferredType(members.get(0)).getTag(),
+                    fieldName);
+            return value -> isEmpty(value) ? null : converter.convert(value);
+        }
+        return value -> isEmpty(value) ?
+                IOUtils.createError("Unsupported nillable field : " + fieldName) :
+                IOUtils.createError("Unsupported nillable field : " + fieldName + " for value: " + value);
+    }
+
+    private static ColumnConverter compilePositionalColumn(Field field) {
+        Type fieldType = TypeUtils.getReferredType(field.getFieldType());
+        int type = fieldType.getTag();
+        if (type == TypeTags.UNION_TAG) {
+            List<Type> members = ((UnionType) fieldType).getMemberTypes();
+            if (TypeUtils.getReferredType(members.get(0)).getTag() == TypeTags.NULL_TAG) {
+                type = TypeUtils.getReferredType(members.get(1)).getTag();
+            } else if (TypeUtils.getReferredType(members.get(1)).getTag() == TypeTags.NULL_TAG) {
+                type = TypeUtils.getReferredType(members.get(0)).getTag();
+            } else {
+                return value -> IOUtils.createError("unsupported nillable field for value: " + value);
+            }
+            if (!isSupported(type)) {
+                return value -> isEmpty(value) ? null : unsupportedPositionalValue(value);
+            }
+        } else if (!isSupported(type)) {
+            return RecordMappingPlan::unsupportedPositionalValue;
+        }
+        ColumnConverter converter = compileConverter(type, field.getFieldName());
+        return value -> isEmpty(value) ? null : converter.convert(value);
+    }
+
+    private static boolean isSupported(int type) {
+        return type == TypeTags.INT_TAG || type == TypeTags.FLOAT_TAG || type == TypeTags.DECIMAL_TAG ||
+                type == TypeTags.STRING_TAG || type == TypeTags.BOOLEAN_TAG;
+    }
+
+    private static BError unsupportedPositionalValue(String value) {
+        return IOUtils.createError("type casting support only for int, float, boolean and string. "
+                + "Invalid value for the struct field: " + value);
+    }
+
+    private static ColumnConverter compileConverter(int type, String fieldName) {
+        switch (type) {
+            case TypeTags.INT_TAG:
+                return numeric(fieldName, value -> Long.parseLong(value));
+            case TypeTags.FLOAT_TAG:
+                return numeric(fieldName, value -> Double.parseDouble(value));
+            case TypeTags.DECIMAL_TAG:
+                return numeric(fieldName, value -> ValueCreator.createDecimalValue(value));
+            case TypeTags.STRING_TAG:
+                return value -> StringUtils.fromString(value.trim());
+            case TypeTags.BOOLEAN_TAG:
+                return value -> Boolean.parseBoolean(value.trim());
+            default:
+                return value -> IOUtils.createError(
+                        "Data mapping support only for int, float, Decimal, boolean and string. "
+                                + "Unsupported value for the struct field: " + fieldName);
+        }
+    }
+
+    private static ColumnConverter numeric(String fieldName, ColumnConverter parser) {
+        return value -> {
+            String trimmedValue = value.trim();
+            try {
+                return parser.convert(trimmedValue);
+            } catch (NumberFormatException e) {
+                return IOUtils.createError("Invalid value: " + trimmedValue + " for the field: '" + fieldName + "'");
+            }
+        };
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * Maps the fields of a CSV record to a Ballerina record.
+     *
+     * @param fields the fields of the CSV record.
+     * @return the Ballerina record, an error if a field could not be converted or null if the record is empty and
+     * the columns are mapped by the field order.
+     */
+    Object map(String[] fields) {
+        if (fields.length == 0) {
+            return positional ? null : IOUtils.createError("Empty line detected");
+        }
+        BMap<BString, Object> record = ValueCreator.createRecordValue(module, typeName);
+        int columns = keys.length;
+        for (int i = 0; i < columns; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            if (i < fields.length) {
+                Object value = converters[i].convert(fields[i]);
+                if (value instanceof BError) {
+                    return value;
+                }
+                record.put(keys[i], value);
+            } else if (positional) {
+                record.put(keys[i], null);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Converts the value of a column to the type of the record field.
+     */
+    @FunctionalInterface
+    private interface ColumnConverter {
+
+        /**
+         * Converts the given value.
+         *
+         * @param value the value of the column.
+         * @return the converted value or an error.
+         */
+        Object convert(String value);
+    }
+
+    /**
+     * Identifies a plan by the identity of the record type and the order of the columns.
+     */
+    private static final class PlanKey {
+
+        private final StructureType structType;
+        private final List<String> headerNames;
+
+        private PlanKey(StructureType structType, List<String> headerNames) {
+            this.structType = structType;
+            this.headerNames = headerNames;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) o;
+            return structType == other.structType && (headerNames == null ? other.headerNames == null :
+                    headerNames.equals(other.headerNames));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(structType) + (headerNames == null ? 0 : headerNames.hashCode());
+        }
+    }
+}
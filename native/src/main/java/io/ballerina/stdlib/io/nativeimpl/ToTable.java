@@ -18,14 +18,12 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.StructureType;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -40,10 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Extern function ballerina/io#loadToTable.
@@ -58,24 +54,35 @@ public class ToTable {
     private ToTable() {
     }
 
-    public static Object toTable(BObject csvChannel, BTypedesc typedescValue, BArray key) {
-        try {
-            final BObject delimitedObj =
-                    (BObject) csvChannel.get(StringUtils.fromString(CSV_CHANNEL_DELIMITED_STRUCT_FIELD));
-            DelimitedRecordChannel delimitedChannel = (DelimitedRecordChannel) delimitedObj
-                    .getNativeData(IOConstants.TXT_RECORD_CHANNEL_NAME);
-            if (delimitedChannel.hasReachedEnd()) {
-                return IOUtils.createEoFError();
-            }
-            List<String[]> records = new ArrayList<>();
-            while (delimitedChannel.hasNext()) {
-                records.add(delimitedChannel.read());
+    public static Object toTable(Environment env, BObject csvChannel, BTypedesc typedescValue, BArray key) {
+        return IOExecutor.execute(env, () -> {
+            try {
+                final BObject delimitedObj =
+                        (BObject) csvChannel.get(StringUtils.fromString(CSV_CHANNEL_DELIMITED_STRUCT_FIELD));
+                DelimitedRecordChannel delimitedChannel = (DelimitedRecordChannel) delimitedObj
+                        .getNativeData(IOConstants.TXT_RECORD_CHANNEL_NAME);
+                if (delimitedChannel.hasReachedEnd()) {
+                    return IOUtils.createEoFError();
+                }
+                //Columns are mapped to the fields in order, hence the columns beyond the fields are not materialized
+                int fieldCount = ((StructureType) typedescValue.getDescribingType()).getFields().size();
+                boolean[] projection = new boolean[fieldCount];
+                Arrays.fill(projection, true);
+                List<String[]> records = new ArrayList<>();
+                delimitedChannel.setProjection(projection);
+                try {
+                    while (delimitedChannel.hasNext()) {
+                        records.add(delimitedChannel.read());
+                    }
+                } finally {
+                    delimitedChannel.setProjection(null);
+                }
+                return toTable(typedescValue, key, records);
+            } catch (BallerinaIOException | BError e) {
+                String msg = "failed to process the delimited file: " + e.getMessage();
+                return IOUtils.createError(msg);
             }
-            return toTable(typedescValue, key, records);
-        } catch (BallerinaIOException | BError e) {
-            String msg = "failed to process the delimited file: " + e.getMessage();
-            return IOUtils.createError(msg);
-        }
+        });
     }
 
     private static BTable toTable(BTypedesc typedescValue, BArray key, List<String[]> records) {
@@ -87,86 +94,16 @@ public class ToTable {
             newTableType = TypeCreator.createTableType(describingType, key.getStringArray(), false);
         }
         BTable table = ValueCreator.createTableValue(newTableType);
-        StructureType structType = (StructureType) describingType;
+        RecordMappingPlan mappingPlan = RecordMappingPlan.forFieldOrder((StructureType) describingType);
         for (String[] fields : records) {
-            final Map<String, Object> struct = getStruct(fields, structType);
+            final Object struct = mappingPlan.map(fields);
+            if (struct instanceof BError) {
+                throw (BError) struct;
+            }
             if (struct != null) {
-                table.add(ValueCreator.createRecordValue(describingType.getPackage(), describingType.getName(),
-                        struct));
+                table.add(struct);
             }
         }
         return table;
     }
-
-    private static Map<String, Object> getStruct(String[] fields, final StructureType structType) {
-        Map<String, Field> internalStructFields = structType.getFields();
-        int fieldLength = internalStructFields.size();
-        Map<String, Object> struct = null;
-        if (fields.length > 0) {
-            Iterator<Map.Entry<String, Field>> itr = internalStructFields.entrySet().iterator();
-            struct = new HashMap<>();
-            for (int i = 0; i < fieldLength; i++) {
-                final Field internalStructField = itr.next().getValue();
-                final int type = internalStructField.getFieldType().getTag();
-                String fieldName = internalStructField.getFieldName();
-                if (fields.length > i) {
-                    String value = fields[i];
-                    switch (type) {
-                        case TypeTags.INT_TAG:
-                        case TypeTags.FLOAT_TAG:
-                        case TypeTags.STRING_TAG:
-                        case TypeTags.DECIMAL_TAG:    
-                        case TypeTags.BOOLEAN_TAG:
-                            populateRecord(type, struct, fieldName, value);
-                            break;
-                        case TypeTags.UNION_TAG:
-                            List<Type> members = ((UnionType) internalStructField.getFieldType()).getMemberTypes();
-                            if (members.get(0).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(1).getTag(), struct, fieldName, value);
-                            } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(0).getTag(), struct, fieldName, value);
-                            } else {
-                                throw IOUtils.createError("unsupported nillable field for value: " + value);
-                            }
-                            break;
-                        default:
-                            throw IOUtils.createError(
-                                    "type casting support only for int, float, boolean and string. "
-                                            + "Invalid value for the struct field: " + value);
-                    }
-                } else {
-                    struct.put(fieldName, null);
-                }
-            }
-        }
-        return struct;
-    }
-
-    private static void populateRecord(int type, Map<String, Object> struct, String fieldName, String value) {
-        if (value == null || value.isEmpty()) {
-            struct.put(fieldName, null);
-        } else {
-            String trimmedValue = value.trim();
-            switch (type) {
-                case TypeTags.INT_TAG:
-                    struct.put(fieldName, Long.parseLong(trimmedValue));
-                    return;
-                case TypeTags.FLOAT_TAG:
-                    struct.put(fieldName, Double.parseDouble(trimmedValue));
-                    break;
-                case TypeTags.DECIMAL_TAG:
-                    struct.put(fieldName, ValueCreator.createDecimalValue(trimmedValue));
-                    break;
-                case TypeTags.STRING_TAG:
-                    struct.put(fieldName, trimmedValue);
-                    break;
-                case TypeTags.BOOLEAN_TAG:
-                    struct.put(fieldName, Boolean.parseBoolean(trimmedValue));
-                    break;
-                default:
-                    throw IOUtils.createError("type casting support only for int, float, boolean and string. "
-                        + "Invalid value for the struct field: " + value);
-                }
-            }
-        }
 }
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.stdlib.io.channels.base.CharacterChannel;
@@ -34,14 +35,16 @@ public final class WriteXml {
 
     private WriteXml() {}
 
-    public static Object writeXml(BObject characterChannelObj, BXml content) {
-        try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj.getNativeData(
-                    IOConstants.CHARACTER_CHANNEL_NAME);
-            IOUtils.writeFull(characterChannel, content.toString());
-        } catch (BallerinaIOException e) {
-            return IOUtils.createError(e);
-        }
-        return null;
+    public static Object writeXml(Environment env, BObject characterChannelObj, BXml content) {
+        return IOExecutor.execute(env, () -> {
+            try {
+                CharacterChannel characterChannel = (CharacterChannel) characterChannelObj.getNativeData(
+                        IOConstants.CHARACTER_CHANNEL_NAME);
+                IOUtils.writeFull(characterChannel, content.toString());
+            } catch (BallerinaIOException e) {
+                return IOUtils.createError(e);
+            }
+            return null;
+        });
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * <p>
+ * Encodes the content of a stream using the Base64 encoding scheme as the stream is read.
+ * </p>
+ * <p>
+ * The content is encoded in chunks, which are multiples of three bytes and of the line length of the MIME variant,
+ * hence the chunks are encoded without padding and line breaks are placed as if the content is encoded at once. The
+ * chunk buffers are reused, hence the memory used does not depend on the size of the content.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public class Base64EncodingInputStream extends InputStream {
+
+    /**
+     * The number of bytes of the content, which are encoded at once.
+     */
+    static final int CHUNK_SIZE = 57 * 144;
+
+    private static final int MIME_LINE_LENGTH = 76;
+    private static final byte[] LINE_SEPARATOR = {'\r', '\n'};
+
+    private final InputStream source;
+    private final Base64.Encoder encoder;
+    private final boolean isMimeSpecific;
+    private final byte[] input = new byte[CHUNK_SIZE];
+    private final byte[] output;
+    private int position;
+    private int limit;
+    private int separatorPosition = LINE_SEPARATOR.length;
+    private boolean started;
+    private boolean ended;
+
+    /**
+     * Creates a stream which encodes the content of the given stream.
+     *
+     * @param source         the stream which provides the content.
+     * @param isMimeSpecific a boolean indicating whether the encoder should be mime specific or not.
+     */
+    public Base64EncodingInputStream(InputStream source, boolean isMimeSpecific) {
+        this.source = source;
+        this.isMimeSpecific = isMimeSpecific;
+        this.encoder = isMimeSpecific ? Base64.getMimeEncoder() : Base64.getEncoder();
+        int encodedSize = CHUNK_SIZE / 3 * 4;
+        if (isMimeSpecific) {
+            encodedSize += (encodedSize / MIME_LINE_LENGTH - 1) * LINE_SEPARATOR.length;
+        }
+        this.output = new byte[encodedSize];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        if (separatorPosition < LINE_SEPARATOR.length) {
+            return LINE_SEPARATOR[separatorPosition++];
+        }
+        return output[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len && ensureAvailable()) {
+            if (separatorPosition < LINE_SEPARATOR.length) {
+                b[off + total++] = LINE_SEPARATOR[separatorPosition++];
+                continue;
+            }
+            int count = Math.min(len - total, limit - position);
+            System.arraycopy(output, position, b, off + total, count);
+            position += count;
+            total += count;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    /**
+     * Encodes the next chunk of the content once the encoded bytes of the current chunk have been read.
+     *
+     * @return false if the whole content has been read.
+     */
+    private boolean ensureAvailable() throws IOException {
+        if (separatorPosition < LINE_SEPARATOR.length || position < limit) {
+            return true;
+        }
+        if (ended) {
+            return false;
+        }
+        int length = source.readNBytes(input, 0, CHUNK_SIZE);
+        if (length < CHUNK_SIZE) {
+            ended = true;
+            if (length == 0) {
+                return false;
+            }
+        }
+        limit = encoder.encode(length == CHUNK_SIZE ? input : Arrays.copyOf(input, length), output);
+        position = 0;
+        if (isMimeSpecific && started) {
+            //The line of the previous chunk is complete, hence it is separated from the line of this chunk
+            separatorPosition = 0;
+        }
+        started = true;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+}
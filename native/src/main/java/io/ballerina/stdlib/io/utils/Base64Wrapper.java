@@ -33,7 +33,7 @@ public class Base64Wrapper extends Channel {
     }
 
     @Override
-    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
         //For the time being not applicable
         throw new UnsupportedOperationException();
     }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.utils;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * <p>
+ * Computes a checksum or a message digest of content, which is provided in parts.
+ * </p>
+ * <p>
+ * Checksums are given as four bytes in the big-endian order, hence all the algorithms provide the value as bytes.
+ * </p>
+ *
+ * @since 1.8.1
+ */
+public abstract class ContentDigest {
+
+    /**
+     * Creates a digest for the given algorithm.
+     *
+     * @param algorithm the name of the algorithm, one of CRC32, CRC32C, MD5, SHA1, SHA256 and SHA512.
+     * @return the digest.
+     * @throws BallerinaIOException if the algorithm is not supported.
+     */
+    public static ContentDigest of(String algorithm) throws BallerinaIOException {
+        switch (algorithm) {
+            case "CRC32":
+                return new ChecksumDigest(new CRC32());
+            case "CRC32C":
+                return new ChecksumDigest(new CRC32C());
+            case "MD5":
+                return MessageDigestWrapper.create("MD5");
+            case "SHA1":
+                return MessageDigestWrapper.create("SHA-1");
+            case "SHA256":
+                return MessageDigestWrapper.create("SHA-256");
+            case "SHA512":
+                return MessageDigestWrapper.create("SHA-512");
+            default:
+                throw new BallerinaIOException("Unsupported checksum algorithm: " + algorithm);
+        }
+    }
+
+    /**
+     * Updates the digest with the remaining bytes of the buffer, the position of the buffer is moved to its limit.
+     *
+     * @param content the buffer which holds the content.
+     */
+    public abstract void update(ByteBuffer content);
+
+    /**
+     * Provides the digest of the content provided so far, the digest could be updated further.
+     *
+     * @return the value of the digest.
+     */
+    public abstract byte[] value();
+
+    private static final class ChecksumDigest extends ContentDigest {
+
+        private final Checksum checksum;
+
+        private ChecksumDigest(Checksum checksum) {
+            this.checksum = checksum;
+        }
+
+        @Override
+        public void update(ByteBuffer content) {
+            checksum.update(content);
+        }
+
+        @Override
+        public byte[] value() {
+            return ByteBuffer.allocate(Integer.BYTES).putInt((int) checksum.getValue()).array();
+        }
+    }
+
+    private static final class MessageDigestWrapper extends ContentDigest {
+
+        private final MessageDigest messageDigest;
+
+        private MessageDigestWrapper(MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+        }
+
+        private static MessageDigestWrapper create(String algorithm) throws BallerinaIOException {
+            try {
+                return new MessageDigestWrapper(MessageDigest.getInstance(algorithm));
+            } catch (NoSuchAlgorithmException e) {
+                throw new BallerinaIOException("Unsupported checksum algorithm: " + algorithm, e);
+            }
+        }
+
+        @Override
+        public void update(ByteBuffer content) {
+            messageDigest.update(content);
+        }
+
+        @Override
+        public byte[] value() {
+            try {
+                //The digest is computed on a copy, since computing it resets the digest
+                return ((MessageDigest) messageDigest.clone()).digest();
+            } catch (CloneNotSupportedException e) {
+                throw new UnsupportedOperationException("The digest could not be computed while the content is " +
+                        "being provided", e);
+            }
+        }
+    }
+}
@@ -58,10 +58,34 @@ public final class IOConstants {
     public static final String CSV_RETURN_TYPE = "csv_return_type";
 
     /**
-     * The order of the csv file which will be represented through native struct.
+     * The plan which maps the csv records to Ballerina records, represented through native struct.
      */
+    public static final String RECORD_MAPPING_PLAN = "record_mapping_plan";
 
-    public static final String HEADER_NAMES = "header_names";
+    /**
+     * The codec which reads the binary records of a file, represented through native struct.
+     */
+    public static final String BINARY_RECORD_CODEC = "binary_record_codec";
+
+    /**
+     * The names of the columns which should be read from the csv file, represented through native struct.
+     */
+    public static final String CSV_COLUMNS = "csv_columns";
+
+    /**
+     * The projection of the requested csv columns, represented through native struct.
+     */
+    public static final String CSV_COLUMN_PROJECTION = "csv_column_projection";
+
+    /**
+     * The conditions which the csv records should satisfy in order to be read, represented through native struct.
+     */
+    public static final String CSV_FILTERS = "csv_filters";
+
+    /**
+     * The filter which selects the csv records, represented through native struct.
+     */
+    public static final String CSV_RECORD_FILTER = "csv_record_filter";
 
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
@@ -108,6 +132,11 @@ public final class IOConstants {
      */
     public static final String CSV_ITERATOR = "CsvIterator";
 
+    /**
+     * Object name for binary record iterator.
+     */
+    public static final String BINARY_RECORD_ITERATOR = "BinaryRecordIterator";
+
     /**
      * Specifies the error code for i/o.
      */
@@ -137,4 +166,22 @@ public final class IOConstants {
         OVERWRITE,
         APPEND
     }
+
+    /**
+     * File reading modes.
+     */
+    public enum FileReadMode {
+        STANDARD,
+        MEMORY_MAPPED
+    }
+
+    /**
+     * Compression formats of files.
+     */
+    public enum Compression {
+        NONE,
+        AUTO,
+        GZIP,
+        DEFLATE
+    }
 }
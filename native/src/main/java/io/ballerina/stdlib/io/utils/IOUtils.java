@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
@@ -202,6 +203,75 @@ public class IOUtils {
         }
     }
 
+    /**
+     * <p>
+     * Transfers a range of a file to a channel.
+     * </p>
+     * <p>
+     * A single transfer of the operating system could be smaller than the range, hence this transfers until the
+     * range or the file ends.
+     * </p>
+     *
+     * @param source      the file which should be transferred.
+     * @param position    the position of the first byte of the range.
+     * @param count       the number of bytes of the range.
+     * @param destination the channel the bytes should be transferred to.
+     * @return the number of bytes transferred.
+     * @throws IOException errors which occur during execution.
+     */
+    public static long transferFull(FileChannel source, long position, long count, WritableByteChannel destination)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long nBytesTransferred = source.transferTo(position + transferred, count - transferred, destination);
+            if (nBytesTransferred <= 0) {
+                break;
+            }
+            transferred += nBytesTransferred;
+        }
+        return transferred;
+    }
+
+    /**
+     * Reads a file from the given position into the buffer through positional reads, which do not change the position
+     * of the file.
+     *
+     * @param source   the file which should be read.
+     * @param position the position of the first byte which should be read.
+     * @param buffer   the buffer which will hold the content, it is filled unless the file ends.
+     * @return the number of bytes read, -1 if the position is at or after the end of the file.
+     * @throws IOException errors which occur during execution.
+     */
+    public static int readFullAt(FileChannel source, long position, ByteBuffer buffer) throws IOException {
+        int numberOfBytesRead = 0;
+        while (buffer.hasRemaining()) {
+            int nBytesRead = source.read(buffer, position + numberOfBytesRead);
+            if (nBytesRead < 0) {
+                return numberOfBytesRead == 0 ? -1 : numberOfBytesRead;
+            }
+            numberOfBytesRead += nBytesRead;
+        }
+        return numberOfBytesRead;
+    }
+
+    /**
+     * Writes the whole buffer to a file at the given position through positional writes, which do not change the
+     * position of the file.
+     *
+     * @param destination the file the content should be written to.
+     * @param position    the position the first byte should be written at.
+     * @param content     the buffer which holds the content.
+     * @return the number of bytes written.
+     * @throws IOException errors which occur during execution.
+     */
+    public static int writeFullAt(FileChannel destination, long position, ByteBuffer content) throws IOException {
+        int numberOfBytesWritten = 0;
+        while (content.hasRemaining()) {
+            numberOfBytesWritten += destination.write(content, position + numberOfBytesWritten);
+        }
+        return numberOfBytesWritten;
+    }
+
     /**
      * Creates a directory at the specified path.
      *
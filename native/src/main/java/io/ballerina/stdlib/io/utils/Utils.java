@@ -27,10 +27,11 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.io.channels.base.Channel;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -52,6 +53,7 @@ public class Utils {
     private static final String STRUCT_TYPE = "ReadableByteChannel";
     private static final String ENCODING_ERROR = "EncodeError";
     private static final String DECODING_ERROR = "DecodeError";
+    private static final byte[] NO_BYTES = new byte[0];
 
 
     private static BError createBase64Error(String errorType, String msg, boolean isMimeSpecific) {
@@ -62,20 +64,28 @@ public class Utils {
     }
 
     /**
-     * Given an input stream, get a byte array.
+     * Given a byte channel, get the stream of the content which has not been read yet.
      *
-     * @param input Represent an input stream
-     * @return A byte array
-     * @throws IOException In case an error occurs while reading input stream
+     * @param byteChannel Represent the byte channel
+     * @return An input stream, which is buffered
+     * @throws IOException In case the channel is closed
      */
-    private static byte[] getByteArray(InputStream input) throws IOException {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[READABLE_BUFFER_SIZE];
-            for (int len; (len = input.read(buffer)) != -1; ) {
-                output.write(buffer, 0, len);
-            }
-            return output.toByteArray();
+    private static InputStream getInputStream(BObject byteChannel) throws IOException {
+        Channel channel = (Channel) byteChannel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        Object bufferedStream = byteChannel.getNativeData(IOConstants.BUFFERED_INPUT_STREAM_ENTRY);
+        if (bufferedStream instanceof InputStream && channel.getByteChannel().isOpen()) {
+            //The bytes which have been read ahead precede the bytes remaining in the channel
+            return (InputStream) bufferedStream;
+        }
+        return new BufferedInputStream(channel.getInputStream(), READABLE_BUFFER_SIZE);
+    }
+
+    private static InputStream getInputStream(BObject byteChannel, byte[] preceding) throws IOException {
+        InputStream inputStream = getInputStream(byteChannel);
+        if (preceding.length == 0) {
+            return inputStream;
         }
+        return new SequenceInputStream(new ByteArrayInputStream(preceding), inputStream);
     }
 
 
@@ -175,23 +185,30 @@ public class Utils {
     }
 
     /**
-     * Encode a given byte channel using Base64 encoding scheme.
+     * Encode a given byte channel using Base64 encoding scheme. The content is encoded as the returned channel is
+     * read and closing the returned channel closes the given channel.
      *
      * @param byteChannel    Represent the byte channel that needs to be encoded
      * @param isMimeSpecific A boolean indicating whether the encoder should be mime specific or not
      * @return encoded ReadableByteChannel or an error
      */
     public static Object encodeByteChannel(BObject byteChannel, boolean isMimeSpecific) {
-        Channel channel = (Channel) byteChannel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        return encodeByteChannel(byteChannel, NO_BYTES, isMimeSpecific);
+    }
+
+    /**
+     * Encode the given bytes followed by the content of a given byte channel using Base64 encoding scheme.
+     *
+     * @param byteChannel    Represent the byte channel that needs to be encoded
+     * @param preceding      The bytes which were taken from the channel ahead, hence precede its remaining content
+     * @param isMimeSpecific A boolean indicating whether the encoder should be mime specific or not
+     * @return encoded ReadableByteChannel or an error
+     */
+    public static Object encodeByteChannel(BObject byteChannel, byte[] preceding, boolean isMimeSpecific) {
         BObject byteChannelObj;
         try {
-            byte[] encodedByteArray;
-            if (isMimeSpecific) {
-                encodedByteArray = Base64.getMimeEncoder().encode(Utils.getByteArray(channel.getInputStream()));
-            } else {
-                encodedByteArray = Base64.getEncoder().encode(Utils.getByteArray(channel.getInputStream()));
-            }
-            InputStream encodedStream = new ByteArrayInputStream(encodedByteArray);
+            InputStream encodedStream = new Base64EncodingInputStream(getInputStream(byteChannel, preceding),
+                    isMimeSpecific);
             Base64ByteChannel decodedByteChannel = new Base64ByteChannel(encodedStream);
             byteChannelObj = ValueCreator.createObjectValue(getIOPackage(), STRUCT_TYPE);
             byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, new Base64Wrapper(decodedByteChannel));
@@ -202,23 +219,30 @@ public class Utils {
     }
 
     /**
-     * Decode a given byte channel using Base64 encoding scheme.
+     * Decode a given byte channel using Base64 encoding scheme. The content is decoded as the returned channel is
+     * read, hence invalid content is reported by the reads, and closing the returned channel closes the given channel.
      *
      * @param byteChannel    Represent the byte channel that needs to be decoded
      * @param isMimeSpecific A boolean indicating whether the encoder should be mime specific or not
      * @return decoded ReadableByteChannel or an error
      */
     public static Object decodeByteChannel(BObject byteChannel, boolean isMimeSpecific) {
-        Channel channel = (Channel) byteChannel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        return decodeByteChannel(byteChannel, NO_BYTES, isMimeSpecific);
+    }
+
+    /**
+     * Decode the given bytes followed by the content of a given byte channel using Base64 encoding scheme.
+     *
+     * @param byteChannel    Represent the byte channel that needs to be decoded
+     * @param preceding      The bytes which were taken from the channel ahead, hence precede its remaining content
+     * @param isMimeSpecific A boolean indicating whether the encoder should be mime specific or not
+     * @return decoded ReadableByteChannel or an error
+     */
+    public static Object decodeByteChannel(BObject byteChannel, byte[] preceding, boolean isMimeSpecific) {
         BObject byteChannelObj;
-        byte[] decodedByteArray;
         try {
-            if (isMimeSpecific) {
-                decodedByteArray = Base64.getMimeDecoder().decode(Utils.getByteArray(channel.getInputStream()));
-            } else {
-                decodedByteArray = Base64.getDecoder().decode(Utils.getByteArray(channel.getInputStream()));
-            }
-            InputStream decodedStream = new ByteArrayInputStream(decodedByteArray);
+            Base64.Decoder decoder = isMimeSpecific ? Base64.getMimeDecoder() : Base64.getDecoder();
+            InputStream decodedStream = decoder.wrap(getInputStream(byteChannel, preceding));
             Base64ByteChannel decodedByteChannel = new Base64ByteChannel(decodedStream);
             byteChannelObj = ValueCreator.createObjectValue(getIOPackage(), STRUCT_TYPE);
             byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, new Base64Wrapper(decodedByteChannel));
@@ -37,7 +37,7 @@ public class MockByteChannel extends Channel {
      * {@inheritDoc}
      */
     @Override
-    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+    public long transfer(long position, long count, WritableByteChannel dstChannel) {
         throw new UnsupportedOperationException();
     }
 
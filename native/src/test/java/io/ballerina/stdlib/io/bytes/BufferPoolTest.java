@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.bytes;
+
+import io.ballerina.stdlib.io.channels.base.BufferPool;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The unit test of the buffer pool.
+ */
+public class BufferPoolTest {
+
+    @Test(description = "Test reusing a released buffer")
+    public void reuseReleasedBuffer() {
+        BufferPool pool = new BufferPool(false, BufferPool.DEFAULT_MAX_RETAINED_BYTES);
+        ByteBuffer buffer = pool.acquire(1000);
+        Assert.assertEquals(buffer.capacity(), 1024);
+        Assert.assertEquals(buffer.limit(), 1000);
+        Assert.assertEquals(pool.getMisses(), 1);
+        pool.release(buffer);
+        Assert.assertEquals(pool.getRetainedBytes(), 1024);
+
+        ByteBuffer reused = pool.acquire(600);
+        Assert.assertSame(reused, buffer);
+        Assert.assertEquals(reused.position(), 0);
+        Assert.assertEquals(reused.limit(), 600);
+        Assert.assertEquals(pool.getHits(), 1);
+        Assert.assertEquals(pool.getRetainedBytes(), 0);
+
+        //A buffer of a different size class is allocated
+        Assert.assertNotSame(pool.acquire(100), buffer);
+        Assert.assertEquals(pool.getMisses(), 2);
+    }
+
+    @Test(description = "Test the bound of the retained memory")
+    public void boundRetainedBytes() {
+        BufferPool pool = new BufferPool(false, 2048);
+        ByteBuffer first = pool.acquire(1024);
+        ByteBuffer second = pool.acquire(1024);
+        ByteBuffer third = pool.acquire(1024);
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        Assert.assertEquals(pool.getRetainedBytes(), 2048);
+    }
+
+    @Test(description = "Test ignoring buffers, which do not belong to the pool")
+    public void ignoreForeignBuffers() {
+        BufferPool pool = new BufferPool(true, BufferPool.DEFAULT_MAX_RETAINED_BYTES);
+        pool.release(ByteBuffer.allocate(1024));
+        pool.release(ByteBuffer.allocateDirect(1000));
+        pool.release(null);
+        Assert.assertEquals(pool.getRetainedBytes(), 0);
+
+        ByteBuffer large = pool.acquire(BufferPool.MAX_POOLED_SIZE + 1);
+        Assert.assertTrue(large.isDirect());
+        Assert.assertEquals(large.capacity(), BufferPool.MAX_POOLED_SIZE + 1);
+        pool.release(large);
+        Assert.assertEquals(pool.getRetainedBytes(), 0);
+    }
+
+    @Test(description = "Test sharing buffers between threads")
+    public void shareBuffersBetweenThreads() throws ExecutionException, InterruptedException {
+        BufferPool pool = new BufferPool(false, BufferPool.DEFAULT_MAX_RETAINED_BYTES);
+        ByteBuffer[] buffers = new ByteBuffer[4];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = pool.acquire(4096);
+        }
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        ByteBuffer shared = CompletableFuture.supplyAsync(() -> pool.acquire(4096)).get();
+        Assert.assertEquals(pool.getHits(), 1);
+        Assert.assertTrue(Arrays.asList(buffers).contains(shared));
+        Assert.assertEquals(pool.getRetainedBytes(), 3 * 4096);
+    }
+
+    @Test(description = "Test releasing buffers on virtual threads other than the ones which acquired them")
+    public void releaseOnOtherVirtualThreads() throws ExecutionException, InterruptedException {
+        BufferPool pool = new BufferPool(false, 2 * 65536);
+        int rounds = 100;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < rounds; i++) {
+                ByteBuffer readBuffer = executor.submit(() -> pool.acquire(65536)).get();
+                ByteBuffer writeBuffer = executor.submit(() -> pool.acquire(65536)).get();
+                executor.submit(() -> {
+                    pool.release(readBuffer);
+                    pool.release(writeBuffer);
+                }).get();
+                Assert.assertEquals(pool.getRetainedBytes(), 2 * 65536);
+            }
+        }
+        //Only the first round allocates, the buffers released by the other threads serve the rest of the rounds
+        Assert.assertEquals(pool.getMisses(), 2);
+        Assert.assertEquals(pool.getHits(), 2 * (rounds - 1));
+    }
+}
@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 /**
@@ -86,6 +87,12 @@ public class BytesInputOutputBufferTest {
         return new ReadByteResult(content, numberOfBytesRead);
     }
 
+    private String toString(ByteBuffer buffer) {
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
     /**
      * Writes the content to the given channel.
      *
@@ -175,6 +182,25 @@ public class BytesInputOutputBufferTest {
         buffer.reverse(2);
     }
 
+    @Test(description = "Get bytes through the buffer without re-allocating it")
+    public void getBytesThroughBuffer() throws IOException, URISyntaxException, BallerinaIOException {
+        //Content of the file would be 123456
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/text/charfile.txt");
+        Channel channel = new MockByteChannel(byteChannel);
+        Buffer buffer = new Buffer(4);
+        ByteBuffer first = buffer.get(3, channel);
+        Assert.assertEquals(toString(first), "123");
+        buffer.reverse(1);
+        ByteBuffer second = buffer.get(3, channel);
+        Assert.assertEquals(toString(second), "345");
+        Assert.assertSame(second.array(), first.array());
+        ByteBuffer third = buffer.get(3, channel);
+        Assert.assertEquals(toString(third), "6");
+        Assert.assertSame(third.array(), first.array());
+        Assert.assertFalse(buffer.get(3, channel).hasRemaining());
+        channel.close();
+    }
+
     @Test(description = "Copy I/O byte file as a stream")
     public void fileStreamCopyTest() throws IOException, URISyntaxException {
         final int readLimit = 10000;
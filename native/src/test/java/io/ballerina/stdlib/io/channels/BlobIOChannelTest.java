@@ -24,8 +24,12 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 /**
  * The unit test of the BlobIOChannel class.
@@ -52,6 +56,30 @@ public class BlobIOChannelTest {
         blobIoChannel.transfer(0, 5, writeByteChannel);
     }
 
+    @Test(description = "Test transferring the content of BlobIOChannel through a buffer")
+    public void transferTo() throws IOException, URISyntaxException {
+
+        String resourceFilePath = "datafiles/io/text/charfile.txt";
+        String destinationFilePath = currentDirectoryPath + "blobIoChannel2.txt";
+        ByteChannel readByteChannel = TestUtil.openForReading(resourceFilePath);
+        ByteChannel writeByteChannel = TestUtil.openForReadingAndWriting(destinationFilePath);
+        BlobIOChannel blobIoChannel = new BlobIOChannel(new BlobChannel((ReadableByteChannel) readByteChannel));
+
+        Assert.assertEquals(blobIoChannel.transferTo(writeByteChannel), 6);
+        Assert.assertTrue(blobIoChannel.hasReachedEnd());
+        writeByteChannel.close();
+        Assert.assertEquals(Files.readString(Paths.get(destinationFilePath), StandardCharsets.UTF_8), "123456");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void readAt() throws IOException, URISyntaxException {
+
+        String resourceFilePath = "datafiles/io/text/charfile.txt";
+        ByteChannel readByteChannel = TestUtil.openForReading(resourceFilePath);
+        BlobIOChannel blobIoChannel = new BlobIOChannel(new BlobChannel((ReadableByteChannel) readByteChannel));
+        blobIoChannel.readAt(0, ByteBuffer.allocate(1));
+    }
+
     @Test(expectedExceptions = UnsupportedOperationException.class)
     public void getChannel() throws IOException, URISyntaxException {
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The unit test of coalescing the writes to a channel.
+ */
+public class CoalescingByteChannelTest {
+
+    @Test(description = "Test staging small writes until the flush threshold")
+    public void coalesceSmallWrites() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CoalescingByteChannel channel = new CoalescingByteChannel(Channels.newChannel(output), 16);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(channel.write(ByteBuffer.wrap(new byte[]{(byte) i, (byte) i})), 2);
+        }
+        //The staged bytes are written with the write which does not fit
+        Assert.assertEquals(output.size(), 16);
+        channel.close();
+        Assert.assertEquals(output.size(), 20);
+        Assert.assertEquals(channel.getWriteCount(), 10);
+        Assert.assertEquals(channel.getSystemWriteCount(), 3);
+        Assert.assertEquals(channel.getSavedWriteCount(), 7);
+    }
+
+    @Test(description = "Test writing the staged bytes and a large write through a single gathering write")
+    public void gatherLargeWrite() throws IOException {
+        Path path = Files.createTempFile("coalescing", ".txt");
+        try {
+            FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.WRITE);
+            CoalescingByteChannel channel = new CoalescingByteChannel(fileChannel, 8);
+            channel.write(ByteBuffer.wrap("Sheldon".getBytes(StandardCharsets.UTF_8)));
+            channel.write(ByteBuffer.wrap(" Lee Cooper".getBytes(StandardCharsets.UTF_8)));
+            Assert.assertEquals(channel.getSystemWriteCount(), 1);
+            Assert.assertEquals(Files.readString(path), "Sheldon Lee Cooper");
+
+            channel.write(ByteBuffer.wrap("!".getBytes(StandardCharsets.UTF_8)));
+            channel.flush();
+            Assert.assertEquals(Files.readString(path), "Sheldon Lee Cooper!");
+            channel.close();
+            Assert.assertFalse(fileChannel.isOpen());
+            Assert.assertEquals(channel.getSystemWriteCount(), 2);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(description = "Test capping the bytes which are staged for a large flush threshold")
+    public void capFlushThreshold() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CoalescingByteChannel channel = new CoalescingByteChannel(Channels.newChannel(output), Integer.MAX_VALUE);
+        byte[] block = new byte[1024];
+        for (int i = 1; i < CoalescingByteChannel.MAX_FLUSH_THRESHOLD / block.length; i++) {
+            channel.write(ByteBuffer.wrap(block));
+        }
+        Assert.assertEquals(output.size(), 0);
+        //The staged bytes are written once the capped threshold is reached
+        channel.write(ByteBuffer.wrap(block));
+        Assert.assertEquals(output.size(), CoalescingByteChannel.MAX_FLUSH_THRESHOLD);
+        channel.close();
+    }
+
+    @Test(expectedExceptions = ClosedChannelException.class)
+    public void writeAfterClose() throws IOException {
+        CoalescingByteChannel channel = new CoalescingByteChannel(Channels.newChannel(new ByteArrayOutputStream()),
+                16);
+        channel.close();
+        channel.write(ByteBuffer.allocate(1));
+    }
+}
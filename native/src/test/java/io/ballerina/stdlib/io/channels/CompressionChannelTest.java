@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.CharacterChannel;
+import io.ballerina.stdlib.io.channels.base.DelimitedRecordChannel;
+import io.ballerina.stdlib.io.csv.Format;
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import io.ballerina.stdlib.io.utils.IOConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * The unit test of the channels which compress and decompress content.
+ */
+public class CompressionChannelTest {
+
+    @Test(description = "Test decompressing content written through a GZIP output stream")
+    public void inflateGzip() throws IOException {
+        byte[] content = createContent(100000);
+        byte[] decompressed = inflate(gzip(content), true, 1000);
+        Assert.assertEquals(decompressed, content);
+    }
+
+    @Test(description = "Test decompressing a GZIP file which consists of several members")
+    public void inflateMultipleMembers() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        compressed.write(gzip("Sheldon ".getBytes(StandardCharsets.UTF_8)));
+        compressed.write(gzip("Cooper".getBytes(StandardCharsets.UTF_8)));
+        byte[] decompressed = inflate(compressed.toByteArray(), true, 3);
+        Assert.assertEquals(new String(decompressed, StandardCharsets.UTF_8), "Sheldon Cooper");
+    }
+
+    @Test(description = "Test decompressing content written through a deflater output stream")
+    public void inflateDeflate() throws IOException {
+        byte[] content = createContent(50000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(compressed)) {
+            outputStream.write(content);
+        }
+        Assert.assertEquals(inflate(compressed.toByteArray(), false, 4096), content);
+    }
+
+    @Test(description = "Test compressing content which is read through a GZIP input stream")
+    public void deflateGzip() throws IOException {
+        byte[] content = createContent(100000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        DeflatingByteChannel channel = new DeflatingByteChannel(Channels.newChannel(compressed), true);
+        for (int offset = 0; offset < content.length; offset += 777) {
+            channel.write(ByteBuffer.wrap(content, offset, Math.min(777, content.length - offset)));
+        }
+        channel.close();
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            Assert.assertEquals(inputStream.readAllBytes(), content);
+        }
+    }
+
+    @Test(description = "Test flushing the compressed content before the channel is closed")
+    public void flushDeflate() throws IOException {
+        byte[] content = "Sheldon Cooper".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        DeflatingByteChannel channel = new DeflatingByteChannel(Channels.newChannel(compressed), false);
+        channel.write(ByteBuffer.wrap(content));
+        channel.flush();
+        //The content written so far could be decompressed although the compressed content is not complete
+        InflatingByteChannel reader = new InflatingByteChannel(Channels.newChannel(
+                new ByteArrayInputStream(compressed.toByteArray())), false);
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        Assert.assertEquals(reader.read(buffer), content.length);
+        reader.close();
+        channel.close();
+        Assert.assertEquals(inflate(compressed.toByteArray(), false, 100), content);
+    }
+
+    @Test(description = "Test reading the records of a compressed CSV file")
+    public void readCompressedRecords() throws IOException, BallerinaIOException {
+        Path path = Files.createTempFile("compressed", ".csv.gz");
+        try {
+            FileIOChannel target = new FileIOChannel(FileChannel.open(path, StandardOpenOption.WRITE));
+            DeflatingIOChannel writer = new DeflatingIOChannel(target, true);
+            writer.write(ByteBuffer.wrap("id,name\n1,Sheldon\n2,Leonard\n".getBytes(StandardCharsets.UTF_8)));
+            writer.close();
+
+            FileIOChannel source = new FileIOChannel(FileChannel.open(path, StandardOpenOption.READ));
+            Assert.assertEquals(InflatingIOChannel.detect(source), IOConstants.Compression.GZIP);
+            DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(new CharacterChannel(
+                    new InflatingIOChannel(source, true), StandardCharsets.UTF_8.name()), Format.CSV);
+            Assert.assertEquals(recordChannel.read(), new String[]{"id", "name"});
+            Assert.assertEquals(recordChannel.read(), new String[]{"1", "Sheldon"});
+            Assert.assertEquals(recordChannel.read(), new String[]{"2", "Leonard"});
+            Assert.assertFalse(recordChannel.hasNext());
+            recordChannel.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(description = "Test detecting the compression format through the magic bytes")
+    public void detectCompression() throws IOException {
+        Path path = Files.createTempFile("detect", ".bin");
+        try {
+            Files.write(path, gzip(createContent(10)));
+            Assert.assertEquals(detect(path), IOConstants.Compression.GZIP);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (DeflaterOutputStream outputStream = new DeflaterOutputStream(compressed)) {
+                outputStream.write(createContent(10));
+            }
+            Files.write(path, compressed.toByteArray());
+            Assert.assertEquals(detect(path), IOConstants.Compression.DEFLATE);
+            Deflater bestCompression = new Deflater(Deflater.BEST_COMPRESSION);
+            compressed.reset();
+            try (DeflaterOutputStream outputStream = new DeflaterOutputStream(compressed, bestCompression)) {
+                outputStream.write(createContent(10));
+            }
+            bestCompression.end();
+            Files.write(path, compressed.toByteArray());
+            Assert.assertEquals(detect(path), IOConstants.Compression.DEFLATE);
+            //The header of the low compression levels is a valid text
+            Files.writeString(path, "x^2,y");
+            Assert.assertEquals(detect(path), IOConstants.Compression.NONE);
+            Files.writeString(path, "xyz");
+            Assert.assertEquals(detect(path), IOConstants.Compression.NONE);
+            Files.writeString(path, "x");
+            Assert.assertEquals(detect(path), IOConstants.Compression.NONE);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(expectedExceptions = ZipException.class)
+    public void corruptChecksum() throws IOException {
+        byte[] compressed = gzip(createContent(1000));
+        compressed[compressed.length - 8] ^= 1;
+        inflate(compressed, true, 4096);
+    }
+
+    @Test(expectedExceptions = ZipException.class)
+    public void notCompressed() throws IOException {
+        inflate("Sheldon Cooper".getBytes(StandardCharsets.UTF_8), true, 4096);
+    }
+
+    private static IOConstants.Compression detect(Path path) throws IOException {
+        FileIOChannel channel = new FileIOChannel(FileChannel.open(path, StandardOpenOption.READ));
+        try {
+            return InflatingIOChannel.detect(channel);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, boolean gzip, int bufferSize) throws IOException {
+        InflatingByteChannel channel = new InflatingByteChannel(Channels.newChannel(
+                new ByteArrayInputStream(compressed)), gzip);
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        try {
+            while (channel.read(buffer) >= 0) {
+                decompressed.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        } finally {
+            channel.close();
+        }
+        return decompressed.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write(content);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        Random random = new Random(length);
+        for (int i = 0; i < length; i++) {
+            //Repeated words are compressed as log files are
+            content[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return content;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import io.ballerina.stdlib.io.utils.ContentDigest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The unit test of computing the digest of the bytes passing through a channel.
+ */
+public class DigestingByteChannelTest {
+
+    private static final byte[] CONTENT = "Sheldon Lee Cooper, Leonard Hofstadter, Howard Wolowitz"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test(description = "Test computing the digest of the bytes read through the channel")
+    public void digestRead() throws IOException, BallerinaIOException, NoSuchAlgorithmException {
+        DigestingByteChannel channel = new DigestingByteChannel(new ByteArrayChannel(CONTENT),
+                ContentDigest.of("SHA256"));
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        //A part of the buffer is filled ahead in order to verify that only the bytes read are digested
+        buffer.put((byte) 1);
+        while (channel.read(buffer) >= 0) {
+            buffer.clear();
+        }
+        channel.close();
+        Assert.assertEquals(channel.digest(), MessageDigest.getInstance("SHA-256").digest(CONTENT));
+    }
+
+    @Test(description = "Test computing the checksum of the bytes written through the channel")
+    public void digestWrite() throws IOException, BallerinaIOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DigestingByteChannel channel = new DigestingByteChannel(new ByteArrayChannel(output),
+                ContentDigest.of("CRC32C"));
+        channel.write(ByteBuffer.wrap(CONTENT, 0, 20));
+        CRC32C checksum = new CRC32C();
+        checksum.update(CONTENT, 0, 20);
+        Assert.assertEquals(channel.digest(), ByteBuffer.allocate(4).putInt((int) checksum.getValue()).array());
+
+        channel.write(ByteBuffer.wrap(CONTENT, 20, CONTENT.length - 20));
+        channel.close();
+        checksum.update(CONTENT, 20, CONTENT.length - 20);
+        Assert.assertEquals(channel.digest(), ByteBuffer.allocate(4).putInt((int) checksum.getValue()).array());
+        Assert.assertEquals(output.toByteArray(), CONTENT);
+    }
+
+    @Test(description = "Test providing the digest while the content is being provided")
+    public void digestInParts() throws BallerinaIOException, NoSuchAlgorithmException {
+        ContentDigest digest = ContentDigest.of("MD5");
+        digest.update(ByteBuffer.wrap(CONTENT, 0, 10));
+        Assert.assertEquals(digest.value(), MessageDigest.getInstance("MD5").digest(
+                Arrays.copyOf(CONTENT, 10)));
+        digest.update(ByteBuffer.wrap(CONTENT, 10, CONTENT.length - 10));
+        Assert.assertEquals(digest.value(), MessageDigest.getInstance("MD5").digest(CONTENT));
+    }
+
+    @Test(expectedExceptions = BallerinaIOException.class)
+    public void unsupportedAlgorithm() throws BallerinaIOException {
+        ContentDigest.of("SHA3");
+    }
+
+    /**
+     * A byte channel which reads from or writes to memory.
+     */
+    private static class ByteArrayChannel implements ByteChannel {
+
+        private final ReadableByteChannel source;
+        private final WritableByteChannel target;
+
+        ByteArrayChannel(byte[] content) {
+            this.source = Channels.newChannel(new ByteArrayInputStream(content));
+            this.target = null;
+        }
+
+        ByteArrayChannel(ByteArrayOutputStream output) {
+            this.source = null;
+            this.target = Channels.newChannel(output);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return source.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return target.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
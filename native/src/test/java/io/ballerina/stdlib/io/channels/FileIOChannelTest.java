@@ -24,6 +24,7 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
@@ -57,6 +58,60 @@ public class FileIOChannelTest {
         Assert.assertEquals(content, "12345");
     }
 
+    @Test(description = "Test transferring the content from the current position of FileIOChannel")
+    public void transferTo() throws IOException, URISyntaxException {
+
+        String resourceFilePath = "datafiles/io/text/charfile.txt";
+        String destinationFilePath = currentDirectoryPath + "fileIOChannel2.txt";
+        ByteChannel readByteChannel = TestUtil.openForReading(resourceFilePath);
+        ByteChannel writeByteChannel = TestUtil.openForReadingAndWriting(destinationFilePath);
+        FileIOChannel fileIOChannel = new FileIOChannel((FileChannel) readByteChannel);
+
+        fileIOChannel.read(ByteBuffer.allocate(2));
+        Assert.assertEquals(fileIOChannel.transferTo(writeByteChannel), 4);
+        Assert.assertEquals(((FileChannel) readByteChannel).position(), 6);
+        writeByteChannel.close();
+        String content = Files.readString(Paths.get(destinationFilePath), StandardCharsets.UTF_8);
+        Assert.assertEquals(content, "3456");
+    }
+
+    @Test(description = "Test reading the remaining content of FileIOChannel into an array")
+    public void readFully() throws IOException, URISyntaxException {
+
+        String resourceFilePath = "datafiles/io/text/charfile.txt";
+        ByteChannel readByteChannel = TestUtil.openForReading(resourceFilePath);
+        FileIOChannel fileIOChannel = new FileIOChannel((FileChannel) readByteChannel);
+
+        fileIOChannel.read(ByteBuffer.allocate(1));
+        Assert.assertEquals(fileIOChannel.getRemainingSize(), 5);
+        byte[] content = new byte[7];
+        content[0] = '0';
+        Assert.assertEquals(fileIOChannel.readFully(content, 1), 5);
+        Assert.assertEquals(new String(content, 0, 6, StandardCharsets.UTF_8), "023456");
+        Assert.assertEquals(fileIOChannel.getRemainingSize(), 0);
+        Assert.assertEquals(fileIOChannel.readFully(content, 6), 0);
+    }
+
+    @Test(description = "Test positional reads and writes of FileIOChannel")
+    public void readAndWriteAt() throws IOException, URISyntaxException {
+
+        String destinationFilePath = currentDirectoryPath + "fileIOChannel3.txt";
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(destinationFilePath);
+        FileIOChannel fileIOChannel = new FileIOChannel((FileChannel) byteChannel);
+
+        Assert.assertEquals(fileIOChannel.write(ByteBuffer.wrap("123456".getBytes(StandardCharsets.UTF_8))), 6);
+        Assert.assertEquals(fileIOChannel.writeAt(2, ByteBuffer.wrap("ab".getBytes(StandardCharsets.UTF_8))), 2);
+        Assert.assertEquals(fileIOChannel.size(), 6);
+
+        ByteBuffer content = ByteBuffer.allocate(8);
+        Assert.assertEquals(fileIOChannel.readAt(1, content), 5);
+        Assert.assertEquals(new String(content.array(), 0, 5, StandardCharsets.UTF_8), "2ab56");
+        Assert.assertEquals(fileIOChannel.readAt(6, ByteBuffer.allocate(1)), -1);
+        //The position of the channel is not changed by the positional operations
+        Assert.assertEquals(((FileChannel) byteChannel).position(), 6);
+        fileIOChannel.close();
+    }
+
     @Test(expectedExceptions = UnsupportedOperationException.class)
     public void getChannel() throws IOException, URISyntaxException {
 
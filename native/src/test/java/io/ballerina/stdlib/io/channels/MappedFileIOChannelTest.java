@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels;
+
+import io.ballerina.stdlib.io.channels.base.CharacterChannel;
+import io.ballerina.stdlib.io.util.TestUtil;
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * The unit test of the memory mapped file channels.
+ */
+public class MappedFileIOChannelTest {
+
+    private static final String RESOURCE_FILE_PATH = "datafiles/io/text/longParagraph.txt";
+
+    @Test(description = "Test reading a file through windows, which are smaller than the file")
+    public void readThroughWindows() throws IOException, URISyntaxException {
+
+        byte[] expected = Files.readAllBytes(getPath(RESOURCE_FILE_PATH));
+        try (FileChannel fileChannel = (FileChannel) TestUtil.openForReading(RESOURCE_FILE_PATH)) {
+            MappedByteChannel channel = new MappedByteChannel(fileChannel, 0, fileChannel.size(), 7);
+            ByteBuffer content = ByteBuffer.allocate(expected.length);
+            ByteBuffer buffer = ByteBuffer.allocate(5);
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                content.put(buffer);
+                buffer.clear();
+            }
+            Assert.assertEquals(content.array(), expected);
+            Assert.assertEquals(channel.read(buffer), -1);
+        }
+    }
+
+    @Test(description = "Test reading the remaining content of a range at once")
+    public void readRemainingOfRange() throws IOException, URISyntaxException {
+
+        byte[] expected = Files.readAllBytes(getPath(RESOURCE_FILE_PATH));
+        try (FileChannel fileChannel = (FileChannel) TestUtil.openForReading(RESOURCE_FILE_PATH)) {
+            MappedByteChannel channel = new MappedByteChannel(fileChannel, 10, 100, 16);
+            ByteBuffer buffer = ByteBuffer.allocate(20);
+            Assert.assertEquals(channel.read(buffer), 20);
+            Assert.assertEquals(buffer.array(), Arrays.copyOfRange(expected, 10, 30));
+            Assert.assertEquals(channel.readRemaining(), Arrays.copyOfRange(expected, 30, 100));
+            Assert.assertEquals(channel.readRemaining().length, 0);
+        }
+    }
+
+    @Test(description = "Test decoding characters from a mapped file")
+    public void readCharacters() throws IOException, URISyntaxException, BallerinaIOException {
+
+        String expected = Files.readString(getPath(RESOURCE_FILE_PATH),
+                StandardCharsets.UTF_8);
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading(RESOURCE_FILE_PATH);
+        MappedFileIOChannel channel = new MappedFileIOChannel(fileChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        StringBuilder content = new StringBuilder();
+        String characters = characterChannel.read(10);
+        while (!characters.isEmpty()) {
+            content.append(characters);
+            characters = characterChannel.read(10);
+        }
+        Assert.assertEquals(content.toString(), expected);
+        characterChannel.close();
+        Assert.assertFalse(fileChannel.isOpen());
+    }
+
+    @Test(description = "Test reading an empty file")
+    public void readEmptyFile() throws IOException, URISyntaxException {
+
+        try (FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/text/emptyFile.txt")) {
+            MappedFileIOChannel channel = new MappedFileIOChannel(fileChannel);
+            Assert.assertEquals(channel.readRemaining().length, 0);
+            Assert.assertEquals(channel.read(ByteBuffer.allocate(8)), 0);
+            Assert.assertTrue(channel.hasReachedEnd());
+        }
+    }
+
+    @Test(expectedExceptions = ClosedChannelException.class)
+    public void readAfterClose() throws IOException, URISyntaxException {
+
+        try (FileChannel fileChannel = (FileChannel) TestUtil.openForReading(RESOURCE_FILE_PATH)) {
+            MappedByteChannel channel = new MappedByteChannel(fileChannel, 0, fileChannel.size());
+            channel.close();
+            channel.read(ByteBuffer.allocate(8));
+        }
+    }
+
+    private static Path getPath(String filePath) throws URISyntaxException {
+        return Paths.get(MappedFileIOChannelTest.class.getClassLoader().getResource(filePath).toURI());
+    }
+}
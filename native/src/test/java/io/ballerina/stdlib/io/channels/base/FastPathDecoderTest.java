@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.channels.base;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests the fast path decoder against the decoder of the character set, when the whole input is at hand.
+ */
+public class FastPathDecoderTest {
+
+    @DataProvider(name = "malformedContents")
+    public Object[][] malformedContents() {
+        return new Object[][]{
+                //A valid sequence which starts within the bytes of a malformed sequence
+                {new byte[]{(byte) 0xe1, (byte) 0xe1, (byte) 0x80, (byte) 0x80}},
+                {new byte[]{'a', (byte) 0xf1, (byte) 0xe1, (byte) 0x80, (byte) 0x80, 'b'}},
+                {new byte[]{(byte) 0xe2, (byte) 0xc3, (byte) 0xa9}},
+                {new byte[]{(byte) 0xe1, (byte) 0x80}}
+        };
+    }
+
+    @Test(description = "Decode malformed content at the end of the input", dataProvider = "malformedContents")
+    public void decodeMalformedEndOfInput(byte[] content) {
+        FastPathDecoder decoder = FastPathDecoder.of(StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE));
+        ByteBuffer in = ByteBuffer.wrap(content);
+        CharBuffer out = CharBuffer.allocate(content.length);
+        decoder.decode(in, out, true);
+        out.flip();
+        Assert.assertFalse(in.hasRemaining());
+        Assert.assertEquals(out.toString(), new String(content, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.characters;
+
+import io.ballerina.stdlib.io.MockByteChannel;
+import io.ballerina.stdlib.io.channels.base.CharacterChannel;
+import io.ballerina.stdlib.io.utils.BallerinaIOException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Tests decoding characters through the fast path of the UTF-8, US-ASCII and ISO-8859-1 character sets.
+ */
+public class CharacterDecodingTest {
+
+    @DataProvider(name = "contents")
+    public Object[][] contents() {
+        byte[] random = new byte[5000];
+        new Random(7).nextBytes(random);
+        return new Object[][]{
+                {StandardCharsets.UTF_8, "plain ascii content which is longer than a word".getBytes(
+                        StandardCharsets.UTF_8)},
+                {StandardCharsets.UTF_8, "Ǌabcǌ ありがとう 😀😁 ünïcödé".getBytes(
+                        StandardCharsets.UTF_8)},
+                //Overlong, surrogate, out of range and truncated sequences
+                {StandardCharsets.UTF_8, new byte[]{'a', (byte) 0xc0, (byte) 0xaf, 'b', (byte) 0xed, (byte) 0xa0,
+                        (byte) 0x80, 'c', (byte) 0xf4, (byte) 0x90, (byte) 0x80, (byte) 0x80, 'd', (byte) 0xe2,
+                        (byte) 0x82, 'e', (byte) 0x80, (byte) 0xf0, (byte) 0x9f}},
+                //A valid sequence which starts within the bytes of a malformed sequence at the end of the input
+                {StandardCharsets.UTF_8, new byte[]{(byte) 0xe1, (byte) 0xe1, (byte) 0x80, (byte) 0x80}},
+                {StandardCharsets.UTF_8, random},
+                {StandardCharsets.US_ASCII, random},
+                {StandardCharsets.ISO_8859_1, random}
+        };
+    }
+
+    @Test(description = "Decode content which is read in small chunks", dataProvider = "contents")
+    public void decodeChunks(Charset charset, byte[] content) throws BallerinaIOException, IOException {
+        String expected = new String(content, charset);
+        for (int chunkSize : new int[]{1, 2, 3, 7, 64, content.length}) {
+            for (int numberOfCharacters : new int[]{1, 3, 10, 1000}) {
+                CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(
+                        new ChunkedByteChannel(content, chunkSize)), charset.name());
+                StringBuilder actual = new StringBuilder();
+                String characters = characterChannel.read(numberOfCharacters);
+                while (!characters.isEmpty()) {
+                    Assert.assertTrue(characters.length() <= numberOfCharacters);
+                    actual.append(characters);
+                    characters = characterChannel.read(numberOfCharacters);
+                }
+                characterChannel.close();
+                Assert.assertEquals(actual.toString(), expected, "chunk size " + chunkSize + ", characters " +
+                        numberOfCharacters);
+            }
+        }
+    }
+
+    @Test(description = "Decode content of a character set which does not have a fast path")
+    public void decodeWithoutFastPath() throws BallerinaIOException, IOException {
+        String expected = "Ǌabcǌ ありがとう";
+        byte[] content = expected.getBytes(StandardCharsets.UTF_16);
+        CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(
+                new ChunkedByteChannel(content, content.length)), StandardCharsets.UTF_16.name());
+        Assert.assertEquals(characterChannel.read(100), expected);
+        Assert.assertEquals(characterChannel.read(100), "");
+        characterChannel.close();
+    }
+
+    /**
+     * Provides the content in chunks which are not larger than the given size.
+     */
+    private static class ChunkedByteChannel implements ByteChannel {
+        private final ByteBuffer content;
+        private final int chunkSize;
+        private boolean open = true;
+
+        ChunkedByteChannel(byte[] content, int chunkSize) {
+            this.content = ByteBuffer.wrap(content);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!content.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(Math.min(chunkSize, dst.remaining()), content.remaining());
+            ByteBuffer chunk = content.slice();
+            chunk.limit(count);
+            dst.put(chunk);
+            content.position(content.position() + count);
+            return count;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -26,9 +26,13 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -171,4 +175,90 @@ public class CharacterInputOutputBufferTest {
         Assert.assertEquals(numberOfBytesWritten, numberOfBytes);
         characterChannel.close();
     }
+
+    @Test(description = "Write small contents through the write buffer of the channel")
+    public void bufferSmallWrites() throws IOException {
+        CountingByteChannel byteChannel = new CountingByteChannel();
+        CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(byteChannel),
+                StandardCharsets.UTF_8.name());
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            String line = "line" + i + "\n";
+            Assert.assertEquals(characterChannel.write(line, 0), line.length());
+            expected.append(line);
+        }
+        Assert.assertEquals(byteChannel.writeCount, 0);
+        characterChannel.flush();
+        Assert.assertEquals(byteChannel.writeCount, 1);
+        Assert.assertEquals(byteChannel.output.toString(StandardCharsets.UTF_8), expected.toString());
+        characterChannel.write("end", 0);
+        characterChannel.close();
+        Assert.assertEquals(byteChannel.writeCount, 2);
+        Assert.assertEquals(byteChannel.output.toString(StandardCharsets.UTF_8), expected + "end");
+    }
+
+    @Test(description = "Write content which is larger than the write buffer and splits surrogate pairs")
+    public void writeLargeContent() throws IOException {
+        CountingByteChannel byteChannel = new CountingByteChannel();
+        CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(byteChannel),
+                StandardCharsets.UTF_8.name());
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            //The surrogate pair is split across the characters which are encoded at once
+            content.append("a".repeat(4095)).append("\uD83D\uDE00").append("Ǌ");
+        }
+        String text = content.toString();
+        byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(characterChannel.write(text, 0), expected.length);
+        Assert.assertTrue(byteChannel.writeCount > 0);
+        characterChannel.close();
+        Assert.assertEquals(byteChannel.output.toByteArray(), expected);
+    }
+
+    @Test(description = "Write content which could not be encoded")
+    public void writeUnmappableContent() throws IOException {
+        CountingByteChannel byteChannel = new CountingByteChannel();
+        CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(byteChannel),
+                StandardCharsets.US_ASCII.name());
+        characterChannel.write("Hello", 0);
+        try {
+            characterChannel.write("Ǌ", 0);
+            Assert.fail("The content should not be encoded");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().startsWith("error occurred while writing bytes to the channel"));
+        }
+        characterChannel.write(" World", 0);
+        characterChannel.close();
+        Assert.assertEquals(byteChannel.output.toString(StandardCharsets.US_ASCII), "Hello World");
+    }
+
+    /**
+     * Counts the writes to a channel which keeps the written content in memory.
+     */
+    private static class CountingByteChannel implements ByteChannel {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final WritableByteChannel channel = Channels.newChannel(output);
+        private int writeCount;
+
+        @Override
+        public int read(ByteBuffer dst) {
+            return -1;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            writeCount++;
+            return channel.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
 }
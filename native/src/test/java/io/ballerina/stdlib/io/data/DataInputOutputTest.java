@@ -32,10 +32,22 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
 
 import static io.ballerina.stdlib.io.channels.base.Representation.BIT_16;
 import static io.ballerina.stdlib.io.channels.base.Representation.BIT_32;
@@ -62,7 +74,7 @@ public class DataInputOutputTest {
         Channel channel = new MockByteChannel(byteChannel);
         DataChannel dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
         dataChannel.writeLong(value, representation);
-        channel.close();
+        dataChannel.close();
         byteChannel = TestUtil.openForReadingAndWriting(filePath);
         channel = new MockByteChannel(byteChannel);
         dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
@@ -77,7 +89,7 @@ public class DataInputOutputTest {
         Channel channel = new MockByteChannel(byteChannel);
         DataChannel dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
         dataChannel.writeLong(value, Representation.VARIABLE);
-        channel.close();
+        dataChannel.close();
         byteChannel = TestUtil.openForReadingAndWriting(filePath);
         channel = new MockByteChannel(byteChannel);
         dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
@@ -95,6 +107,7 @@ public class DataInputOutputTest {
         Channel channel = new MockByteChannel(byteChannel);
         DataChannel dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
         dataChannel.writeDouble(value, representation);
+        dataChannel.close();
         byteChannel = TestUtil.openForReadingAndWriting(filePath);
         channel = new MockByteChannel(byteChannel);
         dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
@@ -109,6 +122,7 @@ public class DataInputOutputTest {
         Channel channel = new MockByteChannel(byteChannel);
         DataChannel dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
         dataChannel.writeBoolean(false);
+        dataChannel.close();
         byteChannel = TestUtil.openForReadingAndWriting(filePath);
         channel = new MockByteChannel(byteChannel);
         dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
@@ -122,6 +136,7 @@ public class DataInputOutputTest {
         Channel channel = new MockByteChannel(byteChannel);
         DataChannel dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
         dataChannel.writeString(content, encoding);
+        dataChannel.close();
         byteChannel = TestUtil.openForReadingAndWriting(filePath);
         channel = new MockByteChannel(byteChannel);
         dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
@@ -140,6 +155,7 @@ public class DataInputOutputTest {
         dataChannel.writeLong(writtenInt, BIT_32);
         dataChannel.writeDouble(writtenDouble, BIT_32);
         dataChannel.writeBoolean(false);
+        dataChannel.close();
         byteChannel = TestUtil.openForReadingAndWriting(filePath);
         channel = new MockByteChannel(byteChannel);
         dataChannel = new DataChannel(channel, ByteOrder.nativeOrder());
@@ -151,6 +167,208 @@ public class DataInputOutputTest {
         Assert.assertEquals(false, booleanValue);
     }
 
+    @Test(description = "Test reading/writing arrays of values", dataProvider = "ArrayRepresentations")
+    public void testArrays(Representation representation, ByteOrder order) throws IOException {
+        Path filePath = Paths.get(currentDirectoryPath, "array" + representation + order + ".bin");
+        Files.deleteIfExists(filePath);
+        //The values span several chunks of the array buffer
+        long[] longs = new long[20000];
+        double[] doubles = new double[20000];
+        Random random = new Random(representation.ordinal());
+        int bits = representation.getNumberOfBytes() * Byte.SIZE;
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = random.nextLong() >> (Long.SIZE - bits);
+            doubles[i] = Representation.BIT_32.equals(representation) ? random.nextFloat() : random.nextDouble();
+        }
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        Channel channel = new MockByteChannel(byteChannel);
+        DataChannel dataChannel = new DataChannel(channel, order);
+        dataChannel.writeLongs(i -> longs[i], longs.length, representation);
+        dataChannel.writeLong(longs[0], representation);
+        if (!BIT_16.equals(representation)) {
+            dataChannel.writeDoubles(i -> doubles[i], doubles.length, representation);
+        }
+        dataChannel.close();
+
+        byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        channel = new MockByteChannel(byteChannel);
+        dataChannel = new DataChannel(channel, order);
+        //The values written as an array are read the same as the values written one by one
+        Assert.assertEquals(dataChannel.readLong(representation).getValue(), longs[0]);
+        long[] expected = Arrays.copyOfRange(longs, 1, longs.length + 1);
+        expected[longs.length - 1] = longs[0];
+        Assert.assertEquals(dataChannel.readLongs(longs.length, representation), expected);
+        if (!BIT_16.equals(representation)) {
+            double[] readDoubles = dataChannel.readDoubles(doubles.length + 10, representation);
+            Assert.assertEquals(readDoubles, doubles);
+        }
+        Assert.assertEquals(dataChannel.readLongs(10, representation).length, 0);
+        channel.close();
+    }
+
+    @Test(description = "Test reading/writing variable length integers", dataProvider = "VarLongEncodings")
+    public void testVarLongs(boolean zigZag, ByteOrder order) throws IOException {
+        Path filePath = Paths.get(currentDirectoryPath, "varlong" + zigZag + order + ".bin");
+        Files.deleteIfExists(filePath);
+        //The values span several refills of the read buffer and every length of the encoding
+        long[] values = new long[40000];
+        Random random = new Random(values.length);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >> random.nextInt(Long.SIZE);
+        }
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        Channel channel = new MockByteChannel(byteChannel);
+        DataChannel dataChannel = new DataChannel(channel, order);
+        dataChannel.writeVarLong(-1, zigZag);
+        dataChannel.writeVarLongs(i -> values[i], values.length, zigZag);
+        dataChannel.writeLong(Integer.MIN_VALUE, BIT_32);
+        dataChannel.writeString("Test", CharEncoding.UTF_8);
+        dataChannel.writeVarLong(300, zigZag);
+        dataChannel.close();
+
+        byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        channel = new MockByteChannel(byteChannel);
+        dataChannel = new DataChannel(channel, order);
+        Assert.assertEquals(dataChannel.readVarLong(zigZag), -1);
+        Assert.assertEquals(dataChannel.readVarLongs(values.length, zigZag), values);
+        //Fixed length values and strings are read from the bytes which have been read ahead
+        Assert.assertEquals(dataChannel.readLong(BIT_32).getValue(), Integer.MIN_VALUE);
+        Assert.assertEquals(dataChannel.readString(4, CharEncoding.UTF_8), "Test");
+        Assert.assertEquals(dataChannel.readVarLongs(10, zigZag), new long[]{300});
+        Assert.assertEquals(dataChannel.readVarLongs(10, zigZag).length, 0);
+        channel.close();
+    }
+
+    @Test(description = "Test the layout of variable length integers")
+    public void testVarLongLayout() throws IOException {
+        Path filePath = Paths.get(currentDirectoryPath, "varlonglayout.bin");
+        Files.deleteIfExists(filePath);
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        Channel channel = new MockByteChannel(byteChannel);
+        DataChannel dataChannel = new DataChannel(channel, ByteOrder.LITTLE_ENDIAN);
+        dataChannel.writeVarLong(300, false);
+        dataChannel.writeVarLong(-1, true);
+        dataChannel.writeVarLong(1, true);
+        dataChannel.writeVarLong(-65, true);
+        dataChannel.close();
+        //The little endian layout is the same as the layout of protobuf varints
+        Assert.assertEquals(Files.readAllBytes(filePath),
+                new byte[]{(byte) 0xac, 0x02, 0x01, 0x02, (byte) 0x81, 0x01});
+    }
+
+    @Test(description = "Test reading/writing length prefixed strings")
+    public void testLengthPrefixedStrings() throws IOException {
+        Path filePath = Paths.get(currentDirectoryPath, "prefixedstrings.bin");
+        Files.deleteIfExists(filePath);
+        //The strings are decoded from the read buffer, across its refills and larger than it
+        String[] values = new String[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 3 == 0 ? "" : "aaabbǊ".repeat(i % 50);
+        }
+        values[values.length / 2] = "Test".repeat(40000);
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        Channel channel = new MockByteChannel(byteChannel);
+        DataChannel dataChannel = new DataChannel(channel, ByteOrder.BIG_ENDIAN);
+        for (String value : values) {
+            dataChannel.writeLengthPrefixedString(value);
+        }
+        dataChannel.close();
+
+        byteChannel = TestUtil.openForReadingAndWriting(filePath.toString());
+        channel = new MockByteChannel(byteChannel);
+        dataChannel = new DataChannel(channel, ByteOrder.BIG_ENDIAN);
+        for (String value : values) {
+            Assert.assertTrue(dataChannel.hasRemainingContent());
+            Assert.assertEquals(dataChannel.readLengthPrefixedString(), value);
+        }
+        Assert.assertFalse(dataChannel.hasRemainingContent());
+        channel.close();
+    }
+
+    @Test(description = "Test buffering the values which are written and read")
+    public void testBufferedValues() throws IOException {
+        int count = 100000;
+        CountingByteChannel output = new CountingByteChannel(new byte[0]);
+        DataChannel dataChannel = new DataChannel(new MockByteChannel(output), ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            dataChannel.writeLong(i, BIT_16);
+            dataChannel.writeBoolean(i % 3 == 0);
+        }
+        //The values are written in large chunks and the rest of them is written once the channel is flushed
+        Assert.assertTrue(output.writeCount < 10, "Number of writes: " + output.writeCount);
+        Assert.assertTrue(output.content.size() < count * 3);
+        dataChannel.flush();
+        Assert.assertEquals(output.content.size(), count * 3);
+        dataChannel.writeDouble(1.5, BIT_64);
+        dataChannel.close();
+
+        CountingByteChannel input = new CountingByteChannel(output.content.toByteArray());
+        dataChannel = new DataChannel(new MockByteChannel(input), ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(dataChannel.readLong(BIT_16).getValue(), (short) i);
+            Assert.assertEquals(dataChannel.readBoolean(), i % 3 == 0);
+        }
+        Assert.assertEquals(dataChannel.readDouble(BIT_64), 1.5);
+        Assert.assertTrue(input.readCount < 10, "Number of reads: " + input.readCount);
+        Assert.assertFalse(dataChannel.hasRemainingContent());
+        dataChannel.close();
+    }
+
+    @Test(description = "Test identifying the values, which are served without accessing the channel")
+    public void testBufferedValueChecks() throws IOException {
+        CountingByteChannel output = new CountingByteChannel(new byte[0]);
+        DataChannel dataChannel = new DataChannel(new MockByteChannel(output), ByteOrder.BIG_ENDIAN);
+        Assert.assertFalse(dataChannel.isWriteBuffered(8));
+        dataChannel.writeLong(1, BIT_64);
+        Assert.assertTrue(dataChannel.isWriteBuffered(8));
+        dataChannel.writeVarLong(300, false);
+        dataChannel.writeBoolean(true);
+        dataChannel.close();
+
+        CountingByteChannel input = new CountingByteChannel(output.content.toByteArray());
+        dataChannel = new DataChannel(new MockByteChannel(input), ByteOrder.BIG_ENDIAN);
+        Assert.assertFalse(dataChannel.isReadBuffered(8));
+        Assert.assertEquals(dataChannel.readLong(BIT_64).getValue(), 1);
+        Assert.assertEquals(input.readCount, 1);
+        Assert.assertTrue(dataChannel.isVarLongReadBuffered());
+        Assert.assertTrue(dataChannel.isReadBuffered(3));
+        Assert.assertFalse(dataChannel.isReadBuffered(4));
+        Assert.assertEquals(dataChannel.readVarLong(false), 300);
+        Assert.assertTrue(dataChannel.isReadBuffered(1));
+        Assert.assertTrue(dataChannel.readBoolean());
+        Assert.assertEquals(input.readCount, 1);
+        Assert.assertFalse(dataChannel.isReadBuffered(1));
+        Assert.assertFalse(dataChannel.isVarLongReadBuffered());
+        dataChannel.close();
+    }
+
+    @Test(description = "Test reading a value past the end of the channel", expectedExceptions = EOFException.class)
+    public void testReadPastEnd() throws IOException {
+        DataChannel dataChannel = new DataChannel(new MockByteChannel(new CountingByteChannel(new byte[]{1, 2})),
+                ByteOrder.BIG_ENDIAN);
+        Assert.assertEquals(dataChannel.readLong(BIT_16).getValue(), 0x0102);
+        dataChannel.readLong(BIT_32);
+    }
+
+    @DataProvider(name = "VarLongEncodings")
+    public static Object[][] varLongEncodings() {
+        return new Object[][]{
+                {false, ByteOrder.BIG_ENDIAN}, {false, ByteOrder.LITTLE_ENDIAN},
+                {true, ByteOrder.BIG_ENDIAN}, {true, ByteOrder.LITTLE_ENDIAN}
+        };
+    }
+
+    @DataProvider(name = "ArrayRepresentations")
+    public static Object[][] arrayRepresentations() {
+        return new Object[][]{
+                {BIT_16, ByteOrder.BIG_ENDIAN}, {BIT_16, ByteOrder.LITTLE_ENDIAN},
+                {BIT_32, ByteOrder.BIG_ENDIAN}, {BIT_32, ByteOrder.LITTLE_ENDIAN},
+                {BIT_64, ByteOrder.BIG_ENDIAN}, {BIT_64, ByteOrder.LITTLE_ENDIAN}
+        };
+    }
+
     @DataProvider(name = "StringValues")
     public static Object[][] stringValues() {
         return new Object[][]{
@@ -180,7 +398,9 @@ public class DataInputOutputTest {
                 {-1, 1}, {-1, 1}, {-1, 1},
                 {Short.MIN_VALUE, 3}, {Short.MIN_VALUE, 3},
                 {Integer.MIN_VALUE, 5}, {Integer.MIN_VALUE, 5},
-                {IOConstants.VAR_INT_MAX, 8}, {IOConstants.VAR_INT_MIN, 8}
+                {IOConstants.VAR_INT_MAX, 8}, {IOConstants.VAR_INT_MIN, 8},
+                {63, 1}, {64, 2}, {-64, 1}, {-65, 2}, {8192, 3},
+                {Long.MAX_VALUE, 10}, {Long.MIN_VALUE, 10}
         };
     }
 
@@ -194,4 +414,42 @@ public class DataInputOutputTest {
                 {Double.MIN_VALUE, BIT_64}, {Double.MAX_VALUE, BIT_64}
         };
     }
+
+    /**
+     * Counts the reads and the writes of an in-memory channel.
+     */
+    private static class CountingByteChannel implements ByteChannel {
+        private final ReadableByteChannel input;
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final WritableByteChannel output = Channels.newChannel(content);
+        private int readCount;
+        private int writeCount;
+
+        private CountingByteChannel(byte[] bytes) {
+            this.input = Channels.newChannel(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            readCount++;
+            return input.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            writeCount++;
+            return output.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return output.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+            output.close();
+        }
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The unit test of reading the blocks of a block stream ahead.
+ */
+public class BlockPrefetcherTest {
+
+    @Test(description = "Test changing the block size between the reads")
+    public void changeBlockSize() throws IOException {
+        byte[] content = createContent(100);
+        BlockPrefetcher prefetcher = new BlockPrefetcher(createReader(content));
+        Assert.assertEquals(prefetcher.next(10, false, true), Arrays.copyOfRange(content, 0, 10));
+        //The block of 10 bytes, which is read ahead, is handed over before the bytes which follow it
+        Assert.assertEquals(prefetcher.next(4, false, true), Arrays.copyOfRange(content, 10, 14));
+        Assert.assertEquals(prefetcher.next(4, false, true), Arrays.copyOfRange(content, 14, 18));
+        Assert.assertEquals(prefetcher.next(4, false, true), Arrays.copyOfRange(content, 18, 20));
+        Assert.assertEquals(prefetcher.next(30, true, true), Arrays.copyOfRange(content, 20, 50));
+        Assert.assertEquals(prefetcher.next(30, true, true), Arrays.copyOfRange(content, 50, 80));
+        Assert.assertEquals(prefetcher.next(25, true, true), Arrays.copyOfRange(content, 80, 100));
+        Assert.assertNull(prefetcher.next(25, true, true));
+        Assert.assertNull(prefetcher.next(25, true, true));
+        prefetcher.close();
+    }
+
+    @Test(description = "Test filling a block from the bytes which are read ahead and the bytes which follow them")
+    public void fillBlockFromReadAhead() throws IOException {
+        byte[] content = createContent(50);
+        BlockPrefetcher prefetcher = new BlockPrefetcher(createReader(content));
+        Assert.assertEquals(prefetcher.next(8, true, true), Arrays.copyOfRange(content, 0, 8));
+        Assert.assertEquals(prefetcher.next(20, true, false), Arrays.copyOfRange(content, 8, 28));
+        Assert.assertEquals(prefetcher.next(20, true, false), Arrays.copyOfRange(content, 28, 48));
+        Assert.assertEquals(prefetcher.next(20, true, false), Arrays.copyOfRange(content, 48, 50));
+        Assert.assertNull(prefetcher.next(20, true, false));
+        prefetcher.close();
+    }
+
+    @Test(description = "Test taking the bytes which are read ahead in order to read the stream through other means")
+    public void takeRemaining() throws IOException {
+        byte[] content = createContent(50);
+        BlockPrefetcher prefetcher = new BlockPrefetcher(createReader(content));
+        Assert.assertEquals(prefetcher.next(8, false, true), Arrays.copyOfRange(content, 0, 8));
+        Assert.assertEquals(prefetcher.next(4, false, false), Arrays.copyOfRange(content, 8, 12));
+        Assert.assertEquals(prefetcher.takeRemaining(), Arrays.copyOfRange(content, 12, 16));
+        Assert.assertEquals(prefetcher.takeRemaining(), new byte[0]);
+
+        prefetcher = new BlockPrefetcher(createReader(content));
+        Assert.assertEquals(prefetcher.next(40, true, true), Arrays.copyOfRange(content, 0, 40));
+        //The block which is being read ahead is awaited, hence the stream is no longer read by the prefetcher
+        Assert.assertEquals(prefetcher.takeRemaining(), Arrays.copyOfRange(content, 40, 50));
+        Assert.assertNull(prefetcher.next(40, true, true));
+        Assert.assertNull(prefetcher.takeRemaining());
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private static BlockPrefetcher.BlockReader createReader(byte[] content) {
+        ByteArrayInputStream input = new ByteArrayInputStream(content);
+        return (blockSize, fill) -> {
+            byte[] block = new byte[blockSize];
+            int n = fill ? input.readNBytes(block, 0, blockSize) : input.read(block, 0, blockSize);
+            return n <= 0 ? null : Arrays.copyOf(block, n);
+        };
+    }
+}
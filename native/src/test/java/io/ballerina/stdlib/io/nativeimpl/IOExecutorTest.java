@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The unit test of running blocking I/O operations on virtual threads.
+ */
+public class IOExecutorTest {
+
+    @Test(description = "Test running an operation on a different thread")
+    public void offloadOperation() {
+        Thread caller = Thread.currentThread();
+        Object result = IOExecutor.offload(new Semaphore(1), () -> {
+            Assert.assertTrue(IOExecutor.isOffloaded());
+            return Thread.currentThread() != caller ? "offloaded" : "inline";
+        });
+        Assert.assertEquals(result, "offloaded");
+        Assert.assertFalse(IOExecutor.isOffloaded());
+    }
+
+    @Test(description = "Test running an operation inline when there is no environment")
+    public void executeWithoutEnvironment() {
+        Thread caller = Thread.currentThread();
+        Assert.assertSame(IOExecutor.execute(null, Thread::currentThread), caller);
+    }
+
+    @Test(description = "Test running an operation, which is served from the buffers of a channel, inline")
+    public void executeBufferedOperation() {
+        Thread caller = Thread.currentThread();
+        Assert.assertSame(IOExecutor.execute(null, true, Thread::currentThread), caller);
+        Assert.assertSame(IOExecutor.execute(null, false, Thread::currentThread), caller);
+    }
+
+    @Test(description = "Test propagating the failure of an operation")
+    public void propagateFailure() {
+        Semaphore permits = new Semaphore(1);
+        try {
+            IOExecutor.offload(permits, () -> {
+                throw new IllegalStateException("Disk failure");
+            });
+            Assert.fail("The failure of the operation was not propagated");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "Disk failure");
+        }
+        Assert.assertEquals(permits.availablePermits(), 1);
+    }
+
+    @Test(description = "Test bounding the number of operations, which run concurrently")
+    public void boundConcurrentOperations() {
+        Semaphore permits = new Semaphore(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int value = i;
+            results.add(CompletableFuture.supplyAsync(() -> IOExecutor.offload(permits, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return value;
+            })));
+        }
+        for (int i = 0; i < results.size(); i++) {
+            Assert.assertEquals(results.get(i).join().intValue(), i);
+        }
+        Assert.assertTrue(maxRunning.get() <= 2);
+        Assert.assertEquals(permits.availablePermits(), 2);
+    }
+}
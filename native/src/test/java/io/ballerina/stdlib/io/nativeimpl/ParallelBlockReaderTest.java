@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.nativeimpl;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeMap;
+
+/**
+ * The unit test of reading the blocks of a file concurrently.
+ */
+public class ParallelBlockReaderTest {
+
+    private Path path;
+    private byte[] content;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        content = new byte[10000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        path = Files.createTempFile("parallelBlocks", ".bin");
+        Files.write(path, content);
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test(description = "Test reading the blocks in the order of the file")
+    public void readOrderedBlocks() throws IOException, InterruptedException {
+        ParallelBlockReader reader = new ParallelBlockReader(FileChannel.open(path, StandardOpenOption.READ), 1024, 4,
+                4, true);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long expectedOffset = 0;
+        ParallelBlockReader.Block block;
+        while ((block = reader.next()) != null) {
+            Assert.assertEquals(block.getOffset(), expectedOffset);
+            output.write(block.getContent());
+            expectedOffset += block.getContent().length;
+        }
+        reader.close();
+        Assert.assertEquals(output.toByteArray(), content);
+    }
+
+    @Test(description = "Test reading the blocks in the order of completion")
+    public void readUnorderedBlocks() throws IOException, InterruptedException {
+        ParallelBlockReader reader = new ParallelBlockReader(FileChannel.open(path, StandardOpenOption.READ), 1000, 3,
+                2, false);
+        TreeMap<Long, byte[]> blocks = new TreeMap<>();
+        ParallelBlockReader.Block block;
+        while ((block = reader.next()) != null) {
+            Assert.assertNull(blocks.put(block.getOffset(), block.getContent()));
+        }
+        reader.close();
+        Assert.assertEquals(blocks.size(), 10);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (byte[] blockContent : blocks.values()) {
+            output.write(blockContent);
+        }
+        Assert.assertEquals(output.toByteArray(), content);
+    }
+
+    @Test(description = "Test closing the reader before all the blocks are consumed")
+    public void closeEarly() throws IOException, InterruptedException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        ParallelBlockReader reader = new ParallelBlockReader(channel, 100, 4, 4, true);
+        Assert.assertEquals(reader.next().getContent().length, 100);
+        reader.close();
+        Assert.assertFalse(channel.isOpen());
+        Assert.assertNull(reader.next());
+    }
+}
@@ -18,9 +18,15 @@
 package io.ballerina.stdlib.io.records;
 
 import io.ballerina.stdlib.io.MockByteChannel;
+import io.ballerina.stdlib.io.channels.BlobChannel;
+import io.ballerina.stdlib.io.channels.BlobIOChannel;
+import io.ballerina.stdlib.io.channels.FileRangeChannel;
 import io.ballerina.stdlib.io.channels.base.Channel;
 import io.ballerina.stdlib.io.channels.base.CharacterChannel;
 import io.ballerina.stdlib.io.channels.base.DelimitedRecordChannel;
+import io.ballerina.stdlib.io.csv.Format;
+import io.ballerina.stdlib.io.csv.RecordBoundaryScanner;
+import io.ballerina.stdlib.io.csv.RecordIndex;
 import io.ballerina.stdlib.io.util.TestUtil;
 import io.ballerina.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -30,7 +36,17 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Tests record I/O functionality.
@@ -144,6 +160,269 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Reads RFC4180 records with quoted fields and CRLF line endings")
+    public void readQuotedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcQuoted.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertTrue(recordChannel.hasNext());
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Name", "Address", "Comment"});
+
+        //Trailing empty fields are omitted
+        Assert.assertTrue(recordChannel.hasNext());
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Foo \"Bar\"", "12, Main St."});
+
+        Assert.assertTrue(recordChannel.hasNext());
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Jim", "Line one\r\nLine two", "x"});
+
+        Assert.assertFalse(recordChannel.hasNext());
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord.length, 0);
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Reads only the projected fields of RFC4180 records")
+    public void readProjectedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcQuoted.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+        recordChannel.setProjection(new boolean[]{true, false});
+
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Name", null, null});
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Foo \"Bar\"", null});
+
+        //Quoted record separators of fields which are skipped do not end the record
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Jim", null, null});
+        Assert.assertFalse(recordChannel.hasNext());
+
+        recordChannel.setProjection(null);
+        Assert.assertEquals(recordChannel.getFields("a,\"b,c\",d"), new String[]{"a", "b,c", "d"});
+        recordChannel.setProjection(new boolean[]{false, true});
+        Assert.assertEquals(recordChannel.getFields("a,\"b,c\",d"), new String[]{null, "b,c", null});
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Reads tab delimited records")
+    public void readTdfRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleTdf.tsv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.TDF);
+
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"\"User1,12\"", "WSO2", "07xxxxxx"});
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User2", "\"WSO2,Colombo\"", "07xxxxxxx"});
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User3", "WSO2", "\"07xxxxxxx,SL\""});
+        Assert.assertFalse(recordChannel.hasNext());
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Splits fields of a record which is already read")
+    public void getFieldsOfRecord() throws IOException, URISyntaxException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfc.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertEquals(recordChannel.getFields("User4,\"\",123xxxxx"), new String[]{"User4", "", "123xxxxx"});
+        Assert.assertEquals(recordChannel.getFields("a,,"), new String[]{"a"});
+        Assert.assertEquals(recordChannel.getFields(""), new String[]{""});
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Splits a file to ranges of complete records")
+    public void readRecordRanges() throws IOException, BallerinaIOException {
+        Path path = Paths.get(currentDirectoryPath + "recordRanges.csv");
+        StringBuilder content = new StringBuilder("id,name,comment\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append(i).append(",\"Doe, John\",\"line one\nline \"\"two\"\"\"\r\n");
+        }
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+        List<String> expected = new ArrayList<>();
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(new CharacterChannel(
+                new MockByteChannel(Files.newByteChannel(path)), StandardCharsets.UTF_8.name()), Format.CSV);
+        while (recordChannel.hasNext()) {
+            expected.add(Arrays.toString(recordChannel.read()));
+        }
+        recordChannel.close();
+        Assert.assertEquals(expected.size(), 1001);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (FileChannel fileChannel = FileChannel.open(path)) {
+            long start = RecordBoundaryScanner.skipRecords(fileChannel, 0, 1);
+            Assert.assertEquals(start, "id,name,comment\n".length());
+            long[] boundaries = RecordBoundaryScanner.split(fileChannel, start, fileChannel.size(), 7, executor);
+            Assert.assertEquals(boundaries.length, 8);
+            List<String> records = new ArrayList<>(expected.subList(0, 1));
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                BlobIOChannel channel = new BlobIOChannel(new BlobChannel(
+                        new FileRangeChannel(fileChannel, boundaries[i], boundaries[i + 1])));
+                recordChannel = new DelimitedRecordChannel(new CharacterChannel(channel,
+                        StandardCharsets.UTF_8.name()), Format.CSV);
+                while (recordChannel.hasNext()) {
+                    records.add(Arrays.toString(recordChannel.read()));
+                }
+            }
+            Assert.assertEquals(records, expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(description = "Splits a file with quotes in the middle of unquoted fields to ranges of complete records")
+    public void readRecordRangesWithStrayQuotes() throws IOException, BallerinaIOException {
+        Path path = Paths.get(currentDirectoryPath + "strayQuotes.csv");
+        StringBuilder content = new StringBuilder();
+        List<Long> positions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            positions.add((long) content.length());
+            //A quote within an unquoted field is a literal, hence the record has an odd number of quotes
+            content.append(i).append(",ab\"c,\"d,\"\"e\nf\"\n");
+        }
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+        List<String> expected = new ArrayList<>();
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(new CharacterChannel(
+                new MockByteChannel(Files.newByteChannel(path)), StandardCharsets.UTF_8.name()), Format.CSV);
+        while (recordChannel.hasNext()) {
+            expected.add(Arrays.toString(recordChannel.read()));
+        }
+        recordChannel.close();
+        Assert.assertEquals(expected.size(), 1000);
+        Assert.assertEquals(expected.get(7), "[7, ab\"c, d,\"e\nf]");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (FileChannel fileChannel = FileChannel.open(path)) {
+            Assert.assertEquals(RecordBoundaryScanner.skipRecords(fileChannel, 0, 3), (long) positions.get(3));
+            long[] boundaries = RecordBoundaryScanner.split(fileChannel, 0, fileChannel.size(), 7, executor);
+            Assert.assertEquals(boundaries.length, 8);
+            List<String> records = new ArrayList<>();
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                Assert.assertTrue(positions.contains(boundaries[i]), "Boundary within a record: " + boundaries[i]);
+                BlobIOChannel channel = new BlobIOChannel(new BlobChannel(
+                        new FileRangeChannel(fileChannel, boundaries[i], boundaries[i + 1])));
+                recordChannel = new DelimitedRecordChannel(new CharacterChannel(channel,
+                        StandardCharsets.UTF_8.name()), Format.CSV);
+                while (recordChannel.hasNext()) {
+                    records.add(Arrays.toString(recordChannel.read()));
+                }
+            }
+            Assert.assertEquals(records, expected);
+
+            RecordIndex index = RecordIndex.create(path, fileChannel, true, 10, 1);
+            Assert.assertEquals(index.getRecordCount(), 1000);
+            for (int record : new int[]{1, 9, 10, 11, 555, 999}) {
+                Assert.assertEquals(index.getPosition(fileChannel, record), (long) positions.get(record));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(description = "Splits a file whose records end with a carriage return, a line feed or both")
+    public void readRecordRangesWithCarriageReturns() throws IOException, BallerinaIOException {
+        Path path = Paths.get(currentDirectoryPath + "carriageReturns.csv");
+        String[] terminators = {"\r", "\r\n", "\n"};
+        StringBuilder content = new StringBuilder();
+        List<Long> positions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            positions.add((long) content.length());
+            content.append(i).append(",\"line one\rline two\",x").append(terminators[i % terminators.length]);
+        }
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+        List<String> expected = new ArrayList<>();
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(new CharacterChannel(
+                new MockByteChannel(Files.newByteChannel(path)), StandardCharsets.UTF_8.name()), Format.CSV);
+        while (recordChannel.hasNext()) {
+            expected.add(Arrays.toString(recordChannel.read()));
+        }
+        recordChannel.close();
+        Assert.assertEquals(expected.size(), 1000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (FileChannel fileChannel = FileChannel.open(path)) {
+            for (int count = 1; count <= 3; count++) {
+                Assert.assertEquals(RecordBoundaryScanner.skipRecords(fileChannel, 0, count),
+                        (long) positions.get(count));
+            }
+            long[] boundaries = RecordBoundaryScanner.split(fileChannel, 0, fileChannel.size(), 7, executor);
+            Assert.assertEquals(boundaries.length, 8);
+            List<String> records = new ArrayList<>();
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                Assert.assertTrue(positions.contains(boundaries[i]), "Boundary within a record: " + boundaries[i]);
+                BlobIOChannel channel = new BlobIOChannel(new BlobChannel(
+                        new FileRangeChannel(fileChannel, boundaries[i], boundaries[i + 1])));
+                recordChannel = new DelimitedRecordChannel(new CharacterChannel(channel,
+                        StandardCharsets.UTF_8.name()), Format.CSV);
+                while (recordChannel.hasNext()) {
+                    records.add(Arrays.toString(recordChannel.read()));
+                }
+            }
+            Assert.assertEquals(records, expected);
+
+            RecordIndex index = RecordIndex.create(path, fileChannel, true, 10, 1);
+            Assert.assertEquals(index.getRecordCount(), 1000);
+            for (int record : new int[]{1, 2, 3, 10, 11, 555, 999}) {
+                Assert.assertEquals(index.getPosition(fileChannel, record), (long) positions.get(record));
+            }
+            //Without quoting the carriage returns within the quoted fields end the lines as well
+            Assert.assertEquals(RecordIndex.create(path, fileChannel, false, 10, 1).getRecordCount(), 2000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(description = "Locates records through the record index")
+    public void locateIndexedRecords() throws IOException {
+        Path path = Paths.get(currentDirectoryPath + "indexedRecords.csv");
+        StringBuilder content = new StringBuilder();
+        List<Long> positions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            positions.add((long) content.toString().getBytes(StandardCharsets.UTF_8).length);
+            content.append(i).append(",\"multi\nline ").append(i).append("\"\n");
+        }
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel fileChannel = FileChannel.open(path)) {
+            RecordIndex index = RecordIndex.create(path, fileChannel, true, 100, 4);
+            Assert.assertTrue(Files.exists(RecordIndex.getIndexPath(path, true)));
+            Assert.assertEquals(index.getRecordCount(), 5000);
+            for (int record : new int[]{0, 1, 99, 100, 101, 2345, 4999}) {
+                Assert.assertEquals(index.getPosition(fileChannel, record), (long) positions.get(record));
+            }
+            Assert.assertEquals(index.getPosition(fileChannel, 5000), fileChannel.size());
+
+            RecordIndex lineIndex = RecordIndex.open(path, fileChannel, false, 1);
+            Assert.assertEquals(lineIndex.getRecordCount(), 10000);
+            Assert.assertEquals(lineIndex.getPosition(fileChannel, 4), (long) positions.get(2));
+        }
+
+        //Only the appended records are indexed when the file grows
+        Files.write(path, "5000,\"last\"".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        try (FileChannel fileChannel = FileChannel.open(path)) {
+            RecordIndex index = RecordIndex.open(path, fileChannel, true, 1);
+            Assert.assertEquals(index.getRecordCount(), 5001);
+            Assert.assertEquals(index.getPosition(fileChannel, 4999), (long) positions.get(4999));
+            Assert.assertEquals(index.getPosition(fileChannel, 5000), content.length());
+        }
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.io.util;
+
+import io.ballerina.stdlib.io.utils.Base64EncodingInputStream;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * The unit test of the Base64EncodingInputStream class.
+ */
+public class Base64EncodingInputStreamTest {
+
+    private static final int CHUNK_SIZE = 57 * 144;
+
+    @DataProvider(name = "contentLengths")
+    public Object[][] contentLengths() {
+        return new Object[][]{{0}, {1}, {2}, {57}, {CHUNK_SIZE}, {CHUNK_SIZE + 1}, {3 * CHUNK_SIZE + 5}};
+    }
+
+    @Test(description = "Test encoding content in chunks", dataProvider = "contentLengths")
+    public void encodeInChunks(int length) throws IOException {
+        byte[] content = createContent(length);
+        InputStream encoded = new Base64EncodingInputStream(new ByteArrayInputStream(content), false);
+        Assert.assertEquals(readInParts(encoded, 1000), Base64.getEncoder().encode(content));
+    }
+
+    @Test(description = "Test encoding content in chunks through the MIME variant", dataProvider = "contentLengths")
+    public void encodeMimeInChunks(int length) throws IOException {
+        byte[] content = createContent(length);
+        InputStream encoded = new Base64EncodingInputStream(new ByteArrayInputStream(content), true);
+        Assert.assertEquals(readInParts(encoded, 333), Base64.getMimeEncoder().encode(content));
+    }
+
+    @Test(description = "Test reading the encoded content byte by byte")
+    public void readBytes() throws IOException {
+        byte[] content = createContent(CHUNK_SIZE + 10);
+        InputStream encoded = new Base64EncodingInputStream(new ByteArrayInputStream(content), true);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int value; (value = encoded.read()) != -1; ) {
+            output.write(value);
+        }
+        Assert.assertEquals(output.toByteArray(), Base64.getMimeEncoder().encode(content));
+        Assert.assertEquals(Base64.getMimeDecoder().wrap(new ByteArrayInputStream(output.toByteArray()))
+                .readAllBytes(), content);
+    }
+
+    private static byte[] readInParts(InputStream inputStream, int partSize) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] part = new byte[partSize];
+        for (int read; (read = inputStream.read(part, 0, partSize)) != -1; ) {
+            output.write(part, 0, read);
+        }
+        inputStream.close();
+        return output.toByteArray();
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+}